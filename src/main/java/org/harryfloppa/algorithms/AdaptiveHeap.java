@@ -0,0 +1,292 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * Min-heap facade that picks its representation from the workload it observes
+ * <p>
+ * Representations:
+ * - SORTED_ARRAY: {@link SortedArrayHeap}, for tiny heaps: no index, no resizes,
+ *   decreaseKey by linear scan
+ * - INDEXED: {@link MinHeap}, for decreaseKey-heavy use such as graph searches
+ * - LEAN: {@link LeanMinHeap}, for large insert/extract mixes
+ * - BOTTOM_UP: unindexed {@link BottomUpMinHeap}, for draining large heaps (about
+ *   half the comparisons per extract)
+ * <p>
+ * Every WINDOW operations, at a safe point between two calls, the window's insert,
+ * extract and decreaseKey counts are read from the PerformanceTracker and a
+ * representation is chosen:
+ * - size at most SORTED_ENTER (below SORTED_MAX if already sorted): SORTED_ARRAY
+ * - a decreaseKey in this or the previous window: INDEXED
+ * - at least 4 extracts per insert and size at least DRAIN_MIN_SIZE: BOTTOM_UP
+ * - otherwise LEAN
+ * The heap only migrates when two windows in a row agree, so one odd window does not
+ * cause a migration. Two cases migrate at once: an insert into a full sorted array,
+ * and a decreaseKey on an unindexed representation.
+ * <p>
+ * A migration hands the array over: array heaps adopt it after one comparison per
+ * element (an ascending array already is a heap), INDEXED also rebuilds the index,
+ * and only the switch to SORTED_ARRAY sorts, at most SORTED_MAX elements. Counts
+ * added to the tracker by a migration are left out of the next decision.
+ */
+public class AdaptiveHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    public enum Representation {
+        SORTED_ARRAY, INDEXED, LEAN, BOTTOM_UP
+    }
+
+    public static final int SORTED_MAX = 64;
+    public static final int SORTED_ENTER = 16;
+    public static final int WINDOW = 1024;
+    public static final int DRAIN_MIN_SIZE = 1 << 12;
+
+    private final PerformanceTracker metrics;
+    private IHeap<T> delegate;
+    private Representation representation = Representation.SORTED_ARRAY;
+    private Representation pending;
+    private int migrations = 0;
+
+    // Sampling state: operations in the current window and the tracker's counts at its start
+    private int operations = 0;
+    private long baseInserts;
+    private long baseExtractions;
+    private long baseDecreaseKeys;
+    private boolean decreasedLastWindow = false;
+
+    public AdaptiveHeap(PerformanceTracker metrics) {
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+        this.delegate = new SortedArrayHeap<>(this.metrics, SORTED_MAX);
+        rebase();
+    }
+
+    public AdaptiveHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== core operations =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+        if (representation == Representation.SORTED_ARRAY && delegate.size() == SORTED_MAX) {
+            migrate(largeRepresentation());
+        }
+        delegate.insert(element);
+        tick();
+        return this;
+    }
+
+    @Override
+    public T extractRoot() {
+        T result = delegate.extractRoot();
+        tick();
+        return result;
+    }
+
+    @Override
+    public T peekRoot() {
+        return delegate.peekRoot();
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Empty the current representation in place; the next windows decide whether it
+     * still fits.
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        if (representation == Representation.LEAN || representation == Representation.BOTTOM_UP) {
+            migrate(Representation.INDEXED);
+        }
+        delegate.decreaseKey(oldValue, newValue);
+        tick();
+    }
+
+    /**
+     * Insert a copy of the other heap's elements; the other heap is unchanged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+        Object[] elements = other.stream().toArray();
+        if (representation == Representation.SORTED_ARRAY && size() + elements.length > SORTED_MAX) {
+            migrate(largeRepresentation());
+        }
+        if (delegate instanceof Heap<T> heap) {
+            T[] batch = (T[]) new Comparable[elements.length];
+            System.arraycopy(elements, 0, batch, 0, elements.length);
+            heap.addAll(batch);
+        } else {
+            for (Object element : elements) {
+                delegate.insert((T) element);
+            }
+        }
+    }
+
+    @Override
+    public void sort() {
+        delegate.sort();
+    }
+
+    // ===== adaptation =====
+
+    private void tick() {
+        if (++operations >= WINDOW) {
+            adapt();
+        }
+    }
+
+    private void adapt() {
+        long inserts = metrics.inserts - baseInserts;
+        long extractions = metrics.extractions - baseExtractions;
+        boolean decreased = metrics.decreaseKeys > baseDecreaseKeys;
+        boolean decreasing = decreased || decreasedLastWindow;
+        decreasedLastWindow = decreased;
+        rebase();
+
+        Representation target = choose(decreasing, inserts, extractions);
+        if (target == representation) {
+            pending = null;
+        } else if (target == pending) {
+            migrate(target);
+        } else {
+            pending = target;
+        }
+    }
+
+    private Representation choose(boolean decreasing, long inserts, long extractions) {
+        int n = size();
+        if (n <= SORTED_ENTER || (representation == Representation.SORTED_ARRAY && n < SORTED_MAX)) {
+            return Representation.SORTED_ARRAY;
+        }
+        if (decreasing) {
+            return Representation.INDEXED;
+        }
+        if (n >= DRAIN_MIN_SIZE && extractions >= 4 * inserts) {
+            return Representation.BOTTOM_UP;
+        }
+        return Representation.LEAN;
+    }
+
+    /**
+     * Where an overflowing sorted array goes.
+     */
+    private Representation largeRepresentation() {
+        return decreasedLastWindow || metrics.decreaseKeys > baseDecreaseKeys
+                ? Representation.INDEXED : Representation.LEAN;
+    }
+
+    private void migrate(Representation target) {
+        long inserts = metrics.inserts;
+        long extractions = metrics.extractions;
+        long decreaseKeys = metrics.decreaseKeys;
+
+        int n = delegate.size();
+        T[] elements = delegate instanceof SortedArrayHeap<T> sorted ? sorted.items : ((Heap<T>) delegate).heap;
+        if (target == Representation.SORTED_ARRAY) {
+            SortedArrayHeap<T> sorted = new SortedArrayHeap<>(metrics, SORTED_MAX);
+            Arrays.sort(elements, 0, n);
+            System.arraycopy(elements, 0, sorted.items, 0, n);
+            sorted.size = n;
+            metrics.allocations++;
+            metrics.arrayAccesses += n;
+            delegate = sorted;
+        } else {
+            Heap<T> heap = create(target);
+            heap.restore(elements, n);
+            delegate = heap;
+        }
+        representation = target;
+        pending = null;
+        migrations++;
+
+        baseInserts += metrics.inserts - inserts;
+        baseExtractions += metrics.extractions - extractions;
+        baseDecreaseKeys += metrics.decreaseKeys - decreaseKeys;
+    }
+
+    private Heap<T> create(Representation target) {
+        switch (target) {
+            case INDEXED:
+                return new MinHeap<>(metrics);
+            case LEAN:
+                return new LeanMinHeap<>(metrics);
+            default:
+                return BottomUpMinHeap.unindexed(metrics);
+        }
+    }
+
+    private void rebase() {
+        operations = 0;
+        baseInserts = metrics.inserts;
+        baseExtractions = metrics.extractions;
+        baseDecreaseKeys = metrics.decreaseKeys;
+    }
+
+    // ===== iteration =====
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return delegate.spliterator();
+    }
+
+    @Override
+    public Stream<T> streamSorted() {
+        return delegate.streamSorted();
+    }
+
+    // utils
+
+    public Representation getRepresentation() {
+        return representation;
+    }
+
+    /**
+     * Number of representation changes so far.
+     */
+    public int getMigrations() {
+        return migrations;
+    }
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+        rebase();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + representation + ", size=" + size() + "]";
+    }
+}
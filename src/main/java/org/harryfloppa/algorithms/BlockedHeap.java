@@ -0,0 +1,448 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Min-Heap with a blocked (B-heap / van Emde Boas style) memory layout
+ * <p>
+ * The tree is cut into subtrees of {@code h} levels and every subtree is stored
+ * contiguously in one block of {@code 2^h} slots (slot 0 of each block is unused, so
+ * index math is shifts and masks). With the default h = 10 a block holds 1023
+ * references, i.e. one 4 KiB page with compressed oops, so a sift crosses a page
+ * (and a TLB entry) only every 10 levels instead of on every level below ~10.
+ * <p>
+ * Inside block b the subtree is in BFS order with local index l in [1, 2^h):
+ * - children of an inner node l: (b, 2l), (b, 2l+1)
+ * - a leaf l (l >= 2^(h-1)) has child blocks b*2^h + 1 + (2l - 2^h) and the next one,
+ *   whose roots sit at local index 1
+ * Blocks are filled one after another, each completely before the next, so the
+ * element with sequence number i lives in block i / (2^h - 1) and the last element is
+ * always a leaf. Height is at most log2(n) + h.
+ * <p>
+ * Only the reference array is blocked; the elements themselves live wherever the
+ * allocator placed them. The decreaseKey index is built on first use, so plain
+ * insert/extract workloads pay nothing for it.
+ */
+public class BlockedHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    public static final int DEFAULT_LEVELS_PER_BLOCK = 10;
+
+    private final int levels;
+    private final int stride;      // slots per block, 2^levels
+    private final int mask;        // stride - 1
+    private final int perBlock;    // elements per block, stride - 1
+    private final int firstLeaf;   // local index of the first leaf, 2^(levels-1)
+
+    private T[] heap;
+    private int size = 0;
+    private HashMap<T, Integer> elementIndexMap;
+    private final PerformanceTracker metrics;
+
+    @SuppressWarnings("unchecked")
+    public BlockedHeap(PerformanceTracker metrics, int levelsPerBlock) {
+        if (levelsPerBlock < 1 || levelsPerBlock > 20) {
+            throw new IllegalArgumentException("Levels per block must be between 1 and 20");
+        }
+        this.levels = levelsPerBlock;
+        this.stride = 1 << levelsPerBlock;
+        this.mask = stride - 1;
+        this.perBlock = stride - 1;
+        this.firstLeaf = stride >> 1;
+        this.heap = (T[]) new Comparable[stride];
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+    }
+
+    public BlockedHeap(PerformanceTracker metrics) {
+        this(metrics, DEFAULT_LEVELS_PER_BLOCK);
+    }
+
+    public BlockedHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== layout =====
+
+    /**
+     * Physical slot of the element with sequence number i.
+     */
+    private int slotOf(int i) {
+        int block = i / perBlock;
+        return (block << levels) + (i - block * perBlock) + 1;
+    }
+
+    private int sequenceOf(int slot) {
+        return (slot >>> levels) * perBlock + (slot & mask) - 1;
+    }
+
+    private int parent(int slot) {
+        int local = slot & mask;
+        int block = slot >>> levels;
+        if (local > 1) {
+            return (block << levels) + (local >> 1);
+        }
+        if (block == 0) return -1;
+        int parentBlock = (block - 1) >>> levels;
+        int childNumber = (block - 1) & mask;
+        return (parentBlock << levels) + ((stride + childNumber) >> 1);
+    }
+
+    // ===== core operations =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+
+        int slot = slotOf(size);
+        if (slot >= heap.length) {
+            resize(2 * heap.length);
+        }
+
+        metrics.inserts++;
+        size++;
+        fixUpward(slot, element);
+        return this;
+    }
+
+    @Override
+    public T extractRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        metrics.extractions++;
+        metrics.arrayAccesses++;
+        T result = heap[1];
+        if (elementIndexMap != null) {
+            elementIndexMap.remove(result);
+        }
+
+        int lastSlot = slotOf(--size);
+        T last = heap[lastSlot];
+        heap[lastSlot] = null;
+        metrics.arrayAccesses += 2;
+
+        if (size > 0) {
+            fixDownward(1, last);
+        }
+        return result;
+    }
+
+    @Override
+    public T peekRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        metrics.arrayAccesses++;
+        return heap[1];
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        int end = size == 0 ? 0 : slotOf(size - 1) + 1;
+        Arrays.fill(heap, 0, end, null);
+        metrics.arrayAccesses += size;
+        size = 0;
+        if (elementIndexMap != null) {
+            elementIndexMap.clear();
+        }
+    }
+
+    /**
+     * Move the hole at {@code slot} up until {@code element} fits, then place it.
+     */
+    private void fixUpward(int slot, T element) {
+        while (true) {
+            int parentSlot = parent(slot);
+            if (parentSlot < 0) break;
+
+            T parentElement = heap[parentSlot];
+            metrics.arrayAccesses++;
+            metrics.comparisons++;
+            if (element.compareTo(parentElement) >= 0) break;
+
+            place(slot, parentElement);
+            metrics.swaps++;
+            slot = parentSlot;
+        }
+        place(slot, element);
+    }
+
+    /**
+     * Move the hole at {@code slot} down until {@code element} fits, then place it.
+     */
+    private void fixDownward(int slot, T element) {
+        int lastSequence = size - 1;
+        while (true) {
+            int local = slot & mask;
+            int left;
+            boolean hasRight;
+
+            if (local < firstLeaf) {
+                // Inner node: children (b, 2l) and (b, 2l+1)
+                left = slot + local;
+                if (sequenceOf(left) > lastSequence) break;
+                hasRight = sequenceOf(left + 1) <= lastSequence;
+            } else {
+                // Block leaf: children are the roots of two child blocks. Check existence
+                // via the blocks' first sequence numbers before computing slots.
+                int childBlock = (slot & ~mask) + 1 + (2 * local - stride);
+                if ((long) childBlock * perBlock > lastSequence) break;
+                left = (childBlock << levels) + 1;
+                hasRight = (long) (childBlock + 1) * perBlock <= lastSequence;
+            }
+            int right = (left & mask) == 1 ? left + stride : left + 1;
+
+            int smallest = left;
+            if (hasRight) {
+                metrics.arrayAccesses += 2;
+                metrics.comparisons++;
+                if (heap[right].compareTo(heap[left]) < 0) {
+                    smallest = right;
+                }
+            }
+
+            metrics.arrayAccesses++;
+            metrics.comparisons++;
+            if (element.compareTo(heap[smallest]) <= 0) break;
+
+            place(slot, heap[smallest]);
+            metrics.swaps++;
+            slot = smallest;
+        }
+        place(slot, element);
+    }
+
+    private void place(int slot, T element) {
+        heap[slot] = element;
+        metrics.arrayAccesses++;
+        if (elementIndexMap != null) {
+            elementIndexMap.put(element, slot);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        metrics.allocations++;
+        metrics.resizes++;
+        T[] newHeap = (T[]) new Comparable[capacity];
+        System.arraycopy(heap, 0, newHeap, 0, heap.length);
+        heap = newHeap;
+        metrics.arrayAccesses += heap.length;
+    }
+
+    // ===== decreaseKey / merge / sort =====
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        if (oldValue == null || newValue == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+
+        if (elementIndexMap == null) {
+            buildIndex();
+        }
+
+        Integer slot = elementIndexMap.get(oldValue);
+        if (slot == null) {
+            throw new IllegalArgumentException("Element not found in heap");
+        }
+
+        metrics.decreaseKeys++;
+        metrics.comparisons++;
+        if (newValue.compareTo(oldValue) > 0) {
+            throw new IllegalArgumentException("Invalid decrease key operation");
+        }
+
+        elementIndexMap.remove(oldValue);
+        fixUpward(slot, newValue);
+    }
+
+    private void buildIndex() {
+        elementIndexMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(i);
+            elementIndexMap.put(heap[slot], slot);
+        }
+        metrics.arrayAccesses += size;
+    }
+
+    @Override
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+
+        if (other instanceof BlockedHeap<T> blocked) {
+            for (int i = 0; i < blocked.size; i++) {
+                append(blocked.heap[blocked.slotOf(i)]);
+            }
+        } else if (other instanceof Heap<T> array) {
+            for (int i = 0; i <= array.position; i++) {
+                append(array.heap[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Can only merge with array-backed heaps");
+        }
+        metrics.arrayAccesses += other.size();
+
+        // Floyd's buildHeap over the blocked layout
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = slotOf(i);
+            fixDownward(slot, heap[slot]);
+        }
+    }
+
+    private void append(T element) {
+        int slot = slotOf(size);
+        if (slot >= heap.length) {
+            resize(2 * heap.length);
+        }
+        heap[slot] = element;
+        size++;
+        if (elementIndexMap != null) {
+            elementIndexMap.put(element, slot);
+        }
+    }
+
+    @Override
+    public void sort() {
+        BlockedHeap<T> copy = new BlockedHeap<>(new PerformanceTracker(), levels);
+        copy.heap = heap.clone();
+        copy.size = size;
+
+        System.out.println("Sorted array:");
+        while (!copy.isEmpty()) {
+            System.out.println(copy.extractRoot());
+        }
+    }
+
+    // ===== iteration =====
+
+    /**
+     * Elements in sequence order; splits by sequence range, so it stays SIZED and
+     * SUBSIZED despite the unused slot at the start of every block.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SequenceSpliterator(0, size);
+    }
+
+    /**
+     * Lazy extraction-order traversal; see {@link FrontierSpliterator}.
+     */
+    @Override
+    public Stream<T> streamSorted() {
+        T[] array = heap;
+        int last = size - 1;
+        return StreamSupport.stream(new FrontierSpliterator<>(slot -> array[slot], (slot, which) -> {
+            int local = slot & mask;
+            if (local < firstLeaf) {
+                int child = slot + local + which;
+                return sequenceOf(child) <= last ? child : -1;
+            }
+            long childBlock = (slot & ~mask) + 1L + (2 * local - stride) + which;
+            return childBlock * perBlock <= last ? (int) (childBlock << levels) + 1 : -1;
+        }, 1, size, Comparator.<T>naturalOrder()), false);
+    }
+
+    private final class SequenceSpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+
+        SequenceSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(heap[slotOf(index++)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] array = heap;
+            for (int i = index; i < fence; i++) {
+                action.accept(array[slotOf(i)]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new SequenceSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    // utils
+
+    public int getLevelsPerBlock() {
+        return levels;
+    }
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return getClass().getSimpleName() + "[]";
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(heap[slotOf(i)]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
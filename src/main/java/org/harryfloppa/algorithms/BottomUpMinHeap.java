@@ -0,0 +1,106 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.HeapSiftEvent;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * MinHeap with bottom-up (Wegener) sift-down
+ * <p>
+ * The element sifted down after extractRoot comes from the last leaf and almost
+ * always sinks back to the bottom level, so testing it against the smaller child at
+ * every level wastes a comparison per level. Bottom-up sifting instead:
+ * - follows the smaller-child path from the hole to a leaf (one comparison per level)
+ * - climbs back up that path until the element fits (usually one or two comparisons)
+ * - shifts the path above that slot up by one and writes the element once
+ * About log n + O(1) comparisons per sift instead of 2 log n; it pays off when
+ * comparisons are expensive. It also serves remove and the bulk builds, which sift
+ * down as well. Sift-up is MinHeap's.
+ */
+public class BottomUpMinHeap<T extends Comparable<T>> extends MinHeap<T> {
+
+    public BottomUpMinHeap(PerformanceTracker metrics) {
+        super(metrics);
+    }
+
+    public BottomUpMinHeap() {
+        super();
+    }
+
+    public BottomUpMinHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor) {
+        super(metrics, initialCapacity, growthFactor);
+    }
+
+    protected BottomUpMinHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor, boolean indexed) {
+        super(metrics, initialCapacity, growthFactor, indexed);
+    }
+
+    /**
+     * Bottom-up heap without the element index, like {@link LeanMinHeap}: decreaseKey
+     * and remove throw UnsupportedOperationException.
+     */
+    public static <T extends Comparable<T>> BottomUpMinHeap<T> unindexed(PerformanceTracker metrics,
+                                                                        int initialCapacity) {
+        return new BottomUpMinHeap<>(metrics, initialCapacity, DEFAULT_GROWTH_FACTOR, false);
+    }
+
+    public static <T extends Comparable<T>> BottomUpMinHeap<T> unindexed(PerformanceTracker metrics) {
+        return unindexed(metrics, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    @Override
+    protected void fixDownward(int index, int endIndex) {
+        if (endIndex == -1) return;
+
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        // 1. Descend along the smaller children to a leaf
+        int leaf = index;
+        while (true) {
+            int leftChildIndex = leaf * 2 + 1;
+            int rightChildIndex = leaf * 2 + 2;
+
+            if (leftChildIndex > endIndex) break;
+
+            int smallestIndex = leftChildIndex;
+            if (rightChildIndex <= endIndex) {
+                metrics.arrayAccesses += 2;
+                metrics.comparisons++;
+
+                if (heap[rightChildIndex].compareTo(heap[leftChildIndex]) < 0) {
+                    smallestIndex = rightChildIndex;
+                }
+            }
+            leaf = smallestIndex;
+        }
+
+        // 2. Climb back until the element is not smaller than the path entry
+        T element = heap[index];
+        metrics.arrayAccesses++;
+        int target = leaf;
+        while (target > index) {
+            metrics.arrayAccesses++;
+            metrics.comparisons++;
+
+            if (element.compareTo(heap[target]) >= 0) break;
+            target = (target - 1) / 2;
+        }
+
+        // 3. Put the element at target and shift the path above it up by one
+        T carried = element;
+        while (target > index) {
+            T displaced = heap[target];
+            metrics.arrayAccesses++;
+            place(target, carried);
+            metrics.swaps++;
+            carried = displaced;
+            target = (target - 1) / 2;
+        }
+        if (carried != element) {
+            place(index, carried);
+        }
+
+        commitSift(event, "down", swapsBefore);
+    }
+}
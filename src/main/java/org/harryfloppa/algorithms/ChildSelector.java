@@ -0,0 +1,50 @@
+package org.harryfloppa.algorithms;
+
+/**
+ * Finds the smallest key among the children of a d-ary heap node
+ * <p>
+ * The children of a node occupy one contiguous run of the key array, so wide heaps
+ * can compare them with SIMD instructions instead of a scalar loop. Two strategies:
+ * - {@link #scalar()}: plain loop, always available
+ * - {@link #vectorized()}: lane-wise min reduction with the incubating Vector API
+ *   (jdk.incubator.vector). Needs the JVM to be started with
+ *   --add-modules jdk.incubator.vector; the Maven build passes it to javac and the
+ *   test JVM, the JMH benchmarks pass it to their forks.
+ * {@link #best()} picks the vectorized selector when the module is present and falls
+ * back to the scalar one otherwise.
+ */
+public interface ChildSelector {
+
+    /**
+     * Index of the first smallest key in keys[from..to), which must not be empty.
+     */
+    int minInt(int[] keys, int from, int to);
+
+    /**
+     * Index of the first smallest key in keys[from..to), which must not be empty.
+     */
+    int minLong(long[] keys, int from, int to);
+
+    static ChildSelector scalar() {
+        return ChildSelectors.SCALAR;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if jdk.incubator.vector is not available
+     */
+    static ChildSelector vectorized() {
+        if (ChildSelectors.VECTOR == null) {
+            throw new UnsupportedOperationException(
+                    "Vector API unavailable, start the JVM with --add-modules jdk.incubator.vector");
+        }
+        return ChildSelectors.VECTOR;
+    }
+
+    static ChildSelector best() {
+        return ChildSelectors.VECTOR != null ? ChildSelectors.VECTOR : ChildSelectors.SCALAR;
+    }
+
+    static boolean isVectorAvailable() {
+        return ChildSelectors.VECTOR != null;
+    }
+}
@@ -0,0 +1,26 @@
+package org.harryfloppa.algorithms;
+
+/**
+ * The {@link ChildSelector} instances. The vectorized one is loaded reflectively so
+ * that nothing links against jdk.incubator.vector unless the module is present.
+ */
+final class ChildSelectors {
+
+    static final ChildSelector SCALAR = new ScalarChildSelector();
+    static final ChildSelector VECTOR = loadVectorSelector();
+
+    private ChildSelectors() {
+    }
+
+    private static ChildSelector loadVectorSelector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (ChildSelector) Class.forName("org.harryfloppa.algorithms.VectorChildSelector")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
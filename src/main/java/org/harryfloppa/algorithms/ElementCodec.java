@@ -0,0 +1,54 @@
+package org.harryfloppa.algorithms;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of heap elements for {@link HeapSnapshot}
+ * <p>
+ * Fixed-size codecs (fixedSize() > 0) write exactly that many bytes per element and
+ * need no framing. Variable-size codecs return 0 from fixedSize(); each element is
+ * then prefixed with its length, taken from encodedSize().
+ * <p>
+ * encode() writes at the buffer's position and decode() reads from it; both must
+ * move the position by exactly the element's encoded size. Buffers are big-endian.
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Bytes per element, or 0 if the size varies.
+     */
+    int fixedSize();
+
+    /**
+     * Encoded size of element; only called when fixedSize() is 0.
+     */
+    default int encodedSize(T element) {
+        return fixedSize();
+    }
+
+    void encode(T element, ByteBuffer out);
+
+    /**
+     * Decode one element of length bytes.
+     */
+    T decode(ByteBuffer in, int length);
+
+    static ElementCodec<Integer> integers() {
+        return ElementCodecs.INTEGERS;
+    }
+
+    static ElementCodec<Long> longs() {
+        return ElementCodecs.LONGS;
+    }
+
+    static ElementCodec<Double> doubles() {
+        return ElementCodecs.DOUBLES;
+    }
+
+    /**
+     * UTF-8 strings.
+     */
+    static ElementCodec<String> strings() {
+        return ElementCodecs.STRINGS;
+    }
+}
@@ -0,0 +1,113 @@
+package org.harryfloppa.algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Built-in {@link ElementCodec}s.
+ */
+final class ElementCodecs {
+
+    private ElementCodecs() {
+    }
+
+    static final ElementCodec<Integer> INTEGERS = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer out) {
+            out.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer in, int length) {
+            return in.getInt();
+        }
+    };
+
+    static final ElementCodec<Long> LONGS = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer out) {
+            out.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer in, int length) {
+            return in.getLong();
+        }
+    };
+
+    static final ElementCodec<Double> DOUBLES = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer out) {
+            out.putDouble(element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer in, int length) {
+            return in.getDouble();
+        }
+    };
+
+    static final ElementCodec<String> STRINGS = new ElementCodec<>() {
+        @Override
+        public int fixedSize() {
+            return 0;
+        }
+
+        @Override
+        public int encodedSize(String element) {
+            return utf8Length(element);
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer out) {
+            out.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer in, int length) {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Length of s in UTF-8 without encoding it; unpaired surrogates count as the
+     * single '?' the encoder replaces them with.
+     */
+    static int utf8Length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
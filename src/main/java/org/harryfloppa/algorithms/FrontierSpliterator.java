@@ -0,0 +1,135 @@
+package org.harryfloppa.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+
+/**
+ * Elements of an array heap in priority order, without modifying the heap
+ * <p>
+ * The next element is always the best slot of the frontier: the slots whose parent
+ * has already been yielded, starting with the root. The frontier is an auxiliary
+ * binary heap of slot numbers (with their elements alongside, so the heap array is
+ * read once per slot). Each element costs O(log k) comparisons, where k is the
+ * frontier size, at most one more than the number yielded so far. Taking the first k
+ * elements therefore costs O(k log k) whatever the heap size, and nothing is copied
+ * up front.
+ * <p>
+ * The heap must not be modified while the traversal is in progress.
+ */
+final class FrontierSpliterator<T> implements Spliterator<T> {
+
+    private final IntFunction<T> element;
+    private final IntBinaryOperator child;
+    private final Comparator<? super T> order;
+    private int[] slots = new int[16];
+    private Object[] keys = new Object[16];
+    private int count;
+    private long remaining;
+
+    /**
+     * @param element Element at a slot
+     * @param child   Slot of child 0 or 1 of a slot, or -1 if it does not exist
+     * @param root    Slot of the root, read only if size > 0
+     * @param size    Number of elements in the heap
+     * @param order   Priority order of the heap (best first)
+     */
+    FrontierSpliterator(IntFunction<T> element, IntBinaryOperator child, int root, int size,
+                        Comparator<? super T> order) {
+        this.element = element;
+        this.child = child;
+        this.order = order;
+        this.remaining = size;
+        if (size > 0) {
+            slots[0] = root;
+            keys[0] = element.apply(root);
+            count = 1;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (count == 0) {
+            return false;
+        }
+        int slot = slots[0];
+        T result = (T) keys[0];
+
+        // The first child takes the yielded slot's place; the second one is pushed
+        int first = child.applyAsInt(slot, 0);
+        if (first >= 0) {
+            siftDown(first, element.apply(first));
+        } else if (--count > 0) {
+            int last = slots[count];
+            T lastKey = (T) keys[count];
+            keys[count] = null;
+            siftDown(last, lastKey);
+        } else {
+            keys[0] = null;
+        }
+        int second = child.applyAsInt(slot, 1);
+        if (second >= 0) {
+            push(second, element.apply(second));
+        }
+
+        remaining--;
+        action.accept(result);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDown(int slot, T key) {
+        int hole = 0;
+        while (true) {
+            int c = 2 * hole + 1;
+            if (c >= count) break;
+            if (c + 1 < count && order.compare((T) keys[c + 1], (T) keys[c]) < 0) c++;
+            if (order.compare((T) keys[c], key) >= 0) break;
+            slots[hole] = slots[c];
+            keys[hole] = keys[c];
+            hole = c;
+        }
+        slots[hole] = slot;
+        keys[hole] = key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void push(int slot, T key) {
+        if (count == slots.length) {
+            slots = Arrays.copyOf(slots, 2 * count);
+            keys = Arrays.copyOf(keys, 2 * count);
+        }
+        int hole = count++;
+        while (hole > 0) {
+            int parent = (hole - 1) / 2;
+            if (order.compare(key, (T) keys[parent]) >= 0) break;
+            slots[hole] = slots[parent];
+            keys[hole] = keys[parent];
+            hole = parent;
+        }
+        slots[hole] = slot;
+        keys[hole] = key;
+    }
+
+    /**
+     * Priority order cannot be split without doing the work of the prefix.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | NONNULL;
+    }
+}
@@ -1,24 +1,65 @@
 package org.harryfloppa.algorithms;
 
+import org.harryfloppa.metrics.HeapResizeEvent;
+import org.harryfloppa.metrics.HeapSiftEvent;
 import org.harryfloppa.metrics.PerformanceTracker;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Abstract base class for Heap implementation
+ * <p>
+ * Storage options, fixed at construction:
+ * - indexed: keep an element -> slot map so decreaseKey and remove run in O(log n).
+ *   Every insert, swap and extract updates it, which costs a map entry per element
+ *   and a hash lookup per move; unindexed (lean) heaps skip it and reject
+ *   decreaseKey/remove with UnsupportedOperationException
+ * - initialCapacity / growthFactor: first array size and the factor it grows by
+ * - the array (and the index) shrinks to half once it is at most a quarter full,
+ *   never below the initial capacity, so a drained heap gives its memory back;
+ *   pre-size a heap to keep its array
  */
 public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
+    /** Heaps at least this large are built with {@link ParallelHeapBuilder} */
+    public static final int PARALLEL_BUILD_THRESHOLD = 1 << 17;
+    public static final int DEFAULT_INITIAL_CAPACITY = 2;
+    public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    /** Elements shown by toString() */
+    public static final int TO_STRING_LIMIT = 64;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
     protected T[] heap;
     protected int position = -1;
-    protected final HashMap<T, Integer> elementIndexMap;
+    /** Null for unindexed heaps */
+    protected HashMap<T, Integer> elementIndexMap;
     protected final PerformanceTracker metrics;
+    private final int initialCapacity;
+    private final double growthFactor;
 
     @SuppressWarnings("unchecked")
-    public Heap(PerformanceTracker metrics) {
-        this.heap = (T[]) new Comparable[2];
-        this.elementIndexMap = new HashMap<>();
+    protected Heap(PerformanceTracker metrics, int initialCapacity, double growthFactor, boolean indexed) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity out of range: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + growthFactor);
+        }
+        this.heap = (T[]) new Comparable[initialCapacity];
+        this.elementIndexMap = indexed ? new HashMap<>() : null;
         this.metrics = metrics != null ? metrics : new PerformanceTracker();
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+    }
+
+    public Heap(PerformanceTracker metrics) {
+        this(metrics, DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR, true);
     }
 
     public Heap() {
@@ -36,17 +77,44 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         return position + 1;
     }
 
+    /**
+     * Null out the used slots and empty the index; the array keeps its length and the
+     * index map its table.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(heap, 0, position + 1, null);
+        metrics.arrayAccesses += position + 1;
+        position = -1;
+        if (elementIndexMap != null) {
+            elementIndexMap.clear();
+        }
+    }
+
     protected boolean isFull() {
         return position == heap.length - 1;
     }
 
     @SuppressWarnings("unchecked")
     protected void resize(int capacity) {
+        HeapResizeEvent event = new HeapResizeEvent();
+        event.begin();
+
         metrics.allocations++;
+        metrics.resizes++;
+        int oldCapacity = heap.length;
         T[] newHeap = (T[]) new Comparable[capacity];
         System.arraycopy(heap, 0, newHeap, 0, position + 1);
         heap = newHeap;
         metrics.arrayAccesses += (position + 1);
+
+        if (event.shouldCommit()) {
+            event.heapType = getClass().getSimpleName();
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = capacity;
+            event.size = size();
+            event.commit();
+        }
     }
     protected void swap(int i, int j) {
         if (i == j) return;
@@ -60,14 +128,91 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
 
         metrics.arrayAccesses += 2;
 
-        elementIndexMap.put(heap[i], i);
-        elementIndexMap.put(heap[j], j);
+        if (elementIndexMap != null) {
+            elementIndexMap.put(heap[i], i);
+            elementIndexMap.put(heap[j], j);
+        }
+    }
+
+    /**
+     * Write element into slot and record its new slot in the index; the single write
+     * per moved element used by hole-based sifts.
+     */
+    protected void place(int slot, T element) {
+        heap[slot] = element;
+        metrics.arrayAccesses++;
+        index(element, slot);
+    }
+
+    private void index(T element, int slot) {
+        if (elementIndexMap != null) {
+            elementIndexMap.put(element, slot);
+        }
+    }
+
+    private void requireIndex(String operation) {
+        if (elementIndexMap == null) {
+            throw new UnsupportedOperationException(operation + " needs an indexed heap");
+        }
+    }
+
+    public boolean isIndexed() {
+        return elementIndexMap != null;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * Grow the array by the growth factor, or to required if that is larger.
+     */
+    private void grow(int required) {
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("Heap cannot hold " + required + " elements");
+        }
+        long grown = (long) Math.ceil(heap.length * growthFactor);
+        resize((int) Math.max(required, Math.min(MAX_CAPACITY, Math.max(grown, heap.length + 1L))));
+    }
+
+    /**
+     * Halve the array once it is at most a quarter full, down to the initial capacity.
+     * The index is copied into a right-sized map too, since a HashMap never shrinks
+     * its table.
+     */
+    private void shrinkIfSparse() {
+        if (heap.length > initialCapacity && size() <= heap.length / 4) {
+            resize(Math.max(initialCapacity, heap.length / 2));
+            if (elementIndexMap != null) {
+                elementIndexMap = new HashMap<>(elementIndexMap);
+            }
+        }
     }
     protected abstract void fixUpward(int index);
 
     protected abstract void fixDownward(int index, int endIndex);
+
+    /**
+     * Commit a JFR sift event begun by fixUpward/fixDownward, if it is enabled.
+     */
+    protected void commitSift(HeapSiftEvent event, String direction, long swapsBefore) {
+        if (event.shouldCommit()) {
+            event.heapType = getClass().getSimpleName();
+            event.direction = direction;
+            event.levels = (int) (metrics.swaps - swapsBefore);
+            event.size = size();
+            event.commit();
+        }
+    }
+
     protected abstract boolean shouldSwap(T child, T parent);
 
+    /**
+     * Order in which elements rise to the root, used by bulk builds that run
+     * outside the instrumented sift methods.
+     */
+    protected abstract Comparator<T> ordering();
+
 
     @Override
     public IHeap<T> insert(T element) {
@@ -76,14 +221,15 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         }
 
         if (isFull()) {
-            resize(2 * heap.length);
+            grow(heap.length + 1);
         }
 
+        metrics.inserts++;
         metrics.allocations++;
         heap[++position] = element;
         metrics.arrayAccesses++;
 
-        elementIndexMap.put(element, position);
+        index(element, position);
         fixUpward(position);
 
         return this;
@@ -96,14 +242,18 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
             throw new NoSuchElementException("Heap is empty");
         }
 
+        metrics.extractions++;
         metrics.arrayAccesses++;
         T result = heap[0];
-        elementIndexMap.remove(result);
+        if (elementIndexMap != null) {
+            elementIndexMap.remove(result);
+        }
 
         if (position == 0) {
             heap[0] = null;
             position = -1;
             metrics.arrayAccesses++;
+            shrinkIfSparse();
             return result;
         }
 
@@ -113,10 +263,11 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         metrics.arrayAccesses += 3;
 
         if (position >= 0) {
-            elementIndexMap.put(heap[0], 0);
+            index(heap[0], 0);
             fixDownward(0, position);
         }
 
+        shrinkIfSparse();
         return result;
     }
 
@@ -139,12 +290,14 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         if (oldValue == null || newValue == null) {
             throw new IllegalArgumentException("Values cannot be null");
         }
+        requireIndex("decreaseKey");
 
         Integer index = elementIndexMap.get(oldValue);
         if (index == null) {
             throw new IllegalArgumentException("Element not found in heap");
         }
 
+        metrics.decreaseKeys++;
         metrics.comparisons++;
         if (!isValidDecreaseKey(oldValue, newValue)) {
             throw new IllegalArgumentException("Invalid decrease key operation");
@@ -160,6 +313,41 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
 
     protected abstract boolean isValidDecreaseKey(T oldValue, T newValue);
 
+    /**
+     * Remove an arbitrary element in O(log n): the last element takes its slot and is
+     * sifted up or down from there.
+     * @return false if the element is not in the heap
+     */
+    public boolean remove(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot remove null element");
+        }
+        requireIndex("remove");
+
+        Integer index = elementIndexMap.remove(element);
+        if (index == null) {
+            return false;
+        }
+
+        metrics.extractions++;
+        T last = heap[position];
+        heap[position] = null;
+        position--;
+        metrics.arrayAccesses += 2;
+        if (index <= position) {
+            heap[index] = last;
+            elementIndexMap.put(last, index);
+            metrics.arrayAccesses++;
+            if (index > 0 && shouldSwap(last, heap[(index - 1) / 2])) {
+                fixUpward(index);
+            } else {
+                fixDownward(index, position);
+            }
+        }
+        shrinkIfSparse();
+        return true;
+    }
+
     @Override
     public void merge(IHeap<T> other) {
         if (other == null || other.isEmpty()) {
@@ -173,16 +361,21 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         Heap<T> otherHeap = (Heap<T>) other;
         int newSize = this.size() + other.size();
 
-        // Resize if needed
-        while (newSize > heap.length) {
-            resize(2 * heap.length);
+        ensureCapacity(newSize);
+
+        if (newSize >= PARALLEL_BUILD_THRESHOLD) {
+            System.arraycopy(otherHeap.heap, 0, heap, position + 1, otherHeap.size());
+            position += otherHeap.size();
+            metrics.arrayAccesses += 2L * otherHeap.size();
+            buildHeapParallel();
+            return;
         }
 
         for (int i = 0; i <= otherHeap.position; i++) {
             metrics.arrayAccesses++;
             T element = otherHeap.heap[i];
             heap[++position] = element;
-            elementIndexMap.put(element, position);
+            index(element, position);
             metrics.arrayAccesses++;
         }
 
@@ -190,12 +383,313 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         buildHeap();
     }
 
+    /**
+     * Bulk load: append all elements, then restore the heap property once
+     * (in parallel for large heaps) instead of sifting after every insert.
+     */
+    public void addAll(T[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements cannot be null");
+        }
+        insertBatch(elements, 0, elements.length);
+    }
+
+    /**
+     * Insert elements[off..off+len) with one restructuring pass.
+     * <p>
+     * The batch is appended, then only the ancestors of the new slots are sifted down,
+     * level by level from the bottom (Floyd restricted to the affected subtrees). At
+     * each level those ancestors form at most two contiguous ranges, so the pass costs
+     * O(len + log^2 n) sifts instead of len separate sift-ups. A batch at least as
+     * large as the heap gets a full buildHeap instead, done in parallel above
+     * {@link #PARALLEL_BUILD_THRESHOLD}.
+     */
+    public void insertBatch(T[] elements, int off, int len) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements cannot be null");
+        }
+        if (off < 0 || len < 0 || off > elements.length - len) {
+            throw new IllegalArgumentException("Invalid batch range: off=" + off + ", len=" + len);
+        }
+        for (int i = off; i < off + len; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("Cannot insert null element");
+            }
+        }
+        if (len == 0) return;
+
+        int oldSize = size();
+        int newSize = oldSize + len;
+        ensureCapacity(newSize);
+
+        System.arraycopy(elements, off, heap, oldSize, len);
+        position += len;
+        metrics.inserts += len;
+        metrics.arrayAccesses += 2L * len;
+
+        if (len >= oldSize && newSize >= PARALLEL_BUILD_THRESHOLD) {
+            buildHeapParallel();
+            return;
+        }
+
+        if (elementIndexMap != null) {
+            for (int i = oldSize; i <= position; i++) {
+                elementIndexMap.put(heap[i], i);
+            }
+        }
+        if (len >= oldSize) {
+            buildHeap();
+        } else {
+            heapifyAncestors(oldSize);
+        }
+    }
+
+    /**
+     * Restore the heap property after slots [first, size()) were filled with
+     * arbitrary elements, where size() <= 2 * first: sift down every node that has
+     * one of those slots in its subtree, deepest level first.
+     * <p>
+     * The new slots cover the tail of first's level and, if they spill over, the
+     * head of the next level. Their ancestors on any level d are therefore the two
+     * contiguous ranges [anc(first), end of level d] and [start of level d, anc(last)].
+     */
+    private void heapifyAncestors(int first) {
+        int lastInner = (position - 1) / 2;
+        int firstDepth = depth(first);
+        int levelEnd = (2 << firstDepth) - 2;
+        int lastDepth = depth(position);
+
+        for (int d = depth(lastInner); d >= 0; d--) {
+            int levelStart = (1 << d) - 1;
+            int spillHigh = position > levelEnd ? ancestorAt(position, lastDepth, d) : -1;
+            if (d > firstDepth) {
+                heapifyRange(levelStart, Math.min(spillHigh, lastInner));
+                continue;
+            }
+
+            int low = ancestorAt(first, firstDepth, d);
+            int high = Math.min(ancestorAt(Math.min(position, levelEnd), firstDepth, d), lastInner);
+            if (spillHigh >= low - 1) {
+                low = levelStart;
+            } else {
+                heapifyRange(levelStart, Math.min(spillHigh, lastInner));
+            }
+            heapifyRange(low, high);
+        }
+    }
+
+    private void heapifyRange(int low, int high) {
+        for (int i = high; i >= low; i--) {
+            fixDownward(i, position);
+        }
+    }
+
+    private static int depth(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + 1);
+    }
+
+    private static int ancestorAt(int index, int indexDepth, int d) {
+        return ((index + 1) >>> (indexDepth - d)) - 1;
+    }
+
+    /**
+     * Remove the min(k, size()) highest-priority elements into out[0..], in order.
+     * <p>
+     * The k winners are found without touching the heap, by a best-first walk from
+     * the root over a small frontier heap of slot indices (they always form a subtree
+     * containing the root). Their slots are then refilled with the tail elements that
+     * are not among the winners, and only those slots are sifted down, deepest first,
+     * so the array is restructured once instead of k times.
+     *
+     * @return number of elements written to out
+     */
+    public int extractBatch(int k, T[] out) {
+        if (out == null || k < 0 || k > out.length) {
+            throw new IllegalArgumentException("Output array must hold k elements");
+        }
+        int count = Math.min(k, size());
+        if (count == 0) return 0;
+        if (count == 1) {
+            out[0] = extractRoot();
+            return 1;
+        }
+
+        int[] selected = selectTop(count, out);
+        metrics.extractions += count;
+        if (elementIndexMap != null) {
+            for (int i = 0; i < count; i++) {
+                elementIndexMap.remove(out[i]);
+            }
+        }
+
+        int newSize = size() - count;
+        Arrays.sort(selected);
+
+        // Slots at or past newSize that hold winners need no filler; the other tail
+        // slots provide the fillers, consumed from the back
+        int filler = position;
+        int tailWinner = count - 1;
+        for (int h = 0; h < count && selected[h] < newSize; h++) {
+            while (tailWinner >= 0 && selected[tailWinner] == filler) {
+                tailWinner--;
+                filler--;
+            }
+            heap[selected[h]] = heap[filler];
+            index(heap[filler], selected[h]);
+            filler--;
+            metrics.arrayAccesses += 2;
+        }
+
+        for (int i = newSize; i <= position; i++) {
+            heap[i] = null;
+        }
+        position = newSize - 1;
+
+        for (int h = count - 1; h >= 0; h--) {
+            if (selected[h] < newSize) {
+                fixDownward(selected[h], position);
+            }
+        }
+        shrinkIfSparse();
+        return count;
+    }
+
+    /**
+     * Best-first walk from the root collecting the slots of the count top elements;
+     * the elements are written to out in extraction order.
+     */
+    private int[] selectTop(int count, T[] out) {
+        int[] selected = new int[count];
+        int[] frontier = new int[count + 1];
+        int frontierSize = 0;
+        frontier[frontierSize++] = 0;
+
+        for (int taken = 0; taken < count; taken++) {
+            int slot = frontier[0];
+            frontier[0] = frontier[--frontierSize];
+            siftFrontier(frontier, frontierSize);
+
+            selected[taken] = slot;
+            out[taken] = heap[slot];
+            metrics.arrayAccesses++;
+
+            for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child <= position; child++) {
+                frontier[frontierSize] = child;
+                siftFrontierUp(frontier, frontierSize++);
+            }
+        }
+        return selected;
+    }
+
+    private void siftFrontier(int[] frontier, int size) {
+        int i = 0;
+        int slot = frontier[0];
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && shouldSwap(heap[frontier[child + 1]], heap[frontier[child]])) {
+                child++;
+            }
+            if (!shouldSwap(heap[frontier[child]], heap[slot])) break;
+            frontier[i] = frontier[child];
+            i = child;
+        }
+        frontier[i] = slot;
+    }
+
+    private void siftFrontierUp(int[] frontier, int i) {
+        int slot = frontier[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!shouldSwap(heap[slot], heap[frontier[parent]])) break;
+            frontier[i] = frontier[parent];
+            i = parent;
+        }
+        frontier[i] = slot;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > heap.length) {
+            grow(required);
+        }
+    }
+
     protected void buildHeap() {
         for (int i = (position - 1) / 2; i >= 0; i--) {
             fixDownward(i, position);
         }
     }
 
+    /**
+     * Floyd's buildHeap on the common ForkJoinPool, followed by a full index rebuild
+     * (subtree sifts run on the raw array, so positions are only known at the end).
+     */
+    protected void buildHeapParallel() {
+        metrics.comparisons += ParallelHeapBuilder.heapify(heap, size(), ordering());
+        if (elementIndexMap != null) {
+            elementIndexMap.clear();
+            for (int i = 0; i <= position; i++) {
+                elementIndexMap.put(heap[i], i);
+            }
+            metrics.arrayAccesses += size();
+        }
+    }
+
+
+    /**
+     * Replace the contents with elements[0..count), which must already be in this
+     * heap's order (a snapshot of another heap's array): the order is verified with
+     * one comparison per element instead of rebuilt, and the array is adopted without
+     * copying when it is at least the initial capacity. The index is rebuilt if kept.
+     */
+    void restore(T[] elements, int count) {
+        if (!isEmpty()) {
+            throw new IllegalStateException("Can only restore into an empty heap");
+        }
+        for (int i = 1; i < count; i++) {
+            if (shouldSwap(elements[i], elements[(i - 1) / 2])) {
+                throw new IllegalArgumentException("Elements are not in heap order at slot " + i);
+            }
+        }
+        metrics.arrayAccesses += 2L * Math.max(0, count - 1);
+
+        if (elements.length < initialCapacity) {
+            elements = Arrays.copyOf(elements, initialCapacity);
+            metrics.arrayAccesses += count;
+        }
+        heap = elements;
+        position = count - 1;
+        metrics.inserts += count;
+        metrics.allocations++;
+        if (elementIndexMap != null) {
+            elementIndexMap = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+            for (int i = 0; i < count; i++) {
+                elementIndexMap.put(heap[i], i);
+            }
+            metrics.arrayAccesses += count;
+        }
+    }
+
+    /**
+     * The backing array in slot order.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(heap, 0, size(), Spliterator.NONNULL);
+    }
+
+    /**
+     * Lazy extraction-order traversal; see {@link FrontierSpliterator}. It wins for
+     * prefixes; a full pass costs about 1.5x stream().sorted().
+     */
+    @Override
+    public Stream<T> streamSorted() {
+        T[] array = heap;
+        int size = size();
+        return StreamSupport.stream(new FrontierSpliterator<>(slot -> array[slot], (slot, which) -> {
+            long child = 2L * slot + 1 + which;
+            return child < size ? (int) child : -1;
+        }, 0, size, ordering()), false);
+    }
 
     @Override
     public void sort() {
@@ -222,14 +716,22 @@ public abstract class Heap<T extends Comparable<T>> implements IHeap<T> {
         metrics.reset();
     }
 
+    /**
+     * At most {@link #TO_STRING_LIMIT} elements in array order; use
+     * {@link HeapSnapshot} to dump a whole heap.
+     */
     @Override
     public String toString() {
         if (isEmpty()) return getClass().getSimpleName() + "[]";
         StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
-        for (int i = 0; i <= position; i++) {
+        int shown = Math.min(size(), TO_STRING_LIMIT);
+        for (int i = 0; i < shown; i++) {
             sb.append(heap[i]);
             if (i < position) sb.append(", ");
         }
+        if (shown < size()) {
+            sb.append("... ").append(size() - shown).append(" more");
+        }
         sb.append("]");
         return sb.toString();
     }
@@ -0,0 +1,9 @@
+package org.harryfloppa.algorithms;
+
+/**
+ * Creates empty heaps of any element type, so code that needs heaps of its own
+ * element classes can be run against every implementation
+ */
+public interface HeapFactory {
+    <T extends Comparable<T>> IHeap<T> create();
+}
@@ -0,0 +1,155 @@
+package org.harryfloppa.algorithms;
+
+import java.util.function.IntFunction;
+
+/**
+ * Pool of array heaps, striped per thread and bucketed by backing-array size class
+ * <p>
+ * Size classes are the powers of two from MIN_CLASS to MAX_CLASS. borrow(n) returns
+ * an empty heap whose array holds at least n elements: an idle one of n's class from
+ * the calling thread's stripe, or a new one created with the class size as its
+ * initial capacity (so shrink-on-drain never takes it below the class). release(heap)
+ * clears the heap, resets its PerformanceTracker and files it under the class of its
+ * current capacity, which is larger than before if it grew while borrowed.
+ * <p>
+ * - every thread has its own stripe, so borrow and release take no locks; a heap may
+ *   be released on another thread than the one that borrowed it
+ * - a stripe keeps at most perClass idle heaps per class; further releases and heaps
+ *   larger than MAX_CLASS are left to the GC, which bounds what the pool retains
+ * - a released heap must not be used again, nor released twice
+ */
+public final class HeapPool<T extends Comparable<T>, H extends Heap<T>> {
+
+    public static final int MIN_CLASS = 16;
+    public static final int MAX_CLASS = 1 << 16;
+    public static final int DEFAULT_PER_CLASS = 8;
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_CLASS);
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAX_CLASS) - MIN_SHIFT + 1;
+
+    /**
+     * Idle heaps of one thread: a bounded stack per size class.
+     */
+    private static final class Stripe {
+        final Object[][] free;
+        final int[] count = new int[CLASSES];
+
+        Stripe(int perClass) {
+            free = new Object[CLASSES][perClass];
+        }
+    }
+
+    private final IntFunction<H> factory;
+    private final int perClass;
+    private final ThreadLocal<Stripe> stripes;
+
+    /**
+     * @param factory  Creates an empty heap with the given initial capacity
+     * @param perClass Idle heaps kept per size class and thread
+     */
+    public HeapPool(IntFunction<H> factory, int perClass) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (perClass < 1) {
+            throw new IllegalArgumentException("Heaps per class must be positive: " + perClass);
+        }
+        this.factory = factory;
+        this.perClass = perClass;
+        this.stripes = ThreadLocal.withInitial(() -> new Stripe(perClass));
+    }
+
+    public HeapPool(IntFunction<H> factory) {
+        this(factory, DEFAULT_PER_CLASS);
+    }
+
+    /**
+     * Pool of indexed MinHeaps.
+     */
+    public static <T extends Comparable<T>> HeapPool<T, MinHeap<T>> minHeaps() {
+        return new HeapPool<>(capacity -> new MinHeap<>(null, capacity, Heap.DEFAULT_GROWTH_FACTOR));
+    }
+
+    /**
+     * Pool of unindexed LeanMinHeaps.
+     */
+    public static <T extends Comparable<T>> HeapPool<T, LeanMinHeap<T>> leanMinHeaps() {
+        return new HeapPool<>(capacity -> new LeanMinHeap<>(null, capacity));
+    }
+
+    /**
+     * An empty heap with room for at least expectedSize elements.
+     */
+    @SuppressWarnings("unchecked")
+    public H borrow(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        if (expectedSize > MAX_CLASS) {
+            return factory.apply(expectedSize);
+        }
+        int sizeClass = classFor(expectedSize);
+        Stripe stripe = stripes.get();
+        int count = stripe.count[sizeClass];
+        if (count > 0) {
+            Object[] free = stripe.free[sizeClass];
+            H heap = (H) free[--count];
+            free[count] = null;
+            stripe.count[sizeClass] = count;
+            return heap;
+        }
+        return factory.apply(MIN_CLASS << sizeClass);
+    }
+
+    public H borrow() {
+        return borrow(MIN_CLASS);
+    }
+
+    /**
+     * Clear the heap and keep it for a later borrow if its stripe has room.
+     */
+    public void release(H heap) {
+        if (heap == null) {
+            throw new IllegalArgumentException("Cannot release null heap");
+        }
+        heap.clear();
+        heap.resetMetrics();
+
+        int capacity = heap.capacity();
+        if (capacity < MIN_CLASS || capacity > MAX_CLASS) {
+            return;
+        }
+        // Largest class the array can hold
+        int sizeClass = 31 - Integer.numberOfLeadingZeros(capacity) - MIN_SHIFT;
+        Stripe stripe = stripes.get();
+        int count = stripe.count[sizeClass];
+        if (count < perClass) {
+            stripe.free[sizeClass][count] = heap;
+            stripe.count[sizeClass] = count + 1;
+        }
+    }
+
+    /**
+     * Idle heaps in the calling thread's stripe.
+     */
+    public int idle() {
+        int total = 0;
+        for (int count : stripes.get().count) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Smallest class whose arrays hold n elements.
+     */
+    private static int classFor(int n) {
+        if (n <= MIN_CLASS) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(n - 1) - MIN_SHIFT;
+    }
+
+    public int getPerClass() {
+        return perClass;
+    }
+}
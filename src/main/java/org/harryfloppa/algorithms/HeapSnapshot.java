@@ -0,0 +1,321 @@
+package org.harryfloppa.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary snapshots of {@link Heap} contents
+ * <p>
+ * The heap array is written in its raw order, so restoring it needs no heapify: read()
+ * only checks each element against its parent (n - 1 comparisons) and adopts the
+ * decoded array as the heap's storage. Elements are encoded by an {@link ElementCodec}.
+ * <p>
+ * Format (big-endian):
+ * - header: magic "HFHS", version (short), flags (byte, bit 0 = deflate), the codec's
+ *   fixedSize (int), element count (int)
+ * - blocks: raw length (int), stored length (int), stored bytes. A block holds whole
+ *   elements, at most BLOCK_BYTES of them encoded; with deflate each block is an
+ *   independent zlib stream, otherwise stored bytes are the raw bytes
+ * - end: a block with raw length 0, then the CRC32C (int) of the header and all raw
+ *   block bytes
+ * <p>
+ * Blocks are staged in direct buffers of BLOCK_BYTES and moved through NIO channels
+ * in one write/read each, so the Java heap only ever holds the decoded elements.
+ * Deflate pays off for elements with redundant encodings (small ints, text); it costs
+ * most of the restore time otherwise.
+ */
+public final class HeapSnapshot {
+
+    public static final int MAGIC = 0x48464853; // "HFHS"
+    public static final short VERSION = 1;
+    static final int BLOCK_BYTES = 1 << 20;
+
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_BYTES = 15;
+    private static final int FRAME_BYTES = 8;
+    // zlib's compressBound, plus room for the stream header
+    private static final int DEFLATED_BLOCK_BYTES =
+            BLOCK_BYTES + (BLOCK_BYTES >> 12) + (BLOCK_BYTES >> 14) + 64;
+
+    private HeapSnapshot() {
+    }
+
+    public static <T extends Comparable<T>> void write(Heap<T> heap, ElementCodec<T> codec, Path file,
+                                                       boolean compress) throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(heap, codec, out, compress);
+        }
+    }
+
+    /**
+     * Restore the snapshot in file into target, which must be empty.
+     */
+    public static <T extends Comparable<T>, H extends Heap<T>> H read(Path file, ElementCodec<T> codec,
+                                                                       H target) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(in, codec, target);
+        }
+    }
+
+    // ===== write =====
+
+    public static <T extends Comparable<T>> void write(Heap<T> heap, ElementCodec<T> codec,
+                                                       WritableByteChannel out, boolean compress) throws IOException {
+        if (heap == null || codec == null || out == null) {
+            throw new IllegalArgumentException("Heap, codec and channel cannot be null");
+        }
+        int fixed = codec.fixedSize();
+        if (fixed < 0 || fixed > BLOCK_BYTES) {
+            throw new IllegalArgumentException("Codec element size out of range: " + fixed);
+        }
+
+        CRC32C crc = new CRC32C();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).put(compress ? FLAG_DEFLATE : 0)
+                .putInt(fixed).putInt(heap.size()).flip();
+        crc.update(header.array());
+        writeFully(out, header);
+
+        ByteBuffer raw = ByteBuffer.allocateDirect(BLOCK_BYTES);
+        ByteBuffer stored = ByteBuffer.allocateDirect(FRAME_BYTES + (compress ? DEFLATED_BLOCK_BYTES : 0));
+        Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            T[] elements = heap.heap;
+            for (int i = 0; i < heap.size(); i++) {
+                T element = elements[i];
+                int length = fixed > 0 ? fixed : codec.encodedSize(element);
+                int framed = fixed > 0 ? length : Integer.BYTES + length;
+                if (length < 0 || framed > BLOCK_BYTES) {
+                    throw new IOException("Element of " + length + " bytes does not fit a block");
+                }
+                if (raw.remaining() < framed) {
+                    writeBlock(out, raw, stored, deflater, crc);
+                }
+                if (fixed == 0) {
+                    raw.putInt(length);
+                }
+                int start = raw.position();
+                codec.encode(element, raw);
+                if (raw.position() - start != length) {
+                    throw new IllegalStateException("Codec wrote " + (raw.position() - start)
+                            + " bytes for an element of " + length);
+                }
+            }
+            writeBlock(out, raw, stored, deflater, crc);
+
+            stored.clear();
+            stored.putInt(0).putInt(0).flip();
+            writeFully(out, stored);
+            stored.clear();
+            stored.putInt((int) crc.getValue()).flip();
+            writeFully(out, stored);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private static void writeBlock(WritableByteChannel out, ByteBuffer raw, ByteBuffer stored,
+                                   Deflater deflater, CRC32C crc) throws IOException {
+        raw.flip();
+        int rawLength = raw.remaining();
+        if (rawLength == 0) {
+            raw.clear();
+            return;
+        }
+        crc.update(raw);
+        raw.rewind();
+
+        stored.clear();
+        stored.putInt(rawLength).putInt(rawLength);
+        if (deflater != null) {
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (!stored.hasRemaining()) {
+                    throw new IllegalStateException("Deflated block exceeds its bound");
+                }
+                deflater.deflate(stored);
+            }
+            stored.putInt(Integer.BYTES, stored.position() - FRAME_BYTES);
+            stored.flip();
+            writeFully(out, stored);
+        } else {
+            stored.flip();
+            writeFully(out, stored);
+            writeFully(out, raw);
+        }
+        raw.clear();
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    // ===== read =====
+
+    /**
+     * Restore a snapshot into target, which must be empty and order elements the same
+     * way as the heap that was written (e.g. any min-heap for a MinHeap snapshot).
+     * Nothing is restored unless the whole stream decodes and its checksum matches.
+     *
+     * @throws IOException if the stream is truncated or corrupt, was written with a
+     *                     codec of another element size, or is not in target's order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>, H extends Heap<T>> H read(ReadableByteChannel in, ElementCodec<T> codec,
+                                                                       H target) throws IOException {
+        if (in == null || codec == null || target == null) {
+            throw new IllegalArgumentException("Channel, codec and target cannot be null");
+        }
+        if (!target.isEmpty()) {
+            throw new IllegalArgumentException("Target heap must be empty");
+        }
+
+        CRC32C crc = new CRC32C();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(in, header);
+        crc.update(header.array());
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a heap snapshot");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported heap snapshot version " + version);
+        }
+        byte flags = header.get();
+        if ((flags & ~FLAG_DEFLATE) != 0) {
+            throw new IOException("Unknown snapshot flags " + flags);
+        }
+        int fixed = header.getInt();
+        if (fixed != codec.fixedSize()) {
+            throw new IOException("Snapshot elements are " + (fixed == 0 ? "variable-size" : fixed + " bytes")
+                    + ", codec expects " + codec.fixedSize());
+        }
+        int count = header.getInt();
+        if (count < 0) {
+            throw new IOException("Corrupt element count " + count);
+        }
+
+        boolean compressed = (flags & FLAG_DEFLATE) != 0;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_BYTES);
+        ByteBuffer stored = ByteBuffer.allocateDirect(compressed ? DEFLATED_BLOCK_BYTES : BLOCK_BYTES);
+        // One spare byte, so an over-long block shows up instead of stalling the inflater
+        ByteBuffer raw = compressed ? ByteBuffer.allocateDirect(BLOCK_BYTES + 1) : stored;
+        Inflater inflater = compressed ? new Inflater() : null;
+
+        // Grown as elements arrive, so a corrupt count cannot force a huge allocation
+        T[] elements = (T[]) new Comparable[Math.max(1, Math.min(count, 1 << 16))];
+        int decoded = 0;
+        try {
+            while (true) {
+                frame.clear();
+                readFully(in, frame);
+                frame.flip();
+                int rawLength = frame.getInt();
+                int storedLength = frame.getInt();
+                if (rawLength == 0) break;
+                if (rawLength < 0 || rawLength > BLOCK_BYTES || storedLength <= 0 || storedLength > stored.capacity()
+                        || (!compressed && storedLength != rawLength)) {
+                    throw new IOException("Corrupt block header after element " + decoded);
+                }
+
+                stored.clear().limit(storedLength);
+                readFully(in, stored);
+                stored.flip();
+                if (compressed) {
+                    inflate(inflater, stored, raw, rawLength);
+                }
+                crc.update(raw);
+                raw.rewind();
+
+                while (raw.hasRemaining()) {
+                    int length = fixed;
+                    if (fixed == 0) {
+                        if (raw.remaining() < Integer.BYTES) {
+                            throw new IOException("Corrupt element frame after element " + decoded);
+                        }
+                        length = raw.getInt();
+                    }
+                    if (length < 0 || length > raw.remaining() || decoded == count) {
+                        throw new IOException("Corrupt element frame after element " + decoded);
+                    }
+                    if (decoded == elements.length) {
+                        elements = Arrays.copyOf(elements, (int) Math.min(count, 2L * elements.length));
+                    }
+                    int end = raw.position() + length;
+                    T element = codec.decode(raw, length);
+                    if (raw.position() != end || element == null) {
+                        throw new IOException("Codec failed to decode element " + decoded);
+                    }
+                    elements[decoded++] = element;
+                }
+            }
+
+            frame.clear().limit(Integer.BYTES);
+            readFully(in, frame);
+            if (frame.getInt(0) != (int) crc.getValue()) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (decoded != count) {
+                throw new IOException("Snapshot holds " + decoded + " elements, header says " + count);
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+
+        try {
+            target.restore(elements, count);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Snapshot does not fit " + target.getClass().getSimpleName() + ": "
+                    + e.getMessage(), e);
+        }
+        return target;
+    }
+
+    private static void inflate(Inflater inflater, ByteBuffer stored, ByteBuffer raw, int rawLength) throws IOException {
+        inflater.reset();
+        inflater.setInput(stored);
+        raw.clear().limit(rawLength + 1);
+        try {
+            while (!inflater.finished()) {
+                if (inflater.inflate(raw) == 0
+                        && (inflater.needsInput() || inflater.needsDictionary() || !raw.hasRemaining())) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed block: " + e.getMessage(), e);
+        }
+        if (!inflater.finished() || raw.position() != rawLength) {
+            throw new IOException("Compressed block does not inflate to " + rawLength + " bytes");
+        }
+        raw.flip();
+    }
+
+    private static void readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new IOException("Truncated heap snapshot");
+            }
+        }
+    }
+}
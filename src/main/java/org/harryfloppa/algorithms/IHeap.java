@@ -1,5 +1,10 @@
 package org.harryfloppa.algorithms;
 
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface IHeap<T extends Comparable<T>> {
     IHeap<T> insert(T element);
@@ -11,4 +16,35 @@ public interface IHeap<T extends Comparable<T>> {
     void decreaseKey(T oldValue, T newValue);
     void merge(IHeap<T> other);
     void sort();
-}
\ No newline at end of file
+    PerformanceTracker getMetrics();
+
+    /**
+     * Remove every element but keep the storage already allocated (backing array,
+     * index table), so the heap can be refilled without growing again.
+     */
+    void clear();
+
+    /**
+     * The elements in no particular order. Array-backed heaps split evenly (SIZED and
+     * SUBSIZED), so parallel streams divide the work. The heap must not be modified
+     * while the spliterator is in use, unless the implementation says otherwise.
+     */
+    Spliterator<T> spliterator();
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * The elements in extraction order, leaving the heap unchanged. Lazy where the
+     * implementation allows it, so a short prefix (limit(k)) is cheap; this default
+     * copies and sorts everything into ascending order.
+     */
+    default Stream<T> streamSorted() {
+        return stream().sorted();
+    }
+}
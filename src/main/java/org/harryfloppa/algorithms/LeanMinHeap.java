@@ -0,0 +1,30 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * MinHeap without the element index
+ * <p>
+ * For plain insert/extract use: the heap is just the reference array, so memory per
+ * element is one array slot instead of a slot plus a HashMap entry (and a boxed
+ * Integer), and sifts do not touch a hash table. decreaseKey and remove throw
+ * UnsupportedOperationException; everything else behaves like MinHeap.
+ */
+public class LeanMinHeap<T extends Comparable<T>> extends MinHeap<T> {
+
+    public LeanMinHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor) {
+        super(metrics, initialCapacity, growthFactor, false);
+    }
+
+    public LeanMinHeap(PerformanceTracker metrics, int initialCapacity) {
+        this(metrics, initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public LeanMinHeap(PerformanceTracker metrics) {
+        this(metrics, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LeanMinHeap() {
+        this(new PerformanceTracker());
+    }
+}
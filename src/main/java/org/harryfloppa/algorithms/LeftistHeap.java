@@ -0,0 +1,55 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * Leftist min-heap
+ * <p>
+ * RANK: length of the right spine (1 for a single node, 0 for null).
+ * LEFTIST PROPERTY: rank(left) >= rank(right) for every node, so the right spine has
+ * at most log2(n + 1) nodes and meld, insert and extractRoot are O(log n) worst case.
+ * See {@link MeldableHeap} for the destructive and persistent modes.
+ */
+public class LeftistHeap<T extends Comparable<T>> extends MeldableHeap<T> {
+
+    public LeftistHeap(PerformanceTracker metrics, boolean persistent) {
+        super(metrics, persistent);
+    }
+
+    public LeftistHeap(PerformanceTracker metrics) {
+        this(metrics, false);
+    }
+
+    public LeftistHeap() {
+        this(new PerformanceTracker());
+    }
+
+    private LeftistHeap(PerformanceTracker metrics, Node<T> root, int size) {
+        super(metrics, true, root, size);
+    }
+
+    @Override
+    protected void fixNode(Node<T> node) {
+        if (rank(node.left) < rank(node.right)) {
+            Node<T> temp = node.left;
+            node.left = node.right;
+            node.right = temp;
+        }
+        node.rank = rank(node.right) + 1;
+    }
+
+    @Override
+    protected LeftistHeap<T> withRoot(Node<T> root, int size) {
+        return new LeftistHeap<>(new PerformanceTracker(), root, size);
+    }
+
+    @Override
+    public LeftistHeap<T> meld(MeldableHeap<T> other) {
+        return (LeftistHeap<T>) super.meld(other);
+    }
+
+    @Override
+    public LeftistHeap<T> snapshot() {
+        return (LeftistHeap<T>) super.snapshot();
+    }
+}
@@ -0,0 +1,398 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Lock-free, linearizable priority queue on a skiplist (Lindén–Jonsson design)
+ * <p>
+ * Elements are kept in key order on level 0; higher levels are only search shortcuts.
+ * Deletion is split in two steps:
+ * - logical: extractRoot walks level 0 from the head and sets the mark on the first
+ *   unmarked next pointer it meets; a marked pointer means "my successor is deleted",
+ *   so the deleted elements always form a prefix of the list
+ * - physical: only when a thread had to walk over at least {@code boundOffset}
+ *   deleted nodes does it swing the head past the whole prefix with one CAS
+ *   (and then advance the head's upper-level pointers), so the head is written
+ *   once per batch of deletions instead of on every one
+ * Inserts CAS an unmarked pointer, so they can never land inside the deleted prefix.
+ * Unlinked nodes are reclaimed by the garbage collector, so no hazard pointers or
+ * epochs are needed.
+ * <p>
+ * Under concurrency size() is the number of completed inserts minus completed
+ * extractions and may briefly lag. decreaseKey is not supported: keys of nodes in a
+ * lock-free list cannot be changed in place.
+ */
+public class LockFreeSkipListHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    public static final int DEFAULT_BOUND_OFFSET = 32;
+    private static final int MAX_LEVEL = 32;
+
+    private static final class Node<T> {
+        final T key;
+        // Level 0; mark set = successor is logically deleted
+        final AtomicMarkableReference<Node<T>> next;
+        // Levels 1..levels-1, stored at index level-1
+        final AtomicReferenceArray<Node<T>> up;
+        volatile boolean deleted;
+
+        Node(T key, int levels) {
+            this.key = key;
+            this.next = new AtomicMarkableReference<>(null, false);
+            this.up = new AtomicReferenceArray<>(levels - 1);
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final int boundOffset;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder inserts = new LongAdder();
+    private final LongAdder extractions = new LongAdder();
+    private final LongAdder casFailures = new LongAdder();
+    private final PerformanceTracker metrics;
+
+    /**
+     * @param boundOffset Deleted-prefix length that triggers physical removal
+     */
+    public LockFreeSkipListHeap(PerformanceTracker metrics, int boundOffset) {
+        if (boundOffset < 1) {
+            throw new IllegalArgumentException("Bound offset must be positive");
+        }
+        this.boundOffset = boundOffset;
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+    }
+
+    public LockFreeSkipListHeap(PerformanceTracker metrics) {
+        this(metrics, DEFAULT_BOUND_OFFSET);
+    }
+
+    public LockFreeSkipListHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== insert =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+
+        int levels = randomLevel();
+        Node<T> node = new Node<>(element, levels);
+        @SuppressWarnings("unchecked")
+        Node<T>[] preds = new Node[levels];
+        @SuppressWarnings("unchecked")
+        Node<T>[] succs = new Node[levels];
+
+        while (true) {
+            locate(element, preds, succs);
+            node.next.set(succs[0], false);
+            if (preds[0].next.compareAndSet(succs[0], node, false, false)) break;
+            casFailures.increment();
+        }
+        size.incrementAndGet();
+        inserts.increment();
+
+        // Upper levels are hints: give up once the node is gone
+        for (int i = 1; i < levels; i++) {
+            while (!node.deleted) {
+                node.up.set(i - 1, succs[i]);
+                if (preds[i].up.compareAndSet(i - 1, succs[i], node)) break;
+                casFailures.increment();
+                locate(element, preds, succs);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Find, on every level below preds.length, the last node before the insert
+     * position of key and its successor. On level 0 the predecessor's pointer is
+     * unmarked, i.e. the position is behind the deleted prefix.
+     */
+    private void locate(T key, Node<T>[] preds, Node<T>[] succs) {
+        Node<T> x = head;
+        for (int i = MAX_LEVEL - 1; i >= 1; i--) {
+            Node<T> next = x.up.get(i - 1);
+            // A node whose own successor is deleted is deleted too: skip it
+            while (next != null && (next.key.compareTo(key) < 0 || next.next.isMarked())) {
+                x = next;
+                next = x.up.get(i - 1);
+            }
+            if (i < preds.length) {
+                preds[i] = x;
+                succs[i] = next;
+            }
+        }
+
+        boolean[] marked = new boolean[1];
+        Node<T> next = x.next.get(marked);
+        while (next != null && (marked[0] || next.key.compareTo(key) < 0)) {
+            x = next;
+            next = x.next.get(marked);
+        }
+        preds[0] = x;
+        succs[0] = next;
+    }
+
+    private static int randomLevel() {
+        // Geometric with p = 1/2, capped at MAX_LEVEL
+        return 1 + Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    // ===== extract =====
+
+    @Override
+    public T extractRoot() {
+        T result = poll();
+        if (result == null) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return result;
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    /**
+     * Remove and return the minimum, or null if the queue is empty.
+     */
+    public T poll() {
+        boolean[] marked = new boolean[1];
+        Node<T> observedFirst = head.next.get(marked);
+        boolean observedMark = marked[0];
+
+        Node<T> x = head;
+        int offset = 0;
+        Node<T> victim;
+        while (true) {
+            Node<T> next = x.next.get(marked);
+            if (next == null) return null;
+            if (marked[0]) {
+                x = next;
+                offset++;
+                continue;
+            }
+            if (x.next.compareAndSet(next, next, false, true)) {
+                victim = next;
+                break;
+            }
+            casFailures.increment();
+        }
+
+        victim.deleted = true;
+        size.decrementAndGet();
+        extractions.increment();
+
+        // Unlink the whole deleted prefix at once; the victim stays as the new dummy
+        if (offset >= boundOffset
+                && head.next.compareAndSet(observedFirst, victim, observedMark, true)) {
+            restructure();
+        }
+        return victim.key;
+    }
+
+    /**
+     * Move the head's upper-level pointers past nodes whose successor is deleted.
+     */
+    private void restructure() {
+        for (int i = MAX_LEVEL - 1; i >= 1; i--) {
+            Node<T> first = head.up.get(i - 1);
+            Node<T> current = first;
+            while (current != null && current.next.isMarked()) {
+                current = current.up.get(i - 1);
+            }
+            if (current != first) {
+                head.up.compareAndSet(i - 1, first, current);
+            }
+        }
+    }
+
+    /**
+     * First node that is not logically deleted, or null.
+     */
+    private Node<T> firstLive() {
+        boolean[] marked = new boolean[1];
+        Node<T> x = head;
+        Node<T> next = x.next.get(marked);
+        while (next != null && marked[0]) {
+            x = next;
+            next = x.next.get(marked);
+        }
+        return next;
+    }
+
+    @Override
+    public T peekRoot() {
+        Node<T> first = firstLive();
+        if (first == null) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return first.key;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstLive() == null;
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    /**
+     * Extract until empty. Safe to call concurrently; elements inserted meanwhile may
+     * remain. There is no array to keep, so this is as fast as draining.
+     */
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // drained
+        }
+    }
+
+    // ===== unsupported / bulk =====
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        throw new UnsupportedOperationException("decreaseKey is not supported by the lock-free skiplist heap");
+    }
+
+    /**
+     * Insert a snapshot of the other heap's elements; the other heap is unchanged.
+     */
+    @Override
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+
+        if (other instanceof LockFreeSkipListHeap<T> skipList) {
+            for (T element : skipList.snapshot()) {
+                insert(element);
+            }
+        } else if (other instanceof Heap<T> array) {
+            for (int i = 0; i <= array.position; i++) {
+                insert(array.heap[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Can only merge with skiplist or array-backed heaps");
+        }
+    }
+
+    /**
+     * Live elements in ascending order at some point during the call.
+     */
+    public List<T> snapshot() {
+        List<T> elements = new ArrayList<>();
+        for (Node<T> x = firstLive(); x != null; x = x.next.getReference()) {
+            if (!x.deleted) {
+                elements.add(x.key);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Weakly consistent, ascending view of level 0: never throws on concurrent
+     * updates, skips elements extracted before it reaches them, and may or may not
+     * see elements inserted meanwhile.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        Node<T> start = firstLive();
+        return Spliterators.spliteratorUnknownSize(new Iterator<T>() {
+            private Node<T> next = skipDeleted(start);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T key = next.key;
+                next = skipDeleted(next.next.getReference());
+                return key;
+            }
+        }, Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Level 0 is already in ascending order, so this is just {@link #stream()}.
+     */
+    @Override
+    public Stream<T> streamSorted() {
+        return stream();
+    }
+
+    private static <T> Node<T> skipDeleted(Node<T> x) {
+        while (x != null && x.deleted) {
+            x = x.next.getReference();
+        }
+        return x;
+    }
+
+    @Override
+    public void sort() {
+        System.out.println("Sorted array:");
+        for (T element : snapshot()) {
+            System.out.println(element);
+        }
+    }
+
+    // utils
+
+    public long getCasFailures() {
+        return casFailures.sum();
+    }
+
+    /**
+     * Operation counters are kept in LongAdders and copied into the tracker here;
+     * comparisons and swaps are not counted to keep the hot path contention-free.
+     */
+    public PerformanceTracker getMetrics() {
+        metrics.inserts = inserts.sum();
+        metrics.extractions = extractions.sum();
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        inserts.reset();
+        extractions.reset();
+        casFailures.reset();
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        List<T> elements = snapshot();
+        if (elements.isEmpty()) return getClass().getSimpleName() + "[]";
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        for (int i = 0; i < elements.size(); i++) {
+            sb.append(elements.get(i));
+            if (i < elements.size() - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
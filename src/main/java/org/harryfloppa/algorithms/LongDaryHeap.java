@@ -0,0 +1,177 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.NoSuchElementException;
+
+/**
+ * d-ary min-heap of primitive longs
+ * <p>
+ * - Children of i: d*i + 1 .. d*i + d, parent of i: (i-1)/d
+ * - Wide nodes make the heap shallow (log_d n levels), so extract does fewer,
+ *   cache-friendlier levels, each choosing the smallest of up to d contiguous
+ *   children. That choice is delegated to a {@link ChildSelector}, which can do it
+ *   with SIMD (4 longs per AVX2 vector, 8 per AVX-512 vector)
+ * - Sifts are hole-based; capacity grows by doubling and shrinks on drain as in
+ *   {@link Heap}
+ */
+public class LongDaryHeap {
+
+    public static final int MAX_ARITY = 64;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final ChildSelector selector;
+    private final int initialCapacity;
+    private final PerformanceTracker metrics;
+    private long[] keys;
+    private int size;
+
+    public LongDaryHeap(int arity, ChildSelector selector, PerformanceTracker metrics, int initialCapacity) {
+        if (arity < 2 || arity > MAX_ARITY) {
+            throw new IllegalArgumentException("Arity must be between 2 and " + MAX_ARITY + ": " + arity);
+        }
+        if (selector == null) {
+            throw new IllegalArgumentException("Child selector cannot be null");
+        }
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity out of range: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.selector = selector;
+        this.initialCapacity = initialCapacity;
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+        this.keys = new long[initialCapacity];
+    }
+
+    public LongDaryHeap(int arity, ChildSelector selector) {
+        this(arity, selector, null, Heap.DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongDaryHeap(int arity) {
+        this(arity, ChildSelector.best());
+    }
+
+    public void insert(long key) {
+        if (size == keys.length) {
+            grow();
+        }
+
+        metrics.inserts++;
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            long parentKey = keys[parent];
+            metrics.comparisons++;
+            if (key >= parentKey) break;
+            keys[i] = parentKey;
+            metrics.swaps++;
+            i = parent;
+        }
+        keys[i] = key;
+        metrics.arrayAccesses++;
+    }
+
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    public long extract() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        metrics.extractions++;
+        long result = keys[0];
+        int last = --size;
+        if (last > 0) {
+            siftDown(keys[last], last);
+        }
+        shrinkIfSparse();
+        return result;
+    }
+
+    /**
+     * Place key starting from the hole at the root of a heap of n keys.
+     */
+    private void siftDown(long key, int n) {
+        int i = 0;
+        // -1 when the root has no child: (n - 2) / arity truncates to 0 for n == 1, and
+        // the selector must not see an empty range
+        int lastParent = n > 1 ? (n - 2) / arity : -1;
+        while (i <= lastParent) {
+            int first = arity * i + 1;
+            int end = Math.min(first + arity, n);
+            int child = selector.minLong(keys, first, end);
+            metrics.comparisons += end - first;
+            long childKey = keys[child];
+            if (key <= childKey) break;
+            keys[i] = childKey;
+            metrics.swaps++;
+            i = child;
+        }
+        keys[i] = key;
+        metrics.arrayAccesses++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Heap is full");
+        }
+        resize((int) Math.min(MAX_CAPACITY, 2L * keys.length));
+    }
+
+    private void shrinkIfSparse() {
+        if (keys.length > initialCapacity && size <= keys.length / 4) {
+            resize(Math.max(initialCapacity, keys.length / 2));
+        }
+    }
+
+    private void resize(int capacity) {
+        metrics.allocations++;
+        metrics.resizes++;
+        long[] newKeys = new long[capacity];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        metrics.arrayAccesses += size;
+        keys = newKeys;
+    }
+
+    // utils
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName())
+                .append("[d=").append(arity).append(", ").append(selector);
+        for (int i = 0; i < size; i++) {
+            sb.append(i == 0 ? ": " : ", ").append(keys[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,208 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of (long priority, payload) pairs in structure-of-arrays layout
+ * <p>
+ * Priorities live in a long[] and payloads in a parallel Object[] at the same
+ * index. Sifts compare keys only, so the hot loop reads dense primitive memory and
+ * never dereferences a payload; both arrays are written once per level moved.
+ * The moving entry is held in locals and written once at its final slot (hole-based
+ * sifting), instead of swapping at every level.
+ * <p>
+ * Equal keys come out in no particular order. Capacity options and shrink-on-drain
+ * behave as in {@link Heap}.
+ */
+public class LongKeyHeap<V> {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private final int initialCapacity;
+    private final double growthFactor;
+    private final PerformanceTracker metrics;
+
+    public LongKeyHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity out of range: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + growthFactor);
+        }
+        this.keys = new long[initialCapacity];
+        this.values = new Object[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+    }
+
+    public LongKeyHeap(PerformanceTracker metrics, int initialCapacity) {
+        this(metrics, initialCapacity, Heap.DEFAULT_GROWTH_FACTOR);
+    }
+
+    public LongKeyHeap(PerformanceTracker metrics) {
+        this(metrics, Heap.DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongKeyHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== insert / extract =====
+
+    public void insert(long key, V value) {
+        if (size == keys.length) {
+            grow();
+        }
+
+        metrics.inserts++;
+        int i = size++;
+        // Sift up: move parents down into the hole until the key fits
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            long parentKey = keys[parent];
+            metrics.comparisons++;
+            if (key >= parentKey) break;
+            keys[i] = parentKey;
+            values[i] = values[parent];
+            metrics.swaps++;
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+        metrics.arrayAccesses += 2;
+    }
+
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V peekValue() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return (V) values[0];
+    }
+
+    /**
+     * Remove the entry with the smallest key and return its payload.
+     */
+    @SuppressWarnings("unchecked")
+    public V extract() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        metrics.extractions++;
+        V result = (V) values[0];
+        int last = --size;
+        long key = keys[last];
+        Object value = values[last];
+        values[last] = null;
+        if (last > 0) {
+            siftDown(key, value, last);
+        }
+        shrinkIfSparse();
+        return result;
+    }
+
+    /**
+     * Place (key, value) starting from the hole at the root of a heap of n entries.
+     */
+    private void siftDown(long key, Object value, int n) {
+        int i = 0;
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            long childKey = keys[child];
+            int right = child + 1;
+            if (right < n) {
+                metrics.comparisons++;
+                if (keys[right] < childKey) {
+                    child = right;
+                    childKey = keys[right];
+                }
+            }
+            metrics.comparisons++;
+            if (key <= childKey) break;
+            keys[i] = childKey;
+            values[i] = values[child];
+            metrics.swaps++;
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+        metrics.arrayAccesses += 2;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    // ===== capacity =====
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Heap is full");
+        }
+        long grown = (long) Math.ceil(keys.length * growthFactor);
+        resize((int) Math.min(MAX_CAPACITY, Math.max(grown, keys.length + 1L)));
+    }
+
+    private void shrinkIfSparse() {
+        if (keys.length > initialCapacity && size <= keys.length / 4) {
+            resize(Math.max(initialCapacity, keys.length / 2));
+        }
+    }
+
+    private void resize(int capacity) {
+        metrics.allocations += 2;
+        metrics.resizes++;
+        long[] newKeys = new long[capacity];
+        Object[] newValues = new Object[capacity];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(values, 0, newValues, 0, size);
+        metrics.arrayAccesses += 2L * size;
+        keys = newKeys;
+        values = newValues;
+    }
+
+    // utils
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return getClass().getSimpleName() + "[]";
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(keys[i]).append('=').append(values[i]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
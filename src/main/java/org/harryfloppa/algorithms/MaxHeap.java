@@ -0,0 +1,113 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.HeapSiftEvent;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Comparator;
+
+/**
+ * Max-Heap concrete implementation
+ * <p>
+ * HEAP PROPERTY: For every node i (except root):
+ *   heap[i] <= heap[(i-1)/2]  (child <= parent)
+ * <p>
+ * ROOT: Always the MAXIMUM element
+ * decreaseKey moves an element towards the root, so here the new value must be
+ * greater than or equal to the old one.
+ */
+public class MaxHeap<T extends Comparable<T>> extends Heap<T> {
+
+    public MaxHeap(PerformanceTracker metrics) {
+        super(metrics);
+    }
+
+    public MaxHeap() {
+        super();
+    }
+
+    @Override
+    protected void fixUpward(int index) {
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+
+            metrics.arrayAccesses += 2;
+            metrics.comparisons++;
+
+            if (heap[index].compareTo(heap[parentIndex]) > 0) {
+                swap(index, parentIndex);
+                index = parentIndex;
+            } else {
+                break;
+            }
+        }
+
+        commitSift(event, "up", swapsBefore);
+    }
+
+    @Override
+    protected void fixDownward(int index, int endIndex) {
+        if (endIndex == -1) return;
+
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        while (index <= endIndex) {
+            int leftChildIndex = index * 2 + 1;
+            int rightChildIndex = index * 2 + 2;
+
+            if (leftChildIndex > endIndex) break;
+
+            int largestIndex = leftChildIndex;
+
+            if (rightChildIndex <= endIndex) {
+                metrics.arrayAccesses += 2;
+                metrics.comparisons++;
+
+                if (heap[rightChildIndex].compareTo(heap[leftChildIndex]) > 0) {
+                    largestIndex = rightChildIndex;
+                }
+            }
+
+            metrics.arrayAccesses += 2;
+            metrics.comparisons++;
+
+            if (heap[index].compareTo(heap[largestIndex]) < 0) {
+                swap(index, largestIndex);
+                index = largestIndex;
+            } else {
+                break;
+            }
+        }
+
+        commitSift(event, "down", swapsBefore);
+    }
+
+    @Override
+    protected boolean shouldSwap(T child, T parent) {
+        metrics.comparisons++;
+        return child.compareTo(parent) > 0;
+    }
+
+    @Override
+    protected Comparator<T> ordering() {
+        return Comparator.reverseOrder();
+    }
+
+    @Override
+    protected boolean isValidDecreaseKey(T oldValue, T newValue) {
+        return newValue.compareTo(oldValue) >= 0;
+    }
+
+    public T peekMax() {
+        return peekRoot();
+    }
+
+    public T extractMax() {
+        return extractRoot();
+    }
+}
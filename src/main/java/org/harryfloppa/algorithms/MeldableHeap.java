@@ -0,0 +1,391 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Abstract base class for pointer-based min-heaps with O(log n) meld
+ * <p>
+ * Every operation is a meld along the right spines of two trees: insert melds a
+ * single node, extractRoot melds the root's two subtrees. Subclasses decide how a node
+ * on the meld path is repaired once its new right subtree is in place (leftist: by
+ * rank, skew: always swap children).
+ * <p>
+ * Modes, fixed at construction:
+ * - destructive (default): nodes are updated in place; merge takes over the other
+ *   heap's nodes and leaves it empty
+ * - persistent: nodes are never modified once built; the meld path is copied instead
+ *   (O(log n) new nodes per operation). Old versions stay valid, so {@link #meld}
+ *   and {@link #snapshot} return new heaps that share structure with their sources
+ *   without copying them. A snapshot can be handed to another thread (publish it
+ *   safely, e.g. through a volatile field or a concurrent queue) and used there while
+ *   this heap keeps changing; a heap object itself is not thread-safe. Heaps
+ *   returned by meld and snapshot get their own PerformanceTracker.
+ * decreaseKey is not supported (UnsupportedOperationException).
+ */
+public abstract class MeldableHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    protected static final class Node<T> {
+        final T element;
+        Node<T> left;
+        Node<T> right;
+        int rank;
+
+        Node(T element, Node<T> left, Node<T> right, int rank) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.rank = rank;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+    private final boolean persistent;
+    protected final PerformanceTracker metrics;
+    @SuppressWarnings("unchecked")
+    private Node<T>[] path = (Node<T>[]) new Node[32];
+
+    protected MeldableHeap(PerformanceTracker metrics, boolean persistent) {
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+        this.persistent = persistent;
+    }
+
+    protected MeldableHeap(PerformanceTracker metrics, boolean persistent, Node<T> root, int size) {
+        this(metrics, persistent);
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Restore the subclass invariant at node after its right child was replaced by
+     * the result of a meld.
+     */
+    protected abstract void fixNode(Node<T> node);
+
+    /**
+     * A heap of the same kind and mode over the given (shared) tree.
+     */
+    protected abstract MeldableHeap<T> withRoot(Node<T> root, int size);
+
+    protected static int rank(Node<?> node) {
+        return node == null ? 0 : node.rank;
+    }
+
+    // ===== meld =====
+
+    /**
+     * Meld two trees: walk down the right spines taking the smaller root each time,
+     * then hang the leftover tree below the last node and repair the path bottom-up.
+     * Iterative, since a skew heap's right spine can be long.
+     */
+    private Node<T> meldNodes(Node<T> a, Node<T> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+
+        int depth = 0;
+        while (a != null && b != null) {
+            metrics.comparisons++;
+            if (b.element.compareTo(a.element) < 0) {
+                Node<T> temp = a;
+                a = b;
+                b = temp;
+            }
+            if (persistent) {
+                a = new Node<>(a.element, a.left, a.right, a.rank);
+                metrics.allocations++;
+            }
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, 2 * depth);
+            }
+            path[depth++] = a;
+            a = a.right;
+        }
+
+        Node<T> rest = a != null ? a : b;
+        while (depth > 0) {
+            Node<T> node = path[--depth];
+            path[depth] = null;
+            node.right = rest;
+            fixNode(node);
+            metrics.swaps++;
+            rest = node;
+        }
+        return rest;
+    }
+
+    /**
+     * Meld two persistent heaps into a new one in O(log n); both stay unchanged.
+     */
+    public MeldableHeap<T> meld(MeldableHeap<T> other) {
+        requirePersistent("meld");
+        if (other == null || other.getClass() != getClass() || !other.persistent) {
+            throw new IllegalArgumentException("Can only meld with a persistent " + getClass().getSimpleName());
+        }
+        return withRoot(meldNodes(root, other.root), size + other.size);
+    }
+
+    /**
+     * O(1) copy of a persistent heap that shares all nodes with this one.
+     */
+    public MeldableHeap<T> snapshot() {
+        requirePersistent("snapshot");
+        return withRoot(root, size);
+    }
+
+    private void requirePersistent(String operation) {
+        if (!persistent) {
+            throw new UnsupportedOperationException(operation + " needs a persistent heap");
+        }
+    }
+
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    // ===== core operations =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+        metrics.inserts++;
+        metrics.allocations++;
+        root = meldNodes(root, new Node<>(element, null, null, 1));
+        size++;
+        return this;
+    }
+
+    @Override
+    public T extractRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        metrics.extractions++;
+        T result = root.element;
+        root = meldNodes(root.left, root.right);
+        size--;
+        return result;
+    }
+
+    @Override
+    public T peekRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return root.element;
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drop this heap's tree; a persistent heap's earlier versions are unaffected.
+     */
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support decreaseKey");
+    }
+
+    /**
+     * Meld another heap of the same kind in O(log n). A destructive heap takes over
+     * the other heap's nodes and empties it; a persistent one leaves it intact. Array
+     * heaps are converted first, in O(m).
+     */
+    @Override
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+
+        if (other.getClass() == getClass()) {
+            MeldableHeap<T> meldable = (MeldableHeap<T>) other;
+            if (meldable.persistent != persistent) {
+                throw new IllegalArgumentException("Cannot merge persistent and destructive heaps");
+            }
+            if (meldable == this && !persistent) {
+                throw new IllegalArgumentException("Cannot merge a destructive heap with itself");
+            }
+            root = meldNodes(root, meldable.root);
+            size += meldable.size;
+            if (!persistent) {
+                meldable.root = null;
+                meldable.size = 0;
+            }
+        } else if (other instanceof Heap<T> array) {
+            root = meldNodes(root, build(array.heap, array.size()));
+            size += array.size();
+        } else {
+            throw new IllegalArgumentException("Can only merge with a " + getClass().getSimpleName()
+                    + " or an array-backed heap");
+        }
+    }
+
+    /**
+     * Build a tree from elements[0..count) in O(count) by melding in rounds of pairs.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> build(T[] elements, int count) {
+        Node<T>[] nodes = (Node<T>[]) new Node[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = new Node<>(elements[i], null, null, 1);
+        }
+        metrics.allocations += count;
+        metrics.inserts += count;
+        metrics.arrayAccesses += count;
+
+        while (count > 1) {
+            int half = 0;
+            for (int i = 0; i + 1 < count; i += 2) {
+                nodes[half++] = meldNodes(nodes[i], nodes[i + 1]);
+            }
+            if ((count & 1) == 1) {
+                nodes[half++] = nodes[count - 1];
+            }
+            count = half;
+        }
+        return nodes[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        T[] sorted = (T[]) collect().toArray(new Comparable[0]);
+        Arrays.sort(sorted);
+
+        System.out.println("Sorted array:");
+        for (T element : sorted) {
+            System.out.println(element);
+        }
+    }
+
+    /**
+     * Elements in preorder, iteratively.
+     */
+    private List<T> collect() {
+        List<T> elements = new ArrayList<>(size);
+        List<Node<T>> stack = new ArrayList<>();
+        if (root != null) stack.add(root);
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.remove(stack.size() - 1);
+            elements.add(node.element);
+            if (node.right != null) stack.add(node.right);
+            if (node.left != null) stack.add(node.left);
+        }
+        return elements;
+    }
+
+    // ===== iteration =====
+
+    /**
+     * Elements in preorder. Streams over a persistent heap's snapshot stay valid while
+     * the heap itself keeps changing.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        Node<T> start = root;
+        return Spliterators.spliterator(new Iterator<T>() {
+            private final ArrayDeque<Node<T>> pending = new ArrayDeque<>();
+
+            {
+                if (start != null) pending.push(start);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Node<T> node = pending.pop();
+                if (node.right != null) pending.push(node.right);
+                if (node.left != null) pending.push(node.left);
+                return node.element;
+            }
+        }, size, Spliterator.NONNULL);
+    }
+
+    /**
+     * Lazy extraction-order traversal: the next element is the smallest node of the
+     * frontier (nodes whose parent was already yielded), kept in a PriorityQueue.
+     */
+    @Override
+    public Stream<T> streamSorted() {
+        Node<T> start = root;
+        return StreamSupport.stream(Spliterators.spliterator(new Iterator<T>() {
+            private final PriorityQueue<Node<T>> frontier = new PriorityQueue<>(
+                    (a, b) -> a.element.compareTo(b.element));
+
+            {
+                if (start != null) frontier.add(start);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !frontier.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Node<T> node = frontier.remove();
+                if (node.left != null) frontier.add(node.left);
+                if (node.right != null) frontier.add(node.right);
+                return node.element;
+            }
+        }, size, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // utils
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return getClass().getSimpleName() + "[]";
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        List<T> elements = collect();
+        for (int i = 0; i < elements.size(); i++) {
+            sb.append(elements.get(i));
+            if (i < elements.size() - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
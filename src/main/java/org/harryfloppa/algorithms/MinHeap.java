@@ -1,7 +1,10 @@
 package org.harryfloppa.algorithms;
 
+import org.harryfloppa.metrics.HeapSiftEvent;
 import org.harryfloppa.metrics.PerformanceTracker;
 
+import java.util.Comparator;
+
 /**
  * Min-Heap concrete implementation
  * <p>
@@ -24,54 +27,98 @@ public class MinHeap<T extends Comparable<T>> extends Heap<T> {
         super();
     }
 
+    public MinHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor) {
+        this(metrics, initialCapacity, growthFactor, true);
+    }
+
+    protected MinHeap(PerformanceTracker metrics, int initialCapacity, double growthFactor, boolean indexed) {
+        super(metrics, initialCapacity, growthFactor, indexed);
+    }
+
+    /**
+     * Hole-based sift-up: the element is held while larger parents move down into the
+     * hole, and written once at its final slot. Only moved elements touch the index.
+     */
     @Override
     protected void fixUpward(int index) {
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        int start = index;
+        T element = heap[index];
+        metrics.arrayAccesses++;
+
         while (index > 0) {
             int parentIndex = (index - 1) / 2;
+            T parent = heap[parentIndex];
 
-            metrics.arrayAccesses += 2;
+            metrics.arrayAccesses++;
             metrics.comparisons++;
 
-            if (heap[index].compareTo(heap[parentIndex]) < 0) {
-                swap(index, parentIndex);
-                index = parentIndex;
-            } else {
-                break;
-            }
+            if (element.compareTo(parent) >= 0) break;
+
+            place(index, parent);
+            metrics.swaps++;
+            index = parentIndex;
+        }
+        if (index != start) {
+            place(index, element);
         }
+
+        commitSift(event, "up", swapsBefore);
     }
 
+    /**
+     * Hole-based sift-down: the smaller child moves up into the hole until the held
+     * element fits, then the element is written once.
+     */
     @Override
     protected void fixDownward(int index, int endIndex) {
         if (endIndex == -1) return;
 
-        while (index <= endIndex) {
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        int start = index;
+        T element = heap[index];
+        metrics.arrayAccesses++;
+
+        while (true) {
             int leftChildIndex = index * 2 + 1;
             int rightChildIndex = index * 2 + 2;
 
             if (leftChildIndex > endIndex) break;
 
             int smallestIndex = leftChildIndex;
+            T smallest = heap[leftChildIndex];
+            metrics.arrayAccesses++;
 
             if (rightChildIndex <= endIndex) {
-                metrics.arrayAccesses += 2;
+                T right = heap[rightChildIndex];
+                metrics.arrayAccesses++;
                 metrics.comparisons++;
 
-                if (heap[rightChildIndex].compareTo(heap[leftChildIndex]) < 0) {
+                if (right.compareTo(smallest) < 0) {
                     smallestIndex = rightChildIndex;
+                    smallest = right;
                 }
             }
 
-            metrics.arrayAccesses += 2;
             metrics.comparisons++;
 
-            if (heap[index].compareTo(heap[smallestIndex]) > 0) {
-                swap(index, smallestIndex);
-                index = smallestIndex; // Move down
-            } else {
-                break;
-            }
+            if (element.compareTo(smallest) <= 0) break;
+
+            place(index, smallest);
+            metrics.swaps++;
+            index = smallestIndex; // Move the hole down
         }
+        if (index != start) {
+            place(index, element);
+        }
+
+        commitSift(event, "down", swapsBefore);
     }
 
     @Override
@@ -80,6 +127,11 @@ public class MinHeap<T extends Comparable<T>> extends Heap<T> {
         return child.compareTo(parent) < 0;
     }
 
+    @Override
+    protected Comparator<T> ordering() {
+        return Comparator.naturalOrder();
+    }
+
     @Override
     protected boolean isValidDecreaseKey(T oldValue, T newValue) {
         return newValue.compareTo(oldValue) <= 0;
@@ -0,0 +1,481 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Min-max heap (Atkinson et al.): both extremes from one array
+ * <p>
+ * HEAP PROPERTY: levels alternate, starting with a min level at the root:
+ * - a node on a min level (even depth) is <= every element of its subtree
+ * - a node on a max level (odd depth) is >= every element of its subtree
+ * <p>
+ * The minimum is the root and the maximum the larger of its two children, so
+ * peekMin/peekMax are O(1) and extractMin/extractMax O(log n). Sift-down looks at
+ * children and grandchildren and moves two levels per step, so it costs about as much
+ * as a binary heap's. As an IHeap the root is the minimum.
+ * <p>
+ * Bounded mode keeps at most {@code bound} elements: once full, {@link #offer} drops
+ * the extreme selected by {@link Eviction} - the largest element for a buffer of the
+ * best (smallest) items, or the smallest one.
+ * <p>
+ * The decreaseKey/remove index is built on first use, as in {@link BlockedHeap}.
+ */
+public class MinMaxHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    /**
+     * Which extreme a full bounded heap gives up.
+     */
+    public enum Eviction {
+        LARGEST, SMALLEST
+    }
+
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private T[] heap;
+    private int size = 0;
+    private final int bound;
+    private final Eviction eviction;
+    private HashMap<T, Integer> elementIndexMap;
+    private final PerformanceTracker metrics;
+
+    @SuppressWarnings("unchecked")
+    public MinMaxHeap(PerformanceTracker metrics, int bound, Eviction eviction) {
+        if (bound < 1) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        if (eviction == null) {
+            throw new IllegalArgumentException("Eviction cannot be null");
+        }
+        this.bound = bound;
+        this.eviction = eviction;
+        this.heap = (T[]) new Comparable[Math.min(bound, Heap.DEFAULT_INITIAL_CAPACITY)];
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+    }
+
+    public MinMaxHeap(PerformanceTracker metrics) {
+        this(metrics, UNBOUNDED, Eviction.LARGEST);
+    }
+
+    public MinMaxHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== layout =====
+
+    private static boolean isMinLevel(int i) {
+        return (31 - Integer.numberOfLeadingZeros(i + 1) & 1) == 0;
+    }
+
+    /**
+     * Whether a belongs above b: smaller on a min level, larger on a max level.
+     */
+    private boolean precedes(T a, T b, boolean minLevel) {
+        metrics.comparisons++;
+        int cmp = a.compareTo(b);
+        return minLevel ? cmp < 0 : cmp > 0;
+    }
+
+    private int maxIndex() {
+        if (size <= 2) return size - 1;
+        metrics.arrayAccesses += 2;
+        metrics.comparisons++;
+        return heap[2].compareTo(heap[1]) > 0 ? 2 : 1;
+    }
+
+    // ===== core operations =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        offer(element);
+        return this;
+    }
+
+    /**
+     * Insert element; a full bounded heap first evicts its worst element, or rejects
+     * element if that is the worst one.
+     *
+     * @return the element that did not fit (possibly element itself), or null
+     */
+    public T offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+
+        T evicted = null;
+        if (size == bound) {
+            int worst = eviction == Eviction.LARGEST ? maxIndex() : 0;
+            metrics.arrayAccesses++;
+            metrics.comparisons++;
+            int cmp = element.compareTo(heap[worst]);
+            if (eviction == Eviction.LARGEST ? cmp >= 0 : cmp <= 0) {
+                return element;
+            }
+            evicted = removeAt(worst);
+        }
+
+        if (size == heap.length) {
+            resize((int) Math.min(bound, Math.max(2L * heap.length, 1)));
+        }
+
+        metrics.inserts++;
+        place(size, element);
+        size++;
+        pushUp(size - 1);
+        return evicted;
+    }
+
+    @Override
+    public T extractRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return removeAt(0);
+    }
+
+    public T extractMin() {
+        return extractRoot();
+    }
+
+    public T extractMax() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return removeAt(maxIndex());
+    }
+
+    @Override
+    public T peekRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        metrics.arrayAccesses++;
+        return heap[0];
+    }
+
+    public T peekMin() {
+        return peekRoot();
+    }
+
+    public T peekMax() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        metrics.arrayAccesses++;
+        return heap[maxIndex()];
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        metrics.arrayAccesses += size;
+        size = 0;
+        if (elementIndexMap != null) {
+            elementIndexMap.clear();
+        }
+    }
+
+    /**
+     * Remove an arbitrary element in O(log n).
+     * @return false if the element is not in the heap
+     */
+    public boolean remove(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot remove null element");
+        }
+        if (elementIndexMap == null) {
+            buildIndex();
+        }
+        Integer slot = elementIndexMap.get(element);
+        if (slot == null) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private T removeAt(int slot) {
+        metrics.extractions++;
+        metrics.arrayAccesses += 2;
+        T result = heap[slot];
+        T last = heap[--size];
+        heap[size] = null;
+        if (elementIndexMap != null) {
+            elementIndexMap.remove(result);
+        }
+        if (slot < size) {
+            place(slot, last);
+            restore(slot);
+        }
+        return result;
+    }
+
+    // ===== sifting =====
+
+    /**
+     * Re-establish the heap property around slot after its element was replaced.
+     * <p>
+     * If the element belongs on the other side of its parent, it swaps with the
+     * parent and climbs the parent's levels; the parent's old value, now at slot, is
+     * sifted down. Otherwise it climbs its own levels, or sinks if it does not climb.
+     */
+    private void restore(int slot) {
+        boolean minLevel = isMinLevel(slot);
+        if (slot > 0) {
+            int parent = (slot - 1) / 2;
+            metrics.arrayAccesses += 2;
+            if (precedes(heap[parent], heap[slot], minLevel)) {
+                swap(slot, parent);
+                pushUpOn(parent, !minLevel);
+                trickleDown(slot);
+                return;
+            }
+        }
+        if (!pushUpOn(slot, minLevel)) {
+            trickleDown(slot);
+        }
+    }
+
+    /**
+     * Atkinson's push-up for a new leaf.
+     */
+    private void pushUp(int slot) {
+        if (slot == 0) return;
+        boolean minLevel = isMinLevel(slot);
+        int parent = (slot - 1) / 2;
+        metrics.arrayAccesses += 2;
+        if (precedes(heap[parent], heap[slot], minLevel)) {
+            swap(slot, parent);
+            pushUpOn(parent, !minLevel);
+        } else {
+            pushUpOn(slot, minLevel);
+        }
+    }
+
+    /**
+     * Climb over grandparents, which share the slot's level type.
+     * @return whether the element moved
+     */
+    private boolean pushUpOn(int slot, boolean minLevel) {
+        boolean moved = false;
+        while (slot > 2) {
+            int grandparent = ((slot - 1) / 2 - 1) / 2;
+            metrics.arrayAccesses += 2;
+            if (!precedes(heap[slot], heap[grandparent], minLevel)) break;
+            swap(slot, grandparent);
+            slot = grandparent;
+            moved = true;
+        }
+        return moved;
+    }
+
+    /**
+     * Sink the element at slot: move it to the most extreme of its children and
+     * grandchildren while that one should be above it; after a grandchild swap, fix
+     * the order against the intermediate child.
+     */
+    private void trickleDown(int slot) {
+        boolean minLevel = isMinLevel(slot);
+        while (true) {
+            int firstChild = 2 * slot + 1;
+            if (firstChild >= size) return;
+
+            // Most extreme among up to 2 children and 4 grandchildren
+            int best = firstChild;
+            if (firstChild + 1 < size) {
+                metrics.arrayAccesses += 2;
+                if (precedes(heap[firstChild + 1], heap[best], minLevel)) best = firstChild + 1;
+            }
+            long firstGrandchild = 4L * slot + 3;
+            int lastGrandchild = (int) Math.min(firstGrandchild + 3, size - 1);
+            for (int g = (int) Math.min(firstGrandchild, size); g <= lastGrandchild; g++) {
+                metrics.arrayAccesses += 2;
+                if (precedes(heap[g], heap[best], minLevel)) best = g;
+            }
+
+            metrics.arrayAccesses += 2;
+            if (!precedes(heap[best], heap[slot], minLevel)) return;
+            swap(slot, best);
+            if (best <= firstChild + 1) return;
+
+            int parent = (best - 1) / 2;
+            metrics.arrayAccesses += 2;
+            if (precedes(heap[parent], heap[best], minLevel)) {
+                swap(best, parent);
+            }
+            slot = best;
+        }
+    }
+
+    private void swap(int i, int j) {
+        metrics.swaps++;
+        T temp = heap[i];
+        place(i, heap[j]);
+        place(j, temp);
+    }
+
+    private void place(int slot, T element) {
+        heap[slot] = element;
+        metrics.arrayAccesses++;
+        if (elementIndexMap != null) {
+            elementIndexMap.put(element, slot);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        metrics.allocations++;
+        metrics.resizes++;
+        T[] newHeap = (T[]) new Comparable[capacity];
+        System.arraycopy(heap, 0, newHeap, 0, size);
+        heap = newHeap;
+        metrics.arrayAccesses += size;
+    }
+
+    // ===== decreaseKey / merge / sort =====
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        if (oldValue == null || newValue == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+
+        if (elementIndexMap == null) {
+            buildIndex();
+        }
+
+        Integer slot = elementIndexMap.get(oldValue);
+        if (slot == null) {
+            throw new IllegalArgumentException("Element not found in heap");
+        }
+
+        metrics.decreaseKeys++;
+        metrics.comparisons++;
+        if (newValue.compareTo(oldValue) > 0) {
+            throw new IllegalArgumentException("Invalid decrease key operation");
+        }
+
+        elementIndexMap.remove(oldValue);
+        place(slot, newValue);
+        restore(slot);
+    }
+
+    private void buildIndex() {
+        elementIndexMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            elementIndexMap.put(heap[i], i);
+        }
+        metrics.arrayAccesses += size;
+    }
+
+    /**
+     * Add all elements of another MinMaxHeap or array-backed Heap, then rebuild with
+     * Floyd's method; a bounded heap then evicts down to its bound.
+     */
+    @Override
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+
+        T[] elements;
+        int count = other.size();
+        if (other instanceof MinMaxHeap<T> minMax) {
+            elements = minMax.heap;
+        } else if (other instanceof Heap<T> array) {
+            elements = array.heap;
+        } else {
+            throw new IllegalArgumentException("Can only merge with array-backed heaps");
+        }
+
+        long required = (long) size + count;
+        if (required > heap.length) {
+            resize((int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, 2L * heap.length)));
+        }
+        for (int i = 0; i < count; i++) {
+            place(size++, elements[i]);
+        }
+        metrics.inserts += count;
+        metrics.arrayAccesses += count;
+
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            trickleDown(i);
+        }
+        while (size > bound) {
+            removeAt(eviction == Eviction.LARGEST ? maxIndex() : 0);
+        }
+    }
+
+    @Override
+    public void sort() {
+        MinMaxHeap<T> copy = new MinMaxHeap<>(new PerformanceTracker());
+        copy.heap = heap.clone();
+        copy.size = size;
+
+        System.out.println("Sorted array:");
+        while (!copy.isEmpty()) {
+            System.out.println(copy.extractMin());
+        }
+    }
+
+    // ===== iteration =====
+
+    /**
+     * The backing array in slot order. streamSorted() keeps the copy-and-sort default:
+     * max levels break the parent-before-child order a lazy traversal relies on.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(heap, 0, size, Spliterator.NONNULL);
+    }
+
+    // utils
+
+    public boolean isBounded() {
+        return bound != UNBOUNDED;
+    }
+
+    public int getBound() {
+        return bound;
+    }
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return getClass().getSimpleName() + "[]";
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(heap[i]);
+            if (i < size - 1) sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
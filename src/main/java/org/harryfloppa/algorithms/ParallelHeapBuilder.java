@@ -0,0 +1,170 @@
+package org.harryfloppa.algorithms;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel Floyd heap construction on a plain array (0-based, children 2i+1 / 2i+2)
+ * <p>
+ * The two subtrees under a node are independent, so heapify(i) forks heapify(2i+1),
+ * runs heapify(2i+2) itself, joins and then sifts i down. Below the sequential cutoff
+ * a subtree is heapified in place level by level, bottom-up (plain Floyd restricted
+ * to the subtree), which keeps each task's accesses within a contiguous range per level.
+ * <p>
+ * Work is O(n) as in the sequential version; the critical path is the sift chain
+ * along the top log2(n / cutoff) levels, O(log^2 n) comparisons.
+ * <p>
+ * The builder works on the raw array only: callers that keep an element index must
+ * rebuild it afterwards. Comparisons are counted per task and summed, so the shared
+ * PerformanceTracker is never touched from worker threads.
+ */
+public final class ParallelHeapBuilder {
+
+    public static final int DEFAULT_CUTOFF = 1 << 14;
+
+    private ParallelHeapBuilder() {
+    }
+
+    /**
+     * Heapify a[0..n) on the common pool with the default cutoff.
+     * @return number of comparisons performed
+     */
+    public static <T> long heapify(T[] a, int n, Comparator<? super T> order) {
+        return heapify(a, n, order, ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Heapify a[0..n) so that order.compare(parent, child) <= 0 everywhere.
+     * @param pool Pool to run on; null runs sequentially in the caller
+     * @param cutoff Subtrees with fewer nodes than this are not split further
+     * @return number of comparisons performed
+     */
+    public static <T> long heapify(T[] a, int n, Comparator<? super T> order, ForkJoinPool pool, int cutoff) {
+        if (n < 0 || n > a.length) {
+            throw new IllegalArgumentException("Invalid heap size: " + n);
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        if (n < 2) return 0;
+
+        if (pool == null || n < cutoff || pool.getParallelism() == 1) {
+            return heapifySubtree(a, n, order, 0);
+        }
+        return pool.invoke(new HeapifyTask<>(a, n, order, cutoff, 0));
+    }
+
+    private static final class HeapifyTask<T> extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final int n;
+        private final Comparator<? super T> order;
+        private final int cutoff;
+        private final int root;
+
+        HeapifyTask(T[] a, int n, Comparator<? super T> order, int cutoff, int root) {
+            this.a = a;
+            this.n = n;
+            this.order = order;
+            this.cutoff = cutoff;
+            this.root = root;
+        }
+
+        @Override
+        protected Long compute() {
+            if (subtreeCapacity(root, n) < cutoff) {
+                return heapifySubtree(a, n, order, root);
+            }
+
+            int left = 2 * root + 1;
+            int right = left + 1;
+            long comparisons = 0;
+
+            HeapifyTask<T> leftTask = null;
+            if (left < n) {
+                leftTask = new HeapifyTask<>(a, n, order, cutoff, left);
+                leftTask.fork();
+            }
+            if (right < n) {
+                comparisons += new HeapifyTask<>(a, n, order, cutoff, right).compute();
+            }
+            if (leftTask != null) {
+                comparisons += leftTask.join();
+            }
+            return comparisons + siftDown(a, n, order, root);
+        }
+    }
+
+    /**
+     * Upper bound on the node count of the subtree rooted at i (full levels only).
+     */
+    private static long subtreeCapacity(int root, int n) {
+        long first = root;
+        long width = 1;
+        long capacity = 0;
+        while (first < n) {
+            capacity += width;
+            first = 2 * first + 1;
+            width <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Sequential Floyd over the subtree rooted at {@code root}: sift every inner node
+     * down, deepest level first.
+     */
+    private static <T> long heapifySubtree(T[] a, int n, Comparator<? super T> order, int root) {
+        int lastInner = (n - 2) / 2;
+        if (root > lastInner) return 0;
+
+        // Find the deepest level of the subtree that still contains inner nodes
+        long first = root;
+        long width = 1;
+        while (2 * first + 1 <= lastInner) {
+            first = 2 * first + 1;
+            width <<= 1;
+        }
+
+        long comparisons = 0;
+        while (width > 0) {
+            long last = Math.min(first + width - 1, lastInner);
+            for (long i = last; i >= first; i--) {
+                comparisons += siftDown(a, n, order, (int) i);
+            }
+            first = (first - 1) / 2;
+            width >>= 1;
+        }
+        return comparisons;
+    }
+
+    /**
+     * Hole-based sift-down of a[i] within a[0..n).
+     */
+    private static <T> long siftDown(T[] a, int n, Comparator<? super T> order, int i) {
+        T element = a[i];
+        long comparisons = 0;
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            T smallest = a[child];
+            int right = child + 1;
+            if (right < n) {
+                comparisons++;
+                if (order.compare(a[right], smallest) < 0) {
+                    child = right;
+                    smallest = a[right];
+                }
+            }
+            comparisons++;
+            if (order.compare(element, smallest) <= 0) break;
+            a[i] = smallest;
+            i = child;
+        }
+        a[i] = element;
+        return comparisons;
+    }
+}
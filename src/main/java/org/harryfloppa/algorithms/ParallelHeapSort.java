@@ -0,0 +1,499 @@
+package org.harryfloppa.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel heap sort for object and primitive arrays
+ * <p>
+ * 1. The array is cut into k chunks (about two per worker) and every chunk is heap
+ *    sorted in place, concurrently.
+ * 2. k - 1 splitters are chosen from a regular sample of the sorted chunks and every
+ *    chunk is cut at the splitters by binary search, giving k independent output
+ *    segments.
+ * 3. Each segment is produced by a k-way merge of its chunk slices, driven by a small
+ *    binary heap of run indices keyed by the run heads; segments merge in parallel
+ *    into a scratch buffer that is copied back at the end.
+ * <p>
+ * Without a pool (or on a single-worker pool, or below {@link #SEQUENTIAL_THRESHOLD}
+ * per chunk) the whole array is heap sorted sequentially. The sort is not stable.
+ */
+public final class ParallelHeapSort {
+
+    /** Minimum chunk length worth a task of its own */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int OVERSAMPLE = 32;
+
+    private ParallelHeapSort() {
+    }
+
+    // ===== object arrays =====
+
+    public static <T extends Comparable<? super T>> void sort(T[] a) {
+        sort(a, Comparator.naturalOrder(), ForkJoinPool.commonPool());
+    }
+
+    public static <T> void sort(T[] a, Comparator<? super T> order) {
+        sort(a, order, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Pool to sort on; null sorts sequentially in the caller
+     */
+    public static <T> void sort(T[] a, Comparator<? super T> order, ForkJoinPool pool) {
+        int n = a.length;
+        int k = chunkCount(n, pool);
+        if (k < 2) {
+            heapSort(a, 0, n, order);
+            return;
+        }
+
+        int[] bounds = bounds(n, k);
+        forEach(pool, k, i -> heapSort(a, bounds[i], bounds[i + 1], order));
+
+        Object[] sample = new Object[k * OVERSAMPLE];
+        for (int i = 0; i < k; i++) {
+            for (int s = 0; s < OVERSAMPLE; s++) {
+                sample[i * OVERSAMPLE + s] = a[samplePosition(bounds, i, s)];
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<Object> sampleOrder = (Comparator<Object>) order;
+        Arrays.sort(sample, sampleOrder);
+
+        int[][] cuts = new int[k][k + 1];
+        forEach(pool, k, chunk -> {
+            int[] cut = cuts[chunk];
+            cut[0] = bounds[chunk];
+            cut[k] = bounds[chunk + 1];
+            for (int j = 1; j < k; j++) {
+                @SuppressWarnings("unchecked")
+                T splitter = (T) sample[j * OVERSAMPLE];
+                cut[j] = lowerBound(a, cut[j - 1], cut[k], splitter, order);
+            }
+        });
+
+        int[] offsets = offsets(cuts, k);
+        Object[] buffer = new Object[n];
+        forEach(pool, k, j -> merge(a, buffer, cuts, j, offsets[j], order));
+        forEach(pool, k, j -> System.arraycopy(buffer, offsets[j], a, offsets[j], offsets[j + 1] - offsets[j]));
+    }
+
+    /**
+     * Sequential in-place heap sort of a[from..to).
+     */
+    public static <T> void heapSort(T[] a, int from, int to, Comparator<? super T> order) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownMax(a, from, i, n, order);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            T max = a[from];
+            a[from] = a[from + end];
+            a[from + end] = max;
+            siftDownMax(a, from, 0, end, order);
+        }
+    }
+
+    private static <T> void siftDownMax(T[] a, int base, int i, int n, Comparator<? super T> order) {
+        T element = a[base + i];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            T largest = a[base + child];
+            if (child + 1 < n && order.compare(a[base + child + 1], largest) > 0) {
+                child++;
+                largest = a[base + child];
+            }
+            if (order.compare(element, largest) >= 0) break;
+            a[base + i] = largest;
+            i = child;
+        }
+        a[base + i] = element;
+    }
+
+    private static <T> int lowerBound(T[] a, int lo, int hi, T key, Comparator<? super T> order) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (order.compare(a[mid], key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static <T> void merge(T[] a, Object[] out, int[][] cuts, int segment, int offset,
+                                  Comparator<? super T> order) {
+        int k = cuts.length;
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        int[] runs = new int[k];
+        int m = 0;
+        for (int[] cut : cuts) {
+            if (cut[segment] < cut[segment + 1]) {
+                pos[m] = cut[segment];
+                end[m] = cut[segment + 1];
+                runs[m] = m;
+                m++;
+            }
+        }
+        for (int i = m / 2 - 1; i >= 0; i--) {
+            siftRun(a, pos, runs, m, i, order);
+        }
+
+        while (m > 1) {
+            int run = runs[0];
+            out[offset++] = a[pos[run]++];
+            if (pos[run] == end[run]) {
+                runs[0] = runs[--m];
+            }
+            siftRun(a, pos, runs, m, 0, order);
+        }
+        if (m == 1) {
+            int run = runs[0];
+            System.arraycopy(a, pos[run], out, offset, end[run] - pos[run]);
+        }
+    }
+
+    private static <T> void siftRun(T[] a, int[] pos, int[] runs, int m, int i, Comparator<? super T> order) {
+        int run = runs[i];
+        T head = a[pos[run]];
+        int half = m >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < m && order.compare(a[pos[runs[child + 1]]], a[pos[runs[child]]]) < 0) {
+                child++;
+            }
+            if (order.compare(head, a[pos[runs[child]]]) <= 0) break;
+            runs[i] = runs[child];
+            i = child;
+        }
+        runs[i] = run;
+    }
+
+    // ===== int arrays =====
+
+    public static void sort(int[] a) {
+        sort(a, ForkJoinPool.commonPool());
+    }
+
+    public static void sort(int[] a, ForkJoinPool pool) {
+        int n = a.length;
+        int k = chunkCount(n, pool);
+        if (k < 2) {
+            heapSort(a, 0, n);
+            return;
+        }
+
+        int[] bounds = bounds(n, k);
+        forEach(pool, k, i -> heapSort(a, bounds[i], bounds[i + 1]));
+
+        int[] sample = new int[k * OVERSAMPLE];
+        for (int i = 0; i < k; i++) {
+            for (int s = 0; s < OVERSAMPLE; s++) {
+                sample[i * OVERSAMPLE + s] = a[samplePosition(bounds, i, s)];
+            }
+        }
+        Arrays.sort(sample);
+
+        int[][] cuts = new int[k][k + 1];
+        forEach(pool, k, chunk -> {
+            int[] cut = cuts[chunk];
+            cut[0] = bounds[chunk];
+            cut[k] = bounds[chunk + 1];
+            for (int j = 1; j < k; j++) {
+                cut[j] = lowerBound(a, cut[j - 1], cut[k], sample[j * OVERSAMPLE]);
+            }
+        });
+
+        int[] offsets = offsets(cuts, k);
+        int[] buffer = new int[n];
+        forEach(pool, k, j -> merge(a, buffer, cuts, j, offsets[j]));
+        forEach(pool, k, j -> System.arraycopy(buffer, offsets[j], a, offsets[j], offsets[j + 1] - offsets[j]));
+    }
+
+    public static void heapSort(int[] a, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownMax(a, from, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int max = a[from];
+            a[from] = a[from + end];
+            a[from + end] = max;
+            siftDownMax(a, from, 0, end);
+        }
+    }
+
+    private static void siftDownMax(int[] a, int base, int i, int n) {
+        int element = a[base + i];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int largest = a[base + child];
+            if (child + 1 < n && a[base + child + 1] > largest) {
+                child++;
+                largest = a[base + child];
+            }
+            if (element >= largest) break;
+            a[base + i] = largest;
+            i = child;
+        }
+        a[base + i] = element;
+    }
+
+    private static int lowerBound(int[] a, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static void merge(int[] a, int[] out, int[][] cuts, int segment, int offset) {
+        int k = cuts.length;
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        int[] runs = new int[k];
+        int m = 0;
+        for (int[] cut : cuts) {
+            if (cut[segment] < cut[segment + 1]) {
+                pos[m] = cut[segment];
+                end[m] = cut[segment + 1];
+                runs[m] = m;
+                m++;
+            }
+        }
+        for (int i = m / 2 - 1; i >= 0; i--) {
+            siftRun(a, pos, runs, m, i);
+        }
+
+        while (m > 1) {
+            int run = runs[0];
+            out[offset++] = a[pos[run]++];
+            if (pos[run] == end[run]) {
+                runs[0] = runs[--m];
+            }
+            siftRun(a, pos, runs, m, 0);
+        }
+        if (m == 1) {
+            int run = runs[0];
+            System.arraycopy(a, pos[run], out, offset, end[run] - pos[run]);
+        }
+    }
+
+    private static void siftRun(int[] a, int[] pos, int[] runs, int m, int i) {
+        int run = runs[i];
+        int head = a[pos[run]];
+        int half = m >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < m && a[pos[runs[child + 1]]] < a[pos[runs[child]]]) {
+                child++;
+            }
+            if (head <= a[pos[runs[child]]]) break;
+            runs[i] = runs[child];
+            i = child;
+        }
+        runs[i] = run;
+    }
+
+    // ===== long arrays =====
+
+    public static void sort(long[] a) {
+        sort(a, ForkJoinPool.commonPool());
+    }
+
+    public static void sort(long[] a, ForkJoinPool pool) {
+        int n = a.length;
+        int k = chunkCount(n, pool);
+        if (k < 2) {
+            heapSort(a, 0, n);
+            return;
+        }
+
+        int[] bounds = bounds(n, k);
+        forEach(pool, k, i -> heapSort(a, bounds[i], bounds[i + 1]));
+
+        long[] sample = new long[k * OVERSAMPLE];
+        for (int i = 0; i < k; i++) {
+            for (int s = 0; s < OVERSAMPLE; s++) {
+                sample[i * OVERSAMPLE + s] = a[samplePosition(bounds, i, s)];
+            }
+        }
+        Arrays.sort(sample);
+
+        int[][] cuts = new int[k][k + 1];
+        forEach(pool, k, chunk -> {
+            int[] cut = cuts[chunk];
+            cut[0] = bounds[chunk];
+            cut[k] = bounds[chunk + 1];
+            for (int j = 1; j < k; j++) {
+                cut[j] = lowerBound(a, cut[j - 1], cut[k], sample[j * OVERSAMPLE]);
+            }
+        });
+
+        int[] offsets = offsets(cuts, k);
+        long[] buffer = new long[n];
+        forEach(pool, k, j -> merge(a, buffer, cuts, j, offsets[j]));
+        forEach(pool, k, j -> System.arraycopy(buffer, offsets[j], a, offsets[j], offsets[j + 1] - offsets[j]));
+    }
+
+    public static void heapSort(long[] a, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownMax(a, from, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            long max = a[from];
+            a[from] = a[from + end];
+            a[from + end] = max;
+            siftDownMax(a, from, 0, end);
+        }
+    }
+
+    private static void siftDownMax(long[] a, int base, int i, int n) {
+        long element = a[base + i];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            long largest = a[base + child];
+            if (child + 1 < n && a[base + child + 1] > largest) {
+                child++;
+                largest = a[base + child];
+            }
+            if (element >= largest) break;
+            a[base + i] = largest;
+            i = child;
+        }
+        a[base + i] = element;
+    }
+
+    private static int lowerBound(long[] a, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static void merge(long[] a, long[] out, int[][] cuts, int segment, int offset) {
+        int k = cuts.length;
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        int[] runs = new int[k];
+        int m = 0;
+        for (int[] cut : cuts) {
+            if (cut[segment] < cut[segment + 1]) {
+                pos[m] = cut[segment];
+                end[m] = cut[segment + 1];
+                runs[m] = m;
+                m++;
+            }
+        }
+        for (int i = m / 2 - 1; i >= 0; i--) {
+            siftRun(a, pos, runs, m, i);
+        }
+
+        while (m > 1) {
+            int run = runs[0];
+            out[offset++] = a[pos[run]++];
+            if (pos[run] == end[run]) {
+                runs[0] = runs[--m];
+            }
+            siftRun(a, pos, runs, m, 0);
+        }
+        if (m == 1) {
+            int run = runs[0];
+            System.arraycopy(a, pos[run], out, offset, end[run] - pos[run]);
+        }
+    }
+
+    private static void siftRun(long[] a, int[] pos, int[] runs, int m, int i) {
+        int run = runs[i];
+        long head = a[pos[run]];
+        int half = m >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < m && a[pos[runs[child + 1]]] < a[pos[runs[child]]]) {
+                child++;
+            }
+            if (head <= a[pos[runs[child]]]) break;
+            runs[i] = runs[child];
+            i = child;
+        }
+        runs[i] = run;
+    }
+
+    // ===== shared planning =====
+
+    private static int chunkCount(int n, ForkJoinPool pool) {
+        if (pool == null || pool.getParallelism() < 2 || n < 2 * SEQUENTIAL_THRESHOLD) {
+            return 1;
+        }
+        return Math.min(2 * pool.getParallelism(), n / SEQUENTIAL_THRESHOLD);
+    }
+
+    private static int[] bounds(int n, int k) {
+        int[] bounds = new int[k + 1];
+        for (int i = 0; i <= k; i++) {
+            bounds[i] = (int) ((long) n * i / k);
+        }
+        return bounds;
+    }
+
+    /**
+     * Position of the s-th of OVERSAMPLE evenly spaced samples in chunk i.
+     */
+    private static int samplePosition(int[] bounds, int chunk, int s) {
+        long length = bounds[chunk + 1] - bounds[chunk];
+        return bounds[chunk] + (int) (length * (2 * s + 1) / (2 * OVERSAMPLE));
+    }
+
+    /**
+     * offsets[j] = output position of segment j; offsets[k] = n.
+     */
+    private static int[] offsets(int[][] cuts, int k) {
+        int[] offsets = new int[k + 1];
+        for (int j = 0; j <= k; j++) {
+            int offset = 0;
+            for (int[] cut : cuts) {
+                offset += cut[j] - cut[0];
+            }
+            offsets[j] = offset;
+        }
+        return offsets;
+    }
+
+    private static void forEach(ForkJoinPool pool, int count, IntConsumer body) {
+        pool.invoke(new RangeAction(0, count, body));
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, body), new RangeAction(mid, to, body));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.harryfloppa.algorithms;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable min-priority queue: a skew binomial heap (Brodal and Okasaki)
+ * <p>
+ * Every update returns a new version and leaves the old one untouched; versions share
+ * all unchanged structure. Versions are deeply immutable (final fields only), so any
+ * version can be read from any thread without locking, e.g. as a consistent snapshot
+ * while a writer keeps producing newer versions.
+ * <p>
+ * Structure: a list of skew binomial trees in increasing rank order (only the first
+ * two may share a rank). A tree of rank r has up to r extra elements stored beside
+ * its root, so insert links at most two trees and costs O(1) worst case.
+ * - insert: O(1)
+ * - peekMin: O(1), the minimum is held outside the trees (Brodal and Okasaki's
+ *   bootstrapping, without the recursive part)
+ * - deleteMin, meld: O(log n)
+ * Each update allocates O(1) (insert) or O(log n) (deleteMin, meld) new nodes.
+ */
+public final class PersistentPriorityQueue<T extends Comparable<T>> {
+
+    /**
+     * Immutable singly linked list; null is the empty list.
+     */
+    private static final class Cons<E> {
+        final E head;
+        final Cons<E> tail;
+
+        Cons(E head, Cons<E> tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+    }
+
+    private static final class Tree<T> {
+        final int rank;
+        final T root;
+        final Cons<T> extras;
+        final Cons<Tree<T>> children;
+
+        Tree(int rank, T root, Cons<T> extras, Cons<Tree<T>> children) {
+            this.rank = rank;
+            this.root = root;
+            this.extras = extras;
+            this.children = children;
+        }
+    }
+
+    private static final PersistentPriorityQueue<?> EMPTY = new PersistentPriorityQueue<>(null, null, 0);
+
+    /** Smallest element, kept outside the trees; null when empty */
+    private final T min;
+    /** All other elements */
+    private final Cons<Tree<T>> trees;
+    private final int size;
+
+    private PersistentPriorityQueue(T min, Cons<Tree<T>> trees, int size) {
+        this.min = min;
+        this.trees = trees;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentPriorityQueue<T> empty() {
+        return (PersistentPriorityQueue<T>) EMPTY;
+    }
+
+    // ===== operations =====
+
+    public PersistentPriorityQueue<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+        if (isEmpty()) {
+            return new PersistentPriorityQueue<>(element, null, 1);
+        }
+        if (element.compareTo(min) < 0) {
+            return new PersistentPriorityQueue<>(element, insertTree(min, trees), size + 1);
+        }
+        return new PersistentPriorityQueue<>(min, insertTree(element, trees), size + 1);
+    }
+
+    public T peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return min;
+    }
+
+    /**
+     * The queue without its minimum: the smallest tree root becomes the new minimum.
+     */
+    public PersistentPriorityQueue<T> deleteMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+
+        Tree<T> minTree = trees.head;
+        for (Cons<Tree<T>> t = trees.tail; t != null; t = t.tail) {
+            if (t.head.root.compareTo(minTree.root) < 0) {
+                minTree = t.head;
+            }
+        }
+        Cons<Tree<T>> rest = without(trees, minTree);
+
+        // Its children are in decreasing rank order; reversed they form a valid heap
+        Cons<Tree<T>> children = null;
+        for (Cons<Tree<T>> c = minTree.children; c != null; c = c.tail) {
+            children = new Cons<>(c.head, children);
+        }
+        Cons<Tree<T>> merged = mergeTrees(normalize(rest), normalize(children));
+        for (Cons<T> x = minTree.extras; x != null; x = x.tail) {
+            merged = insertTree(x.head, merged);
+        }
+        return new PersistentPriorityQueue<>(minTree.root, merged, size - 1);
+    }
+
+    public PersistentPriorityQueue<T> meld(PersistentPriorityQueue<T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Other queue cannot be null");
+        }
+        if (other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        PersistentPriorityQueue<T> low = other.min.compareTo(min) < 0 ? other : this;
+        PersistentPriorityQueue<T> high = low == this ? other : this;
+        Cons<Tree<T>> merged = mergeTrees(normalize(trees), normalize(other.trees));
+        return new PersistentPriorityQueue<>(low.min, insertTree(high.min, merged), size + other.size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ===== skew binomial trees =====
+
+    private static <T extends Comparable<T>> Tree<T> link(Tree<T> a, Tree<T> b) {
+        if (b.root.compareTo(a.root) < 0) {
+            Tree<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        return new Tree<>(a.rank + 1, a.root, a.extras, new Cons<>(b, a.children));
+    }
+
+    private static <T extends Comparable<T>> Tree<T> skewLink(T element, Tree<T> a, Tree<T> b) {
+        Tree<T> linked = link(a, b);
+        if (element.compareTo(linked.root) <= 0) {
+            return new Tree<>(linked.rank, element, new Cons<>(linked.root, linked.extras), linked.children);
+        }
+        return new Tree<>(linked.rank, linked.root, new Cons<>(element, linked.extras), linked.children);
+    }
+
+    private static <T extends Comparable<T>> Cons<Tree<T>> insertTree(T element, Cons<Tree<T>> trees) {
+        if (trees != null && trees.tail != null && trees.head.rank == trees.tail.head.rank) {
+            return new Cons<>(skewLink(element, trees.head, trees.tail.head), trees.tail.tail);
+        }
+        return new Cons<>(new Tree<>(0, element, null, null), trees);
+    }
+
+    /**
+     * Insert a tree into a list whose first rank is at least the tree's, carrying
+     * links like binary addition.
+     */
+    private static <T extends Comparable<T>> Cons<Tree<T>> carry(Tree<T> tree, Cons<Tree<T>> trees) {
+        while (trees != null && trees.head.rank == tree.rank) {
+            tree = link(tree, trees.head);
+            trees = trees.tail;
+        }
+        return new Cons<>(tree, trees);
+    }
+
+    /**
+     * Remove a possible duplicate rank at the front, so every rank is unique.
+     */
+    private static <T extends Comparable<T>> Cons<Tree<T>> normalize(Cons<Tree<T>> trees) {
+        return trees == null ? null : carry(trees.head, trees.tail);
+    }
+
+    private static <T extends Comparable<T>> Cons<Tree<T>> mergeTrees(Cons<Tree<T>> a, Cons<Tree<T>> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.head.rank < b.head.rank) {
+            return new Cons<>(a.head, mergeTrees(a.tail, b));
+        }
+        if (b.head.rank < a.head.rank) {
+            return new Cons<>(b.head, mergeTrees(a, b.tail));
+        }
+        return carry(link(a.head, b.head), mergeTrees(a.tail, b.tail));
+    }
+
+    private static <T> Cons<Tree<T>> without(Cons<Tree<T>> trees, Tree<T> tree) {
+        if (trees.head == tree) return trees.tail;
+        return new Cons<>(trees.head, without(trees.tail, tree));
+    }
+
+    // utils
+
+    /**
+     * The minimum first, then the remaining elements in tree order.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        if (size > 0) {
+            sb.append(min);
+        }
+        Cons<Tree<T>> pending = trees;
+        while (pending != null) {
+            Tree<T> tree = pending.head;
+            pending = pending.tail;
+            sb.append(", ").append(tree.root);
+            for (Cons<T> x = tree.extras; x != null; x = x.tail) {
+                sb.append(", ").append(x.head);
+            }
+            for (Cons<Tree<T>> c = tree.children; c != null; c = c.tail) {
+                pending = new Cons<>(c.head, pending);
+            }
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,38 @@
+package org.harryfloppa.algorithms;
+
+/**
+ * Scalar loop over the children, the fallback when the Vector API is unavailable.
+ */
+final class ScalarChildSelector implements ChildSelector {
+
+    @Override
+    public int minInt(int[] keys, int from, int to) {
+        int best = from;
+        int bestKey = keys[from];
+        for (int i = from + 1; i < to; i++) {
+            if (keys[i] < bestKey) {
+                bestKey = keys[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int minLong(long[] keys, int from, int to) {
+        int best = from;
+        long bestKey = keys[from];
+        for (int i = from + 1; i < to; i++) {
+            if (keys[i] < bestKey) {
+                bestKey = keys[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,53 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * Skew min-heap: the self-adjusting variant of the leftist heap
+ * <p>
+ * No rank is stored; every node on a meld path unconditionally swaps its children.
+ * Meld, insert and extractRoot are O(log n) amortized, but a single operation can
+ * walk a long right spine, and in persistent mode the amortized bound does not hold
+ * when an old version is operated on repeatedly - use {@link LeftistHeap} for
+ * worst-case bounds. See {@link MeldableHeap} for the destructive and persistent modes.
+ */
+public class SkewHeap<T extends Comparable<T>> extends MeldableHeap<T> {
+
+    public SkewHeap(PerformanceTracker metrics, boolean persistent) {
+        super(metrics, persistent);
+    }
+
+    public SkewHeap(PerformanceTracker metrics) {
+        this(metrics, false);
+    }
+
+    public SkewHeap() {
+        this(new PerformanceTracker());
+    }
+
+    private SkewHeap(PerformanceTracker metrics, Node<T> root, int size) {
+        super(metrics, true, root, size);
+    }
+
+    @Override
+    protected void fixNode(Node<T> node) {
+        Node<T> temp = node.left;
+        node.left = node.right;
+        node.right = temp;
+    }
+
+    @Override
+    protected SkewHeap<T> withRoot(Node<T> root, int size) {
+        return new SkewHeap<>(new PerformanceTracker(), root, size);
+    }
+
+    @Override
+    public SkewHeap<T> meld(MeldableHeap<T> other) {
+        return (SkewHeap<T>) super.meld(other);
+    }
+
+    @Override
+    public SkewHeap<T> snapshot() {
+        return (SkewHeap<T>) super.snapshot();
+    }
+}
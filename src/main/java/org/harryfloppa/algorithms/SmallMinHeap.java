@@ -0,0 +1,195 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * Min-heap with a fast path for tiny queues
+ * <p>
+ * Up to {@code threshold} elements (DEFAULT_THRESHOLD unless given) live in a
+ * {@link SortedArrayHeap}: one array allocated up front, binary insertion, no index
+ * map and no resizes. The insert that would overflow it promotes the heap to an
+ * indexed {@link MinHeap} pre-sized to twice the threshold; the sorted array is handed
+ * over as is (an ascending array already is a heap). The promotion is one-way, so a
+ * heap that grew once does not thrash around the threshold; {@link AdaptiveHeap} also
+ * moves back to the small representation.
+ * <p>
+ * Both representations support decreaseKey with MinHeap's semantics and error
+ * messages; in the small mode it finds the element with an equals() scan.
+ */
+public class SmallMinHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    public static final int DEFAULT_THRESHOLD = 32;
+
+    private final PerformanceTracker metrics;
+    private final int threshold;
+    /** Exactly one of the two is non-null */
+    private SortedArrayHeap<T> small;
+    private MinHeap<T> large;
+
+    public SmallMinHeap(PerformanceTracker metrics, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+        this.threshold = threshold;
+        this.small = new SortedArrayHeap<>(this.metrics, threshold);
+    }
+
+    public SmallMinHeap(PerformanceTracker metrics) {
+        this(metrics, DEFAULT_THRESHOLD);
+    }
+
+    public SmallMinHeap() {
+        this(new PerformanceTracker());
+    }
+
+    // ===== core operations =====
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (large == null) {
+            if (small.size < threshold || element == null) {
+                small.insert(element);
+                return this;
+            }
+            promote();
+        }
+        large.insert(element);
+        return this;
+    }
+
+    @Override
+    public T extractRoot() {
+        return large == null ? small.extractRoot() : large.extractRoot();
+    }
+
+    @Override
+    public T peekRoot() {
+        return large == null ? small.peekRoot() : large.peekRoot();
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return large == null ? small.size == 0 : large.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return large == null ? small.size : large.size();
+    }
+
+    /**
+     * Empty whichever representation is in use; a promoted heap stays promoted and
+     * keeps its array.
+     */
+    @Override
+    public void clear() {
+        if (large == null) {
+            small.clear();
+        } else {
+            large.clear();
+        }
+    }
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        if (large == null) {
+            small.decreaseKey(oldValue, newValue);
+        } else {
+            large.decreaseKey(oldValue, newValue);
+        }
+    }
+
+    /**
+     * Insert a copy of the other heap's elements; the other heap is unchanged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+        // Copy first: works for any IHeap, including this one
+        Object[] elements = other.stream().toArray();
+        if (large == null && small.size + elements.length > threshold) {
+            promote();
+        }
+        if (large == null) {
+            for (Object element : elements) {
+                small.insert((T) element);
+            }
+        } else {
+            T[] batch = (T[]) new Comparable[elements.length];
+            System.arraycopy(elements, 0, batch, 0, elements.length);
+            large.addAll(batch);
+        }
+    }
+
+    @Override
+    public void sort() {
+        if (large == null) {
+            small.sort();
+        } else {
+            large.sort();
+        }
+    }
+
+    /**
+     * Move the sorted elements into a MinHeap of twice the threshold.
+     */
+    private void promote() {
+        MinHeap<T> heap = new MinHeap<>(metrics, 2 * threshold, Heap.DEFAULT_GROWTH_FACTOR);
+        long inserts = metrics.inserts;
+        heap.restore(small.items, small.size);
+        metrics.inserts = inserts;
+        large = heap;
+        small = null;
+    }
+
+    // ===== iteration =====
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return large == null ? small.spliterator() : large.spliterator();
+    }
+
+    @Override
+    public Stream<T> streamSorted() {
+        return large == null ? small.streamSorted() : large.streamSorted();
+    }
+
+    // utils
+
+    /**
+     * Whether the heap has outgrown the sorted array.
+     */
+    public boolean isPromoted() {
+        return large != null;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    public void resetMetrics() {
+        metrics.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + (large == null ? "sorted" : "promoted")
+                + ", size=" + size() + "]";
+    }
+}
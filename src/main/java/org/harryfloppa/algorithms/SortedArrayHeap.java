@@ -0,0 +1,203 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+/**
+ * Min-heap for a handful of elements: a fixed-capacity array kept in ascending order
+ * <p>
+ * insert is a binary search plus a shift, extractRoot a shift; both move at most
+ * capacity references, which for a few dozen elements beats sifting and needs no
+ * index. decreaseKey finds the element with a linear equals() scan. Equal elements
+ * come out in insertion order.
+ * <p>
+ * An ascending array is also a valid binary min-heap, so {@link AdaptiveHeap} hands
+ * the array to an array heap without reordering it.
+ */
+final class SortedArrayHeap<T extends Comparable<T>> implements IHeap<T> {
+
+    T[] items;
+    int size = 0;
+    private final PerformanceTracker metrics;
+
+    @SuppressWarnings("unchecked")
+    SortedArrayHeap(PerformanceTracker metrics, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.items = (T[]) new Comparable[capacity];
+        this.metrics = metrics != null ? metrics : new PerformanceTracker();
+    }
+
+    int capacity() {
+        return items.length;
+    }
+
+    /**
+     * First slot in [0, end) whose element is greater than element.
+     */
+    private int upperBound(T element, int end) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            metrics.comparisons++;
+            if (items[mid].compareTo(element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public IHeap<T> insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+        if (size == items.length) {
+            throw new IllegalStateException("Sorted array heap is full: " + size);
+        }
+
+        metrics.inserts++;
+        int slot = upperBound(element, size);
+        System.arraycopy(items, slot, items, slot + 1, size - slot);
+        items[slot] = element;
+        metrics.arrayAccesses += size - slot + 1;
+        size++;
+        return this;
+    }
+
+    @Override
+    public T extractRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        metrics.extractions++;
+        T result = items[0];
+        System.arraycopy(items, 1, items, 0, --size);
+        items[size] = null;
+        metrics.arrayAccesses += size + 1;
+        return result;
+    }
+
+    @Override
+    public T peekRoot() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        metrics.arrayAccesses++;
+        return items[0];
+    }
+
+    @Override
+    public T getRoot() {
+        return extractRoot();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        metrics.arrayAccesses += size;
+        size = 0;
+    }
+
+    @Override
+    public void decreaseKey(T oldValue, T newValue) {
+        if (oldValue == null || newValue == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        int index = 0;
+        while (index < size && !items[index].equals(oldValue)) {
+            index++;
+        }
+        metrics.arrayAccesses += index + 1;
+        if (index == size) {
+            throw new IllegalArgumentException("Element not found in heap");
+        }
+
+        metrics.decreaseKeys++;
+        metrics.comparisons++;
+        if (newValue.compareTo(oldValue) > 0) {
+            throw new IllegalArgumentException("Invalid decrease key operation");
+        }
+
+        int slot = upperBound(newValue, index);
+        System.arraycopy(items, slot, items, slot + 1, index - slot);
+        items[slot] = newValue;
+        metrics.arrayAccesses += index - slot + 1;
+    }
+
+    /**
+     * Insert a copy of the other heap's elements; the other heap is unchanged.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void merge(IHeap<T> other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+        if (size + other.size() > items.length) {
+            throw new IllegalStateException("Merged heap would exceed the capacity of " + items.length);
+        }
+        for (Object element : other.stream().toArray()) {
+            insert((T) element);
+        }
+    }
+
+    @Override
+    public void sort() {
+        System.out.println("Sorted array:");
+        for (int i = 0; i < size; i++) {
+            System.out.println(items[i]);
+        }
+    }
+
+    // ===== iteration =====
+
+    /**
+     * Ascending order: the array itself.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(items, 0, size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Stream<T> streamSorted() {
+        return stream();
+    }
+
+    // utils
+
+    public PerformanceTracker getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? ", " : "").append(items[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,98 @@
+package org.harryfloppa.algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Child selection with the Vector API, the only class that references
+ * jdk.incubator.vector (see {@link ChildSelectors}).
+ * <p>
+ * Children are consumed in full vectors of the platform's preferred width (16 ints
+ * with AVX-512, 8 with AVX2), then at most one vector of half that width, then a
+ * scalar tail, so no load is ever masked. Each vector is reduced with MIN and only
+ * when it beats the best key so far is the index looked up, as the first lane equal
+ * to the minimum. A node of 8 or 16 int children thus costs one or two reductions
+ * instead of one branch per child.
+ */
+final class VectorChildSelector implements ChildSelector {
+
+    private static final VectorSpecies<Integer> WIDE_INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> NARROW_INTS = IntVector.SPECIES_PREFERRED.withShape(half(WIDE_INTS));
+    private static final VectorSpecies<Long> WIDE_LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> NARROW_LONGS = LongVector.SPECIES_PREFERRED.withShape(half(WIDE_LONGS));
+
+    private static VectorShape half(VectorSpecies<?> species) {
+        int bits = Math.max(64, species.vectorBitSize() / 2);
+        return VectorShape.forBitSize(bits);
+    }
+
+    @Override
+    public int minInt(int[] keys, int from, int to) {
+        int best = from;
+        int bestKey = keys[from];
+        int i = from;
+        for (; i + WIDE_INTS.length() <= to; i += WIDE_INTS.length()) {
+            IntVector chunk = IntVector.fromArray(WIDE_INTS, keys, i);
+            int min = chunk.reduceLanes(VectorOperators.MIN);
+            if (min < bestKey) {
+                bestKey = min;
+                best = i + chunk.compare(VectorOperators.EQ, min).firstTrue();
+            }
+        }
+        if (i + NARROW_INTS.length() <= to) {
+            IntVector chunk = IntVector.fromArray(NARROW_INTS, keys, i);
+            int min = chunk.reduceLanes(VectorOperators.MIN);
+            if (min < bestKey) {
+                bestKey = min;
+                best = i + chunk.compare(VectorOperators.EQ, min).firstTrue();
+            }
+            i += NARROW_INTS.length();
+        }
+        for (; i < to; i++) {
+            if (keys[i] < bestKey) {
+                bestKey = keys[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int minLong(long[] keys, int from, int to) {
+        int best = from;
+        long bestKey = keys[from];
+        int i = from;
+        for (; i + WIDE_LONGS.length() <= to; i += WIDE_LONGS.length()) {
+            LongVector chunk = LongVector.fromArray(WIDE_LONGS, keys, i);
+            long min = chunk.reduceLanes(VectorOperators.MIN);
+            if (min < bestKey) {
+                bestKey = min;
+                best = i + chunk.compare(VectorOperators.EQ, min).firstTrue();
+            }
+        }
+        if (i + NARROW_LONGS.length() <= to) {
+            LongVector chunk = LongVector.fromArray(NARROW_LONGS, keys, i);
+            long min = chunk.reduceLanes(VectorOperators.MIN);
+            if (min < bestKey) {
+                bestKey = min;
+                best = i + chunk.compare(VectorOperators.EQ, min).firstTrue();
+            }
+            i += NARROW_LONGS.length();
+        }
+        for (; i < to; i++) {
+            if (keys[i] < bestKey) {
+                bestKey = keys[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "vector(" + WIDE_INTS.vectorBitSize() + " bit)";
+    }
+}
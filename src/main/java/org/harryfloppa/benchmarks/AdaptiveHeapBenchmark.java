@@ -0,0 +1,140 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.AdaptiveHeap;
+import org.harryfloppa.algorithms.BottomUpMinHeap;
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.graph.CsrGraph;
+import org.harryfloppa.graph.GraphGenerator;
+import org.harryfloppa.graph.QueueMode;
+import org.harryfloppa.graph.ShortestPaths;
+import org.harryfloppa.graph.VertexLabel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptiveHeap against the fixed representations it chooses from, per workload phase.
+ * <p>
+ * - TINY: 20,000 short-lived heaps, each filled to 8 labels, cycled 32 times, drained
+ * - BUILD_DRAIN: 200,000 inserts, then extract everything
+ * - DIJKSTRA: single-source shortest paths on a 300x300 road grid; LEAN_MIN_HEAP has
+ *   no decreaseKey and runs with QueueMode.LAZY_INSERT
+ * - PHASED: one long-lived heap goes through a tiny steady state (100,000 operations
+ *   at size 8), a build-and-drain and a Dijkstra run in turn
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdaptiveHeapBenchmark {
+
+    public enum Variant {
+        ADAPTIVE, MIN_HEAP, LEAN_MIN_HEAP, BOTTOM_UP_MIN_HEAP;
+
+        IHeap<VertexLabel> create() {
+            switch (this) {
+                case ADAPTIVE:
+                    return new AdaptiveHeap<>();
+                case MIN_HEAP:
+                    return new MinHeap<>();
+                case LEAN_MIN_HEAP:
+                    return new LeanMinHeap<>();
+                default:
+                    return new BottomUpMinHeap<>();
+            }
+        }
+    }
+
+    public enum Phase {
+        TINY, BUILD_DRAIN, DIJKSTRA, PHASED
+    }
+
+    private static final int TINY_HEAPS = 20_000;
+    private static final int STEADY_OPERATIONS = 100_000;
+    private static final int BUILD_SIZE = 200_000;
+
+    @Param({"ADAPTIVE", "MIN_HEAP", "LEAN_MIN_HEAP", "BOTTOM_UP_MIN_HEAP"})
+    public Variant variant;
+
+    @Param({"TINY", "BUILD_DRAIN", "DIJKSTRA", "PHASED"})
+    public Phase phase;
+
+    private VertexLabel[] labels;
+    private CsrGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        labels = new VertexLabel[BUILD_SIZE];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = new VertexLabel(i, rand.nextInt(10 * BUILD_SIZE));
+        }
+        graph = GraphGenerator.roadNetwork(300, 300, 42);
+    }
+
+    @Benchmark
+    public long run() {
+        switch (phase) {
+            case TINY: {
+                long sum = 0;
+                for (int h = 0; h < TINY_HEAPS; h++) {
+                    IHeap<VertexLabel> heap = variant.create();
+                    sum += steady(heap, h * 64, 32);
+                    while (!heap.isEmpty()) {
+                        sum += heap.extractRoot().priority;
+                    }
+                }
+                return sum;
+            }
+            case BUILD_DRAIN:
+                return buildAndDrain(variant.create());
+            case DIJKSTRA:
+                return dijkstra(variant.create());
+            default: {
+                IHeap<VertexLabel> heap = variant.create();
+                long sum = steady(heap, 0, STEADY_OPERATIONS / 2);
+                while (!heap.isEmpty()) {
+                    sum += heap.extractRoot().priority;
+                }
+                return sum + buildAndDrain(heap) + dijkstra(heap);
+            }
+        }
+    }
+
+    /**
+     * Fill to 8, then alternate insert and extract.
+     */
+    private long steady(IHeap<VertexLabel> heap, int offset, int cycles) {
+        long sum = 0;
+        int next = offset;
+        for (int i = 0; i < 8; i++) {
+            heap.insert(labels[next++ % labels.length]);
+        }
+        for (int i = 0; i < cycles; i++) {
+            heap.insert(labels[next++ % labels.length]);
+            sum += heap.extractRoot().priority;
+        }
+        return sum;
+    }
+
+    private long buildAndDrain(IHeap<VertexLabel> heap) {
+        for (VertexLabel label : labels) {
+            heap.insert(label);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.extractRoot().priority;
+        }
+        return sum;
+    }
+
+    private long dijkstra(IHeap<VertexLabel> heap) {
+        QueueMode mode = variant == Variant.LEAN_MIN_HEAP ? QueueMode.LAZY_INSERT : QueueMode.DECREASE_KEY;
+        return ShortestPaths.dijkstra(graph, 0, heap, mode).settled();
+    }
+}
@@ -0,0 +1,100 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched insert/extract versus element-at-a-time calls on a MinHeap kept at
+ * {@code size} elements.
+ * <p>
+ * Each invocation inserts {@code batch} fresh elements and removes {@code batch}
+ * elements, either through insertBatch/extractBatch or through insert/extractRoot
+ * loops, so the heap size stays constant. main() divides the scores by the batch
+ * size and prints the per-element cost:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.BatchOperationsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchOperationsBenchmark {
+
+    @Param({"1", "8", "64", "256", "1024"})
+    public int batch;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private MinHeap<Integer> heap;
+    private Integer[] stream;
+    private Integer[] in;
+    private Integer[] out;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        heap = new MinHeap<>();
+        for (int i = 0; i < size; i++) {
+            heap.insert(rand.nextInt(Integer.MAX_VALUE));
+        }
+        stream = new Integer[1 << 16];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = rand.nextInt(Integer.MAX_VALUE);
+        }
+        in = new Integer[batch];
+        out = new Integer[batch];
+    }
+
+    private void nextBatch() {
+        for (int i = 0; i < batch; i++) {
+            in[i] = stream[cursor++ & (stream.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Integer[] batched() {
+        nextBatch();
+        heap.insertBatch(in, 0, batch);
+        heap.extractBatch(batch, out);
+        return out;
+    }
+
+    @Benchmark
+    public Integer[] single() {
+        nextBatch();
+        for (int i = 0; i < batch; i++) {
+            heap.insert(in[i]);
+        }
+        for (int i = 0; i < batch; i++) {
+            out[i] = heap.extractRoot();
+        }
+        return out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(BatchOperationsBenchmark.class.getSimpleName())
+                .build()).run();
+
+        System.out.println("\nPer-element cost (insert + extract), ns:");
+        for (RunResult result : results) {
+            int batch = Integer.parseInt(result.getParams().getParam("batch"));
+            System.out.printf("  %-8s size=%-8s batch=%-5d %10.1f%n",
+                    result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                    result.getParams().getParam("size"), batch,
+                    result.getPrimaryResult().getScore() / batch);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.BlockedHeap;
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.LinuxPerfNormProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache/TLB behaviour of the blocked layout versus the BFS array layout on very
+ * large heaps.
+ * <p>
+ * Layouts:
+ * - MIN_HEAP: the project's MinHeap (BFS array + HashMap index)
+ * - BFS: BlockedHeap with one level per block, i.e. the plain BFS layout without an
+ *   index, isolating the layout effect from the index cost
+ * - CACHE_LINE: 4 levels per block (16 references, one 64-byte line)
+ * - PAGE: 10 levels per block (1024 references, one 4 KiB page)
+ * <p>
+ * Each operation is an insert + extractRoot pair on a heap of {@code size} elements,
+ * so every sift walks the full height. Run via main() to get hardware counters
+ * (cache-misses, dTLB-load-misses per op) from {@code -prof perfnorm} when Linux perf
+ * is available:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.BlockedHeapBenchmark
+ * The 10^8 size needs a machine with well over 24 GB of RAM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms24g", "-Xmx24g", "-XX:+AlwaysPreTouch"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BlockedHeapBenchmark {
+
+    public enum Layout {
+        MIN_HEAP, BFS, CACHE_LINE, PAGE;
+
+        IHeap<Integer> create() {
+            return switch (this) {
+                case MIN_HEAP -> new MinHeap<>();
+                case BFS -> new BlockedHeap<>(null, 1);
+                case CACHE_LINE -> new BlockedHeap<>(null, 4);
+                case PAGE -> new BlockedHeap<>(null, 10);
+            };
+        }
+    }
+
+    @Param({"MIN_HEAP", "BFS", "CACHE_LINE", "PAGE"})
+    public Layout layout;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    private IHeap<Integer> heap;
+    private Integer[] stream;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        heap = layout.create();
+        for (int i = 0; i < size; i++) {
+            heap.insert(rand.nextInt(Integer.MAX_VALUE));
+        }
+        stream = new Integer[1 << 16];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = rand.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public Integer insertExtract() {
+        heap.insert(stream[cursor++ & (stream.length - 1)]);
+        return heap.extractRoot();
+    }
+
+    /**
+     * Deep sift-down only: extract the root and put back a large key, so the
+     * replacement travels to the bottom on almost every call.
+     */
+    @Benchmark
+    public Integer extractDeep() {
+        Integer root = heap.extractRoot();
+        heap.insert(Integer.MAX_VALUE - (cursor++ & 0xFFFF));
+        return root;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(BlockedHeapBenchmark.class.getSimpleName());
+        if (perfAvailable()) {
+            builder.addProfiler(LinuxPerfNormProfiler.class);
+        } else {
+            System.out.println("Linux perf not available; running without -prof perfnorm");
+        }
+        new Runner(builder.build()).run();
+    }
+
+    private static boolean perfAvailable() {
+        try {
+            Process process = new ProcessBuilder("perf", "stat", "-e", "cache-misses", "true")
+                    .redirectErrorStream(true).start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
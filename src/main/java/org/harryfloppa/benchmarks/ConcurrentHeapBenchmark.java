@@ -0,0 +1,136 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.LockFreeSkipListHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Multi-threaded throughput of concurrent priority queues.
+ * <p>
+ * Queues:
+ * - LOCK_FREE_SKIPLIST: {@link LockFreeSkipListHeap}
+ * - PRIORITY_BLOCKING_QUEUE: java.util.concurrent.PriorityBlockingQueue (one lock)
+ * - LOCKED_MIN_HEAP: the project's MinHeap behind a ReentrantLock
+ * <p>
+ * Every thread runs balanced insert + extract pairs on a shared queue prefilled with
+ * {@code size} elements, so the queue size stays roughly constant.
+ * main() repeats the run for 1, 2, 4, ... threads up to the core count:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.ConcurrentHeapBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConcurrentHeapBenchmark {
+
+    public enum Queue {
+        LOCK_FREE_SKIPLIST, PRIORITY_BLOCKING_QUEUE, LOCKED_MIN_HEAP;
+
+        SharedQueue create() {
+            return switch (this) {
+                case LOCK_FREE_SKIPLIST -> new SharedQueue() {
+                    final LockFreeSkipListHeap<Integer> heap = new LockFreeSkipListHeap<>();
+
+                    @Override
+                    public void insert(Integer value) {
+                        heap.insert(value);
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        return heap.poll();
+                    }
+                };
+                case PRIORITY_BLOCKING_QUEUE -> new SharedQueue() {
+                    final PriorityBlockingQueue<Integer> queue = new PriorityBlockingQueue<>();
+
+                    @Override
+                    public void insert(Integer value) {
+                        queue.add(value);
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        return queue.poll();
+                    }
+                };
+                case LOCKED_MIN_HEAP -> new SharedQueue() {
+                    final MinHeap<Integer> heap = new MinHeap<>();
+                    final ReentrantLock lock = new ReentrantLock();
+
+                    @Override
+                    public void insert(Integer value) {
+                        lock.lock();
+                        try {
+                            heap.insert(value);
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+
+                    @Override
+                    public Integer poll() {
+                        lock.lock();
+                        try {
+                            return heap.isEmpty() ? null : heap.extractRoot();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                };
+            };
+        }
+    }
+
+    interface SharedQueue {
+        void insert(Integer value);
+
+        Integer poll();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"LOCK_FREE_SKIPLIST", "PRIORITY_BLOCKING_QUEUE", "LOCKED_MIN_HEAP"})
+        public Queue queue;
+
+        @Param({"1000", "1000000"})
+        public int size;
+
+        SharedQueue instance;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            instance = queue.create();
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            for (int i = 0; i < size; i++) {
+                instance.insert(rand.nextInt(Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer mixed(Shared shared) {
+        shared.instance.insert(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE));
+        return shared.instance.poll();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            new Runner(new OptionsBuilder()
+                    .parent(new CommandLineOptions(args))
+                    .include(ConcurrentHeapBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.concurrent.DeadlineQueue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wake-up latency and throughput of {@link DeadlineQueue} with a very large number of
+ * blocked consumers.
+ * <p>
+ * All tasks are scheduled up front, in random order, with deadlines spread uniformly
+ * over a window. Consumers loop on take(); for every task the lateness
+ * (wake-up time - deadline) is recorded, then percentiles and throughput are printed.
+ * <p>
+ * Consumers run on virtual threads when the JVM has them (Java 21+, looked up
+ * reflectively so the project still builds on 17); otherwise the consumer count is
+ * capped and platform threads are used.
+ * <p>
+ * Run with: java -cp target/benchmarks.jar org.harryfloppa.benchmarks.DeadlineQueueBenchmark
+ *           [consumers=100000] [tasks=1000000] [windowMs=5000]
+ */
+public class DeadlineQueueBenchmark {
+
+    private static final int PLATFORM_THREAD_CAP = 2_000;
+
+    private static final class Task {
+        final long deadline;
+
+        Task(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    private static final Task POISON = new Task(0);
+
+    public static void main(String[] args) throws Exception {
+        int consumers = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(args.length > 2 ? Long.parseLong(args[2]) : 5_000);
+
+        ExecutorService executor = virtualThreadExecutor();
+        String threadKind = "virtual";
+        if (executor == null) {
+            threadKind = "platform";
+            consumers = Math.min(consumers, PLATFORM_THREAD_CAP);
+            executor = Executors.newFixedThreadPool(consumers);
+            System.out.println("Virtual threads not available (Java " + Runtime.version().feature()
+                    + "), using " + consumers + " platform threads");
+        }
+
+        DeadlineQueue<Task> queue = new DeadlineQueue<>();
+        long[] lateness = new long[tasks];
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int c = 0; c < consumers; c++) {
+            executor.execute(() -> {
+                try {
+                    while (true) {
+                        Task task = queue.take();
+                        long now = System.nanoTime();
+                        if (task == POISON) return;
+                        lateness[completed.getAndIncrement()] = now - task.deadline;
+                        done.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // Leave enough lead time to schedule everything before the first deadline
+        Random rand = new Random(42);
+        long lead = TimeUnit.SECONDS.toNanos(2);
+        long start = System.nanoTime() + lead;
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task(start + (long) (rand.nextDouble() * windowNanos));
+            queue.offerAt(task, task.deadline);
+        }
+        long scheduled = System.nanoTime();
+        if (scheduled > start) {
+            System.out.println("Warning: scheduling took longer than the lead time");
+        }
+
+        done.await();
+        long finished = System.nanoTime();
+        for (int c = 0; c < consumers; c++) {
+            queue.offer(POISON);
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        Arrays.sort(lateness);
+        System.out.printf("%d %s consumers, %d tasks over %d ms%n",
+                consumers, threadKind, tasks, TimeUnit.NANOSECONDS.toMillis(windowNanos));
+        System.out.printf("Throughput: %.0f tasks/s (window end to last wake-up: %.1f ms)%n",
+                tasks / ((finished - start) / 1e9), (finished - start - windowNanos) / 1e6);
+        System.out.println("Wake-up lateness (us):");
+        for (double p : new double[]{0.5, 0.9, 0.99, 0.999, 1.0}) {
+            int index = Math.min(tasks - 1, (int) Math.ceil(p * tasks) - 1);
+            System.out.printf("  p%-6s %12.1f%n", p == 1.0 ? "100" : String.valueOf(p * 100),
+                    lateness[Math.max(0, index)] / 1e3);
+        }
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
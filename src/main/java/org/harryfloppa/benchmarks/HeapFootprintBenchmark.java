@@ -0,0 +1,127 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.Heap;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory per element of the indexed MinHeap versus LeanMinHeap.
+ * <p>
+ * build() fills a fresh heap with {@code size} pre-boxed Integers, starting from the
+ * default capacity or pre-sized. Run with the GC profiler: gc.alloc.rate.norm / size is
+ * the bytes allocated per element, including the discarded arrays of every resize and,
+ * for MinHeap, the index map's entries and boxed slot numbers.
+ * <p>
+ * main() runs JMH with -prof gc and prints bytes per element. It then measures what
+ * a filled heap retains, and what it still retains after being drained (shrink-on-drain),
+ * from heap usage after forced GCs:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.HeapFootprintBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HeapFootprintBenchmark {
+
+    public enum Variant {
+        MIN_HEAP, LEAN_MIN_HEAP;
+
+        Heap<Integer> create(int initialCapacity) {
+            return this == MIN_HEAP
+                    ? new MinHeap<>(null, initialCapacity, Heap.DEFAULT_GROWTH_FACTOR)
+                    : new LeanMinHeap<>(null, initialCapacity);
+        }
+    }
+
+    @Param({"MIN_HEAP", "LEAN_MIN_HEAP"})
+    public Variant variant;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean presized;
+
+    private Integer[] data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = randomData(size);
+    }
+
+    private static Integer[] randomData(int size) {
+        Random rand = new Random(42);
+        Integer[] data = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = rand.nextInt();
+        }
+        return data;
+    }
+
+    @Benchmark
+    public Heap<Integer> build() {
+        Heap<Integer> heap = variant.create(presized ? size : Heap.DEFAULT_INITIAL_CAPACITY);
+        for (Integer value : data) {
+            heap.insert(value);
+        }
+        return heap;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(HeapFootprintBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        System.out.println("\nAllocated bytes per element while building:");
+        for (RunResult result : results) {
+            Result<?> allocated = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (allocated == null) continue;
+            int size = Integer.parseInt(result.getParams().getParam("size"));
+            System.out.printf("  %-14s size=%-8d presized=%-5s %8.1f%n", result.getParams().getParam("variant"),
+                    size, result.getParams().getParam("presized"), allocated.getScore() / size);
+        }
+
+        int size = 1_000_000;
+        Integer[] data = randomData(size);
+        System.out.printf("%nRetained bytes per element, %d elements:%n", size);
+        for (Variant variant : Variant.values()) {
+            long before = usedHeap();
+            Heap<Integer> heap = variant.create(Heap.DEFAULT_INITIAL_CAPACITY);
+            for (Integer value : data) {
+                heap.insert(value);
+            }
+            long filled = usedHeap();
+            while (heap.size() > 10) {
+                heap.extractRoot();
+            }
+            long drained = usedHeap();
+            System.out.printf("  %-14s filled %8.1f   drained to 10 elements: %,d bytes (capacity %d)%n",
+                    variant, (filled - before) / (double) size, drained - before, heap.capacity());
+        }
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
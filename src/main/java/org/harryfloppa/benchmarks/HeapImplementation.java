@@ -0,0 +1,111 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.AdaptiveHeap;
+import org.harryfloppa.algorithms.BlockedHeap;
+import org.harryfloppa.algorithms.BottomUpMinHeap;
+import org.harryfloppa.algorithms.HeapFactory;
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.LeftistHeap;
+import org.harryfloppa.algorithms.LockFreeSkipListHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.algorithms.MinMaxHeap;
+import org.harryfloppa.algorithms.SkewHeap;
+import org.harryfloppa.algorithms.SmallMinHeap;
+
+/**
+ * Heap variants measured by the JMH suite.
+ * <p>
+ * Benchmarks take the implementation as a {@code @Param} so every variant runs the
+ * same workload with the same data; adding a constant here adds the variant to all of
+ * them (the constant's name must also be listed in the benchmarks' {@code @Param}).
+ */
+public enum HeapImplementation implements HeapFactory {
+    MIN_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new MinHeap<>();
+        }
+    },
+    LEAN_MIN_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new LeanMinHeap<>();
+        }
+
+        @Override
+        public boolean supportsDecreaseKey() {
+            return false;
+        }
+    },
+    BOTTOM_UP_MIN_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new BottomUpMinHeap<>();
+        }
+    },
+    BLOCKED_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new BlockedHeap<>();
+        }
+    },
+    MIN_MAX_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new MinMaxHeap<>();
+        }
+    },
+    LEFTIST_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new LeftistHeap<>();
+        }
+
+        @Override
+        public boolean supportsDecreaseKey() {
+            return false;
+        }
+    },
+    SKEW_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new SkewHeap<>();
+        }
+
+        @Override
+        public boolean supportsDecreaseKey() {
+            return false;
+        }
+    },
+    LOCK_FREE_SKIPLIST {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new LockFreeSkipListHeap<>();
+        }
+
+        @Override
+        public boolean supportsDecreaseKey() {
+            return false;
+        }
+    },
+    ADAPTIVE_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new AdaptiveHeap<>();
+        }
+    },
+    SMALL_MIN_HEAP {
+        @Override
+        public <T extends Comparable<T>> IHeap<T> create() {
+            return new SmallMinHeap<>();
+        }
+    };
+
+    @Override
+    public abstract <T extends Comparable<T>> IHeap<T> create();
+
+    public boolean supportsDecreaseKey() {
+        return true;
+    }
+}
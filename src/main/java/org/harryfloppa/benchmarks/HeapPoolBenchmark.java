@@ -0,0 +1,108 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.Heap;
+import org.harryfloppa.algorithms.HeapPool;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated request load: every operation is one request that gets a heap, fills it
+ * with a request-dependent number of elements (4 to about 1000, skewed small),
+ * extracts half of them and drops the heap.
+ * <p>
+ * - NEW: a default heap per request, grown from capacity 2 by resizes
+ * - PRESIZED: a heap per request created at the request's size
+ * - POOLED: borrowed from a {@link HeapPool} at the request's size and released
+ * <p>
+ * Run with -prof gc: gc.alloc.rate.norm is the bytes allocated per request, and
+ * gc.count the number of (young) collections in the measurement window. The young
+ * generation is kept small so the collection counts are comparable:
+ *   java -jar target/benchmarks.jar HeapPoolBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Xmn64m"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HeapPoolBenchmark {
+
+    public enum Allocation {
+        NEW, PRESIZED, POOLED
+    }
+
+    public enum Kind {
+        MIN_HEAP, LEAN_MIN_HEAP
+    }
+
+    private static final int REQUESTS = 1 << 10;
+    private static final int VALUES = 1 << 12;
+
+    @Param({"NEW", "PRESIZED", "POOLED"})
+    public Allocation allocation;
+
+    @Param({"MIN_HEAP", "LEAN_MIN_HEAP"})
+    public Kind kind;
+
+    private int[] requestSizes;
+    private Integer[] values;
+    private HeapPool<Integer, ? extends Heap<Integer>> pool;
+    private int request = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        requestSizes = new int[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            // Log-uniform: as many requests of 4-8 elements as of 512-1024
+            requestSizes[i] = (4 << rand.nextInt(8)) + rand.nextInt(4);
+        }
+        values = new Integer[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = rand.nextInt(1_000_000);
+        }
+        pool = kind == Kind.MIN_HEAP ? HeapPool.minHeaps() : HeapPool.leanMinHeaps();
+    }
+
+    @Benchmark
+    public long request() {
+        int n = requestSizes[request];
+        request = (request + 1) & (REQUESTS - 1);
+
+        Heap<Integer> heap = acquire(n);
+        int offset = n * 31;
+        for (int i = 0; i < n; i++) {
+            heap.insert(values[(offset + i) & (VALUES - 1)]);
+        }
+        long sum = 0;
+        for (int i = 0; i < n / 2; i++) {
+            sum += heap.extractRoot();
+        }
+        if (allocation == Allocation.POOLED) {
+            release(heap);
+        }
+        return sum;
+    }
+
+    private Heap<Integer> acquire(int n) {
+        switch (allocation) {
+            case NEW:
+                return kind == Kind.MIN_HEAP ? new MinHeap<>() : new LeanMinHeap<>();
+            case PRESIZED:
+                return kind == Kind.MIN_HEAP
+                        ? new MinHeap<>(null, n, Heap.DEFAULT_GROWTH_FACTOR)
+                        : new LeanMinHeap<>(null, n);
+            default:
+                return pool.borrow(n);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <H extends Heap<Integer>> void release(Heap<Integer> heap) {
+        ((HeapPool<Integer, H>) pool).release((H) heap);
+    }
+}
@@ -0,0 +1,120 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.ElementCodec;
+import org.harryfloppa.algorithms.HeapSnapshot;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Restoring a heap of {@code size} Integers from a file written beforehand.
+ * <p>
+ * - SNAPSHOT / SNAPSHOT_DEFLATE: HeapSnapshot.read, raw heap order, no heapify
+ * - REINSERT: read the ints with a buffered DataInputStream and insert them one by one
+ * - JAVA_SERIALIZATION: ObjectInputStream of an Integer[], then addAll (one buildHeap)
+ * <p>
+ * All variants restore into a LeanMinHeap, so the index does not dominate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HeapSnapshotBenchmark {
+
+    public enum Variant {
+        SNAPSHOT, SNAPSHOT_DEFLATE, REINSERT, JAVA_SERIALIZATION
+    }
+
+    @Param({"SNAPSHOT", "SNAPSHOT_DEFLATE", "REINSERT", "JAVA_SERIALIZATION"})
+    public Variant variant;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Path dir;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random rand = new Random(42);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = rand.nextInt(size * 10);
+        }
+        dir = Files.createTempDirectory("heap-snapshot");
+        file = dir.resolve(variant.name().toLowerCase());
+
+        switch (variant) {
+            case SNAPSHOT:
+            case SNAPSHOT_DEFLATE: {
+                LeanMinHeap<Integer> heap = new LeanMinHeap<>();
+                heap.addAll(values);
+                HeapSnapshot.write(heap, ElementCodec.integers(), file, variant == Variant.SNAPSHOT_DEFLATE);
+                break;
+            }
+            case REINSERT:
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+                    out.writeInt(size);
+                    for (Integer value : values) {
+                        out.writeInt(value);
+                    }
+                }
+                break;
+            default:
+                try (ObjectOutputStream out = new ObjectOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+                    out.writeObject(values);
+                }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public LeanMinHeap<Integer> restore() throws IOException, ClassNotFoundException {
+        LeanMinHeap<Integer> heap = new LeanMinHeap<>();
+        switch (variant) {
+            case SNAPSHOT:
+            case SNAPSHOT_DEFLATE:
+                return HeapSnapshot.read(file, ElementCodec.integers(), heap);
+            case REINSERT:
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+                    int count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        heap.insert(in.readInt());
+                    }
+                }
+                return heap;
+            default:
+                try (ObjectInputStream in = new ObjectInputStream(
+                        new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+                    heap.addAll((Integer[]) in.readObject());
+                }
+                return heap;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the {@code k} smallest elements of a heap of {@code size} without changing it.
+ * <p>
+ * - STREAM_SORTED: lazy streamSorted().limit(k), O(k log k)
+ * - COPY_AND_SORT: stream().sorted().limit(k), copies and sorts all n elements
+ * - COPY_AND_DRAIN: copy into a new heap (one O(n) buildHeap) and extract k
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HeapStreamBenchmark {
+
+    public enum Method {
+        STREAM_SORTED, COPY_AND_SORT, COPY_AND_DRAIN
+    }
+
+    @Param({"STREAM_SORTED", "COPY_AND_SORT", "COPY_AND_DRAIN"})
+    public Method method;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"10", "1000", "1000000"})
+    public int k;
+
+    private LeanMinHeap<Integer> heap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = rand.nextInt(size * 10);
+        }
+        heap = new LeanMinHeap<>(null, size);
+        heap.addAll(values);
+    }
+
+    @Benchmark
+    public long topK() {
+        switch (method) {
+            case STREAM_SORTED:
+                return heap.streamSorted().limit(k).mapToLong(Integer::longValue).sum();
+            case COPY_AND_SORT:
+                return heap.stream().sorted().limit(k).mapToLong(Integer::longValue).sum();
+            default:
+                LeanMinHeap<Integer> copy = new LeanMinHeap<>(null, size);
+                copy.addAll(heap.stream().toArray(Integer[]::new));
+                long sum = 0;
+                for (int i = 0; i < k; i++) {
+                    sum += copy.extractRoot();
+                }
+                return sum;
+        }
+    }
+}
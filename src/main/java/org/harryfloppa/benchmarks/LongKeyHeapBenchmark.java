@@ -0,0 +1,103 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.LongKeyHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (priority, payload) queues: LongKeyHeap's parallel key/value arrays versus
+ * MinHeap and LeanMinHeap holding Record objects.
+ * <p>
+ * The heap is filled to {@code size} in the trial setup; each invocation extracts
+ * the minimum and inserts a fresh entry whose key is the extracted key plus a random
+ * increment, keeping the size constant (hold model). For the Record heaps every
+ * comparison dereferences a record, and at 10^7 and beyond those are mostly cache
+ * misses; LongKeyHeap compares inside a long[].
+ * <p>
+ * The default sizes, 10^6 and 10^7, fit in the 4 GB -Xmx below. 10^8 needs about
+ * 1.2 GB for LongKeyHeap, about 4 GB for LeanMinHeap and well over 10 GB for the
+ * indexed MinHeap, so it is only run on request, with a larger heap:
+ *   java -jar target/benchmarks.jar LongKeyHeapBenchmark -p size=100000000 -p variant=LONG_KEY_HEAP,LEAN_MIN_HEAP -jvmArgsAppend -Xmx8g
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LongKeyHeapBenchmark {
+
+    private static final int MAX_INCREMENT = 1 << 20;
+    private static final int PAYLOADS = 1024;
+
+    public enum Variant {
+        LONG_KEY_HEAP, MIN_HEAP, LEAN_MIN_HEAP
+    }
+
+    /**
+     * Priority/payload pair as it would be queued in a MinHeap.
+     */
+    public static final class Record implements Comparable<Record> {
+        final long priority;
+        final Object payload;
+
+        Record(long priority, Object payload) {
+            this.priority = priority;
+            this.payload = payload;
+        }
+
+        @Override
+        public int compareTo(Record other) {
+            return Long.compare(priority, other.priority);
+        }
+    }
+
+    @Param({"LONG_KEY_HEAP", "MIN_HEAP", "LEAN_MIN_HEAP"})
+    public Variant variant;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private LongKeyHeap<Object> keyHeap;
+    private MinHeap<Record> recordHeap;
+    private Object[] payloads;
+    private SplittableRandom rand;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rand = new SplittableRandom(42);
+        payloads = new Object[PAYLOADS];
+        for (int i = 0; i < PAYLOADS; i++) {
+            payloads[i] = "payload-" + i;
+        }
+
+        if (variant == Variant.LONG_KEY_HEAP) {
+            keyHeap = new LongKeyHeap<>(null, size);
+            for (int i = 0; i < size; i++) {
+                keyHeap.insert(rand.nextLong(size * (long) MAX_INCREMENT), payloads[i & (PAYLOADS - 1)]);
+            }
+        } else {
+            recordHeap = variant == Variant.MIN_HEAP ? new MinHeap<>() : new LeanMinHeap<>(null, size);
+            for (int i = 0; i < size; i++) {
+                recordHeap.insert(new Record(rand.nextLong(size * (long) MAX_INCREMENT), payloads[i & (PAYLOADS - 1)]));
+            }
+        }
+    }
+
+    @Benchmark
+    public Object hold() {
+        if (keyHeap != null) {
+            long key = keyHeap.peekKey();
+            Object payload = keyHeap.extract();
+            keyHeap.insert(key + 1 + rand.nextInt(MAX_INCREMENT), payload);
+            return payload;
+        }
+        Record record = recordHeap.extractRoot();
+        recordHeap.insert(new Record(record.priority + 1 + rand.nextInt(MAX_INCREMENT), record.payload));
+        return record.payload;
+    }
+}
@@ -0,0 +1,69 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.workloads.MacroWorkload;
+import org.harryfloppa.workloads.MacroWorkloads;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end time of the macro workloads (Huffman coding, event simulation, puzzle
+ * search) for every {@link HeapImplementation}.
+ * <p>
+ * One invocation is one complete run of the workload over input generated in the
+ * trial setup. {@code scale} 0 uses the workload's default scale. main() also prints
+ * the throughput in the workload's own units:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.MacroWorkloadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MacroWorkloadBenchmark {
+
+    @Param({"HUFFMAN", "EVENT_SIMULATION", "PUZZLE_SEARCH"})
+    public MacroWorkloads workload;
+
+    @Param({"MIN_HEAP", "LEAN_MIN_HEAP", "BOTTOM_UP_MIN_HEAP", "BLOCKED_HEAP", "MIN_MAX_HEAP", "LEFTIST_HEAP", "SKEW_HEAP", "LOCK_FREE_SKIPLIST", "ADAPTIVE_HEAP", "SMALL_MIN_HEAP"})
+    public HeapImplementation impl;
+
+    @Param({"0"})
+    public int scale;
+
+    private MacroWorkload instance;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        instance = workload.create();
+        instance.prepare(scale > 0 ? scale : workload.defaultScale(), 42);
+    }
+
+    @Benchmark
+    public long run() {
+        return instance.run(impl);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(MacroWorkloadBenchmark.class.getSimpleName())
+                .build()).run();
+
+        System.out.println("\nThroughput:");
+        for (RunResult result : results) {
+            MacroWorkloads workload = MacroWorkloads.valueOf(result.getParams().getParam("workload"));
+            int scale = Integer.parseInt(result.getParams().getParam("scale"));
+            MacroWorkload instance = workload.create();
+            instance.prepare(scale > 0 ? scale : workload.defaultScale(), 42);
+            System.out.printf("  %-17s %-19s %14.0f %s/s%n", workload, result.getParams().getParam("impl"),
+                    instance.workUnits() / (result.getPrimaryResult().getScore() / 1e3), instance.unit());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.LeftistHeap;
+import org.harryfloppa.algorithms.MeldableHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.algorithms.SkewHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partitioned workload: {@code shards} small heaps of {@code shardSize} elements are
+ * melded one after another into a single accumulator, then {@code shardSize}
+ * minimums are taken from it.
+ * <p>
+ * MinHeap.merge copies and rebuilds the whole accumulator on every meld (O(n + m)),
+ * so the run is quadratic in the number of shards; the leftist and skew heaps meld in
+ * O(log n). The persistent variants use meld() and leave every shard intact, as when
+ * shards are shared snapshots. Shards are rebuilt before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MeldBenchmark {
+
+    public enum Variant {
+        MIN_HEAP, LEFTIST_HEAP, SKEW_HEAP, PERSISTENT_LEFTIST_HEAP, PERSISTENT_SKEW_HEAP;
+
+        IHeap<Integer> create() {
+            switch (this) {
+                case MIN_HEAP:
+                    return new MinHeap<>();
+                case LEFTIST_HEAP:
+                    return new LeftistHeap<>();
+                case SKEW_HEAP:
+                    return new SkewHeap<>();
+                case PERSISTENT_LEFTIST_HEAP:
+                    return new LeftistHeap<>(null, true);
+                default:
+                    return new SkewHeap<>(null, true);
+            }
+        }
+
+        boolean persistent() {
+            return this == PERSISTENT_LEFTIST_HEAP || this == PERSISTENT_SKEW_HEAP;
+        }
+    }
+
+    @Param({"MIN_HEAP", "LEFTIST_HEAP", "SKEW_HEAP", "PERSISTENT_LEFTIST_HEAP", "PERSISTENT_SKEW_HEAP"})
+    public Variant variant;
+
+    @Param({"1000"})
+    public int shards;
+
+    @Param({"16", "256"})
+    public int shardSize;
+
+    private int[] data;
+    private List<IHeap<Integer>> parts;
+
+    @Setup(Level.Trial)
+    public void setupData() {
+        Random rand = new Random(42);
+        data = new int[shards * shardSize];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rand.nextInt(data.length * 10);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupShards() {
+        parts = new ArrayList<>(shards);
+        for (int s = 0; s < shards; s++) {
+            IHeap<Integer> part = variant.create();
+            for (int i = s * shardSize; i < (s + 1) * shardSize; i++) {
+                part.insert(data[i]);
+            }
+            parts.add(part);
+        }
+    }
+
+    @Benchmark
+    public int meldAll() {
+        IHeap<Integer> accumulator = variant.create();
+        for (IHeap<Integer> part : parts) {
+            if (variant.persistent()) {
+                accumulator = ((MeldableHeap<Integer>) accumulator).meld((MeldableHeap<Integer>) part);
+            } else {
+                accumulator.merge(part);
+            }
+        }
+
+        int sum = 0;
+        for (int i = 0; i < shardSize; i++) {
+            sum += accumulator.extractRoot();
+        }
+        return sum;
+    }
+}
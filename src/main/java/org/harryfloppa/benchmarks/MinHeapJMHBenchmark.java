@@ -1,125 +1,296 @@
 package org.harryfloppa.benchmarks;
 
-import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.algorithms.ChildSelector;
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.IntDaryHeap;
+import org.harryfloppa.algorithms.LongDaryHeap;
+import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 /**
- * JMH Benchmark for MinHeap operations
- * Run with: mvn clean install
- *           java -jar target/benchmarks.jar
+ * JMH suite for heap operations, run for every {@link HeapImplementation}.
+ * <p>
+ * Heap construction never happens inside a measured method: bulk benchmarks get a
+ * fresh heap from a {@code Level.Invocation} state, steady-state benchmarks keep a
+ * heap of {@code size} elements alive for the whole trial and perform balanced
+ * insert/extract pairs on it. All implementations see the same data per size.
+ * <p>
+ * Run with: mvn clean package
+ *           java -jar target/benchmarks.jar                    (GC profiler on by default)
+ *           java -jar target/benchmarks.jar MinHeapJMHBenchmark -p size=1000000 -p impl=MIN_HEAP
+ * <p>
+ * Allocation per operation is reported as {@code gc.alloc.rate.norm} (bytes/op).
+ * The default sizes fit in the 2 GB -Xmx below. 10^7 needs several GB, so it is only
+ * run on request, with a larger heap:
+ *   java -jar target/benchmarks.jar MinHeapJMHBenchmark -p size=10000000 -jvmArgsAppend "-Xmx8g --add-modules=jdk.incubator.vector"
+ * <p>
+ * The dary* benchmarks compare scalar and Vector API child selection in the primitive
+ * d-ary heaps; forks get --add-modules jdk.incubator.vector for the VECTOR variant.
  */
-@BenchmarkMode(Mode.AverageTime)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
-@State(Scope.Thread)
-@Fork(value = 1, warmups = 1)
-@Warmup(iterations = 3, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx2g", "--add-modules=jdk.incubator.vector"})
+@Warmup(iterations = 5, time = 1)
 @Measurement(iterations = 5, time = 1)
 public class MinHeapJMHBenchmark {
 
-    @Param({"100", "1000", "10000"})
-    private int size;
+    /**
+     * Implementation and data shared by all benchmarks of one trial.
+     */
+    @State(Scope.Benchmark)
+    public static class Workload {
+        @Param({"MIN_HEAP", "LEAN_MIN_HEAP", "BOTTOM_UP_MIN_HEAP", "BLOCKED_HEAP", "MIN_MAX_HEAP", "LEFTIST_HEAP", "SKEW_HEAP", "LOCK_FREE_SKIPLIST", "ADAPTIVE_HEAP", "SMALL_MIN_HEAP"})
+        public HeapImplementation impl;
 
-    private Integer[] data;
-    private MinHeap<Integer> prepopulatedHeap;
+        @Param({"100", "10000", "1000000"})
+        public int size;
 
-    @Setup(Level.Trial)
-    public void setup() {
-        Random rand = new Random(42);
-        data = new Integer[size];
-        for (int i = 0; i < size; i++) {
-            data[i] = rand.nextInt(size * 10);
+        Integer[] data;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random rand = new Random(42);
+            data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = rand.nextInt(size * 10);
+            }
         }
 
-        // Prepopulate heap for extract/decreaseKey tests
-        prepopulatedHeap = new MinHeap<>();
-        for (Integer value : data) {
-            prepopulatedHeap.insert(value);
+        IHeap<Integer> filledHeap() {
+            IHeap<Integer> heap = impl.create();
+            for (Integer value : data) {
+                heap.insert(value);
+            }
+            return heap;
         }
     }
 
-    @Benchmark
-    public void benchmarkInsert(Blackhole blackhole) {
-        MinHeap<Integer> heap = new MinHeap<>();
-        for (Integer value : data) {
-            heap.insert(value);
+    /**
+     * Heap kept at {@code size} elements for the whole trial.
+     */
+    @State(Scope.Thread)
+    public static class SteadyState {
+        IHeap<Integer> heap;
+        Integer[] stream;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup(Workload workload) {
+            heap = workload.filledHeap();
+            Random rand = new Random(7);
+            stream = new Integer[1 << 16];
+            for (int i = 0; i < stream.length; i++) {
+                stream[i] = rand.nextInt(workload.size * 10);
+            }
         }
-        blackhole.consume(heap);
     }
 
-    @Benchmark
-    public void benchmarkExtractMin(Blackhole blackhole) {
-        MinHeap<Integer> heap = new MinHeap<>();
-        for (Integer value : data) {
-            heap.insert(value);
+    /**
+     * Fresh empty heap per invocation.
+     */
+    @State(Scope.Thread)
+    public static class EmptyHeap {
+        IHeap<Integer> heap;
+
+        @Setup(Level.Invocation)
+        public void setup(Workload workload) {
+            heap = workload.impl.create();
         }
+    }
 
-        for (int i = 0; i < size; i++) {
-            blackhole.consume(heap.extractMin());
+    /**
+     * Fresh heap holding the workload data per invocation.
+     */
+    @State(Scope.Thread)
+    public static class FullHeap {
+        IHeap<Integer> heap;
+
+        @Setup(Level.Invocation)
+        public void setup(Workload workload) {
+            heap = workload.filledHeap();
         }
     }
 
-    @Benchmark
-    public void benchmarkPeekMin(Blackhole blackhole) {
-        blackhole.consume(prepopulatedHeap.peekMin());
+    /**
+     * Two fresh heaps with half of the workload data each.
+     */
+    @State(Scope.Thread)
+    public static class MergeHeaps {
+        IHeap<Integer> first;
+        IHeap<Integer> second;
+
+        @Setup(Level.Invocation)
+        public void setup(Workload workload) {
+            first = workload.impl.create();
+            second = workload.impl.create();
+            int half = workload.size / 2;
+            for (int i = 0; i < half; i++) {
+                first.insert(workload.data[i]);
+                second.insert(workload.data[i + half]);
+            }
+        }
     }
 
-    @Benchmark
-    public void benchmarkMerge(Blackhole blackhole) {
-        MinHeap<Integer> heap1 = new MinHeap<>();
-        MinHeap<Integer> heap2 = new MinHeap<>();
-
-        int half = size / 2;
-        for (int i = 0; i < half; i++) {
-            heap1.insert(data[i]);
-            heap2.insert(data[i + half]);
+    /**
+     * Sequential keys (0, 10, 20, ...) so every decreaseKey target exists. Has its own
+     * parameters because not every implementation supports decreaseKey.
+     */
+    @State(Scope.Thread)
+    public static class DecreaseKeyHeap {
+        @Param({"MIN_HEAP", "BOTTOM_UP_MIN_HEAP", "BLOCKED_HEAP", "MIN_MAX_HEAP", "ADAPTIVE_HEAP", "SMALL_MIN_HEAP"})
+        public HeapImplementation decreaseKeyImpl;
+
+        @Param({"100", "10000", "1000000"})
+        public int decreaseKeySize;
+
+        IHeap<Integer> heap;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            heap = decreaseKeyImpl.create();
+            for (int i = 0; i < decreaseKeySize; i++) {
+                heap.insert(i * 10);
+            }
+        }
+    }
+
+    /**
+     * Primitive d-ary heaps kept at {@code darySize} keys. Has its own parameters
+     * because these heaps are not IHeap implementations.
+     */
+    @State(Scope.Thread)
+    public static class DaryHeap {
+        public enum Selection {
+            SCALAR, VECTOR
+        }
+
+        @Param({"SCALAR", "VECTOR"})
+        public Selection selection;
+
+        @Param({"8", "16"})
+        public int arity;
+
+        @Param({"1000000"})
+        public int darySize;
+
+        IntDaryHeap ints;
+        LongDaryHeap longs;
+        int[] stream;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            ChildSelector selector = selection == Selection.VECTOR ? ChildSelector.vectorized() : ChildSelector.scalar();
+            ints = new IntDaryHeap(arity, selector);
+            longs = new LongDaryHeap(arity, selector);
+            Random rand = new Random(42);
+            for (int i = 0; i < darySize; i++) {
+                int value = rand.nextInt(darySize * 10);
+                ints.insert(value);
+                longs.insert(value);
+            }
+            stream = new int[1 << 16];
+            for (int i = 0; i < stream.length; i++) {
+                stream[i] = rand.nextInt(darySize * 10);
+            }
         }
+    }
+
+    // ===== steady state: one operation on a heap of `size` elements =====
 
-        heap1.merge(heap2);
-        blackhole.consume(heap1);
+    @Benchmark
+    public Integer insertExtract(SteadyState state) {
+        Integer value = state.stream[state.cursor++ & (state.stream.length - 1)];
+        state.heap.insert(value);
+        return state.heap.extractRoot();
     }
 
     @Benchmark
-    public void benchmarkDecreaseKey(Blackhole blackhole) {
-        MinHeap<Integer> heap = new MinHeap<>();
+    public int daryIntInsertExtract(DaryHeap state) {
+        state.ints.insert(state.stream[state.cursor++ & (state.stream.length - 1)]);
+        return state.ints.extract();
+    }
 
-        // Insert sequential values for reliable decreaseKey
-        for (int i = 0; i < size; i++) {
-            heap.insert(i * 10);
+    @Benchmark
+    public long daryLongInsertExtract(DaryHeap state) {
+        state.longs.insert(state.stream[state.cursor++ & (state.stream.length - 1)]);
+        return state.longs.extract();
+    }
+
+    // ===== bulk: whole-heap operations on fresh heaps =====
+
+    @Benchmark
+    public IHeap<Integer> insertAll(Workload workload, EmptyHeap state) {
+        IHeap<Integer> heap = state.heap;
+        for (Integer value : workload.data) {
+            heap.insert(value);
         }
+        return heap;
+    }
 
-        // Decrease every 10th key
-        for (int i = 0; i < size; i += 10) {
-            try {
-                heap.decreaseKey(i * 10, i * 10 - 5);
-            } catch (IllegalArgumentException e) {
-                // Ignore if key already decreased
-            }
+    @Benchmark
+    public void drain(FullHeap state, Blackhole blackhole) {
+        IHeap<Integer> heap = state.heap;
+        while (!heap.isEmpty()) {
+            blackhole.consume(heap.extractRoot());
         }
+    }
 
-        blackhole.consume(heap);
+    @Benchmark
+    public IHeap<Integer> merge(MergeHeaps state) {
+        state.first.merge(state.second);
+        return state.first;
     }
 
     @Benchmark
-    public void benchmarkInsertExtractMixed(Blackhole blackhole) {
-        MinHeap<Integer> heap = new MinHeap<>();
+    public IHeap<Integer> decreaseKey(DecreaseKeyHeap state) {
+        IHeap<Integer> heap = state.heap;
+        for (int i = 0; i < state.decreaseKeySize; i += 10) {
+            heap.decreaseKey(i * 10, i * 10 - 5);
+        }
+        return heap;
+    }
 
-        // Mixed insert/extract pattern
-        for (int i = 0; i < size; i++) {
+    @Benchmark
+    public void insertExtractMixed(Workload workload, EmptyHeap state, Blackhole blackhole) {
+        IHeap<Integer> heap = state.heap;
+        Integer[] data = workload.data;
+        for (int i = 0; i < data.length; i++) {
             heap.insert(data[i]);
-
-            if (i % 5 == 0 && !heap.isEmpty()) {
-                blackhole.consume(heap.extractMin());
+            if (i % 5 == 0) {
+                blackhole.consume(heap.extractRoot());
             }
         }
-
         blackhole.consume(heap);
     }
 
+    /**
+     * Runs JMH with the given command line, adding the GC profiler unless a profiler
+     * list was given explicitly. Help and listing options (-h, -l, -lp, -lprof, -lrf)
+     * go to JMH's own launcher, which prints and exits without running anything.
+     */
     public static void main(String[] args) throws Exception {
-        org.openjdk.jmh.Main.main(args);
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+                || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+        if (options.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(builder.build()).run();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.MaxHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.algorithms.MinMaxHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Double-ended priority queue: one MinMaxHeap versus a MinHeap and a MaxHeap kept in
+ * sync (every element in both, each extraction removed from the other heap too).
+ * <p>
+ * - bothEnds: on a heap of {@code size} entries, insert two and extract the minimum
+ *   and the maximum
+ * - boundedOffer: a buffer full at {@code size} entries keeping the smallest ones;
+ *   each offer evicts the largest entry unless the new one is larger
+ * Entries compare by priority with identity equality, so duplicate priorities are
+ * fine for the two-heap index; every operation allocates a fresh entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MinMaxHeapBenchmark {
+
+    public enum Approach {
+        MIN_MAX_HEAP, TWO_HEAPS
+    }
+
+    public static final class Entry implements Comparable<Entry> {
+        final int priority;
+
+        Entry(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+
+    @Param({"MIN_MAX_HEAP", "TWO_HEAPS"})
+    public Approach approach;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private MinMaxHeap<Entry> minMax;
+    private MinMaxHeap<Entry> bounded;
+    private MinHeap<Entry> minHeap;
+    private MaxHeap<Entry> maxHeap;
+    private MaxHeap<Entry> boundedMax;
+    private MinHeap<Entry> boundedMin;
+    private int[] stream;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        stream = new int[1 << 16];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = rand.nextInt(size * 10);
+        }
+
+        if (approach == Approach.MIN_MAX_HEAP) {
+            minMax = new MinMaxHeap<>();
+            bounded = new MinMaxHeap<>(null, size, MinMaxHeap.Eviction.LARGEST);
+        } else {
+            minHeap = new MinHeap<>();
+            maxHeap = new MaxHeap<>();
+            boundedMin = new MinHeap<>();
+            boundedMax = new MaxHeap<>();
+        }
+        for (int i = 0; i < size; i++) {
+            Entry entry = new Entry(rand.nextInt(size * 10));
+            if (approach == Approach.MIN_MAX_HEAP) {
+                minMax.insert(entry);
+                bounded.insert(entry);
+            } else {
+                minHeap.insert(entry);
+                maxHeap.insert(entry);
+                boundedMin.insert(entry);
+                boundedMax.insert(entry);
+            }
+        }
+    }
+
+    private Entry next() {
+        return new Entry(stream[cursor++ & (stream.length - 1)]);
+    }
+
+    @Benchmark
+    public Entry bothEnds() {
+        Entry a = next();
+        Entry b = next();
+        if (approach == Approach.MIN_MAX_HEAP) {
+            minMax.insert(a);
+            minMax.insert(b);
+            minMax.extractMin();
+            return minMax.extractMax();
+        }
+        minHeap.insert(a);
+        maxHeap.insert(a);
+        minHeap.insert(b);
+        maxHeap.insert(b);
+        maxHeap.remove(minHeap.extractMin());
+        Entry max = maxHeap.extractMax();
+        minHeap.remove(max);
+        return max;
+    }
+
+    @Benchmark
+    public Entry boundedOffer() {
+        Entry entry = next();
+        if (approach == Approach.MIN_MAX_HEAP) {
+            return bounded.offer(entry);
+        }
+        if (entry.compareTo(boundedMax.peekMax()) >= 0) {
+            return entry;
+        }
+        Entry evicted = boundedMax.extractMax();
+        boundedMin.remove(evicted);
+        boundedMax.insert(entry);
+        boundedMin.insert(entry);
+        return evicted;
+    }
+}
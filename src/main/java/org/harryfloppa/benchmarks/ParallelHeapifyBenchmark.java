@@ -0,0 +1,105 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.ParallelHeapBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speedup of {@link ParallelHeapBuilder} over sequential Floyd construction versus
+ * the number of worker threads.
+ * <p>
+ * Each invocation heapifies a fresh copy of the same random array on a dedicated
+ * ForkJoinPool of {@code parallelism} threads (parallelism 1 takes the sequential
+ * path). main() prints the speedup table relative to parallelism 1:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.ParallelHeapifyBenchmark
+ *   ... -p parallelism=1,8,64 -p size=100000000
+ * Parallelism values above the machine's core count only measure oversubscription.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ParallelHeapifyBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int parallelism;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"16384"})
+    public int cutoff;
+
+    private Integer[] source;
+    private Integer[] work;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = rand.nextInt();
+        }
+        work = new Integer[size];
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    @Setup(Level.Iteration)
+    public void copy() {
+        System.arraycopy(source, 0, work, 0, size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Integer heapify() {
+        ParallelHeapBuilder.heapify(work, size, Comparator.naturalOrder(), pool, cutoff);
+        return work[0];
+    }
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ParallelHeapifyBenchmark.class.getSimpleName())
+                .build()).run();
+
+        // size -> parallelism -> mean time
+        Map<Integer, Map<Integer, Double>> table = new TreeMap<>();
+        for (RunResult result : results) {
+            int size = Integer.parseInt(result.getParams().getParam("size"));
+            int parallelism = Integer.parseInt(result.getParams().getParam("parallelism"));
+            table.computeIfAbsent(size, k -> new TreeMap<>())
+                    .put(parallelism, result.getPrimaryResult().getScore());
+        }
+
+        System.out.println("\nSpeedup vs parallelism 1:");
+        for (Map.Entry<Integer, Map<Integer, Double>> row : table.entrySet()) {
+            Double sequential = row.getValue().get(1);
+            for (Map.Entry<Integer, Double> cell : row.getValue().entrySet()) {
+                String speedup = sequential != null
+                        ? String.format("%.2fx", sequential / cell.getValue()) : "n/a";
+                System.out.printf("  size=%-10d threads=%-3d %10.2f ms  %s%n",
+                        row.getKey(), cell.getKey(), cell.getValue(), speedup);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.ParallelHeapSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParallelHeapSort} against {@link Arrays#parallelSort} and a sequential heap
+ * sort, for int[] and Integer[].
+ * <p>
+ * Every measurement sorts a fresh copy of the same random array (SingleShotTime with
+ * a per-iteration copy). Parallel variants run on the common pool, so its size is set
+ * with -Djava.util.concurrent.ForkJoinPool.common.parallelism=N in the fork's JVM args.
+ * The sequential heap sort of 10^8 boxed Integers takes on the order of a minute
+ * per shot; restrict it with -p size=... when needed.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelSortBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    private int[] sourceInts;
+    private Integer[] sourceObjects;
+    private int[] ints;
+    private Integer[] objects;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceInts = new Random(42).ints(size).toArray();
+        sourceObjects = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sourceObjects[i] = sourceInts[i];
+        }
+        ints = new int[size];
+        objects = new Integer[size];
+    }
+
+    @Setup(Level.Iteration)
+    public void copy() {
+        System.arraycopy(sourceInts, 0, ints, 0, size);
+        System.arraycopy(sourceObjects, 0, objects, 0, size);
+    }
+
+    @Benchmark
+    public int[] intParallelHeapSort() {
+        ParallelHeapSort.sort(ints, ForkJoinPool.commonPool());
+        return ints;
+    }
+
+    @Benchmark
+    public int[] intArraysParallelSort() {
+        Arrays.parallelSort(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] intSequentialHeapSort() {
+        ParallelHeapSort.heapSort(ints, 0, size);
+        return ints;
+    }
+
+    @Benchmark
+    public Integer[] objectParallelHeapSort() {
+        ParallelHeapSort.sort(objects, Comparator.naturalOrder(), ForkJoinPool.commonPool());
+        return objects;
+    }
+
+    @Benchmark
+    public Integer[] objectArraysParallelSort() {
+        Arrays.parallelSort(objects, Comparator.naturalOrder());
+        return objects;
+    }
+
+    @Benchmark
+    public Integer[] objectSequentialHeapSort() {
+        ParallelHeapSort.heapSort(objects, 0, size, Comparator.naturalOrder());
+        return objects;
+    }
+}
@@ -0,0 +1,100 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.concurrent.SnapshotPriorityQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot-able priority queues: SnapshotPriorityQueue (persistent skew binomial heap
+ * behind an AtomicReference) versus a MinHeap guarded by a lock, whose readers copy
+ * the heap array to get a consistent snapshot.
+ * <p>
+ * - update: insert one element and remove the minimum on a queue of {@code size}
+ * - snapshot: take a consistent snapshot and read its minimum
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersistentQueueBenchmark {
+
+    public enum Variant {
+        PERSISTENT, LOCKED_MIN_HEAP
+    }
+
+    /**
+     * MinHeap that exposes a copy of its backing array in heap order.
+     */
+    static final class CopyableMinHeap extends LeanMinHeap<Integer> {
+        CopyableMinHeap() {
+            super(null);
+        }
+
+        Object[] copy() {
+            Object[] array = heap;
+            return Arrays.copyOf(array, size());
+        }
+    }
+
+    @Param({"PERSISTENT", "LOCKED_MIN_HEAP"})
+    public Variant variant;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private SnapshotPriorityQueue<Integer> persistent;
+    private CopyableMinHeap heap;
+    private final Object lock = new Object();
+    private Integer[] stream;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        stream = new Integer[1 << 16];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = rand.nextInt(size * 10);
+        }
+        persistent = new SnapshotPriorityQueue<>();
+        heap = new CopyableMinHeap();
+        for (int i = 0; i < size; i++) {
+            Integer value = rand.nextInt(size * 10);
+            if (variant == Variant.PERSISTENT) {
+                persistent.add(value);
+            } else {
+                heap.insert(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer update() {
+        Integer value = stream[cursor++ & (stream.length - 1)];
+        if (variant == Variant.PERSISTENT) {
+            persistent.add(value);
+            return persistent.poll();
+        }
+        synchronized (lock) {
+            heap.insert(value);
+            return heap.extractRoot();
+        }
+    }
+
+    @Benchmark
+    public Object snapshot() {
+        if (variant == Variant.PERSISTENT) {
+            return persistent.snapshot().peekMin();
+        }
+        Object[] copy;
+        synchronized (lock) {
+            copy = heap.copy();
+        }
+        return copy[0];
+    }
+}
@@ -0,0 +1,149 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.BottomUpMinHeap;
+import org.harryfloppa.algorithms.Heap;
+import org.harryfloppa.algorithms.LeanMinHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.metrics.PerformanceTracker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sift engines of the binary min-heap: swap per level (the original MinHeap),
+ * hole-based (MinHeap now) and bottom-up sift-down (BottomUpMinHeap).
+ * <p>
+ * insertExtract is the steady state on a heap of {@code size} elements, drain empties
+ * a fresh full heap. {@code indexed} toggles the element index, whose HashMap update
+ * per moved element is what hole-based sifting saves most on. main() runs JMH and then
+ * prints comparisons and element moves per operation, counted with a PerformanceTracker:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.SiftEngineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SiftEngineBenchmark {
+
+    public enum Engine {
+        SWAP, HOLE, BOTTOM_UP;
+
+        Heap<Integer> create(PerformanceTracker metrics, boolean indexed) {
+            switch (this) {
+                case SWAP:
+                    return new SwapSiftMinHeap<>(metrics, indexed);
+                case HOLE:
+                    return indexed ? new MinHeap<>(metrics) : new LeanMinHeap<>(metrics);
+                default:
+                    return indexed ? new BottomUpMinHeap<>(metrics) : BottomUpMinHeap.unindexed(metrics);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Workload {
+        @Param({"SWAP", "HOLE", "BOTTOM_UP"})
+        public Engine engine;
+
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        @Param({"1000", "1000000"})
+        public int size;
+
+        Integer[] data;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            data = randomData(size);
+        }
+
+        Heap<Integer> filledHeap() {
+            Heap<Integer> heap = engine.create(null, indexed);
+            for (Integer value : data) {
+                heap.insert(value);
+            }
+            return heap;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SteadyState {
+        Heap<Integer> heap;
+        Integer[] stream;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup(Workload workload) {
+            heap = workload.filledHeap();
+            stream = randomData(1 << 16);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FullHeap {
+        Heap<Integer> heap;
+
+        @Setup(Level.Invocation)
+        public void setup(Workload workload) {
+            heap = workload.filledHeap();
+        }
+    }
+
+    private static Integer[] randomData(int size) {
+        Random rand = new Random(42);
+        Integer[] data = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = rand.nextInt(Math.max(size, 1 << 16) * 10);
+        }
+        return data;
+    }
+
+    @Benchmark
+    public Integer insertExtract(SteadyState state) {
+        state.heap.insert(state.stream[state.cursor++ & (state.stream.length - 1)]);
+        return state.heap.extractRoot();
+    }
+
+    @Benchmark
+    public void drain(FullHeap state, Blackhole blackhole) {
+        Heap<Integer> heap = state.heap;
+        while (!heap.isEmpty()) {
+            blackhole.consume(heap.extractRoot());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SiftEngineBenchmark.class.getSimpleName())
+                .build()).run();
+
+        int size = 1_000_000;
+        Integer[] data = randomData(size);
+        System.out.printf("%nPer operation, %d elements (insert all, then extract all):%n", size);
+        System.out.printf("  %-10s %14s %14s %14s %14s%n", "engine", "insert cmp", "insert moves",
+                "extract cmp", "extract moves");
+        for (Engine engine : Engine.values()) {
+            PerformanceTracker metrics = new PerformanceTracker();
+            Heap<Integer> heap = engine.create(metrics, false);
+            for (Integer value : data) {
+                heap.insert(value);
+            }
+            double insertComparisons = metrics.comparisons / (double) size;
+            double insertMoves = metrics.swaps / (double) size;
+            metrics.reset();
+            while (!heap.isEmpty()) {
+                heap.extractRoot();
+            }
+            System.out.printf("  %-10s %14.2f %14.2f %14.2f %14.2f%n", engine, insertComparisons, insertMoves,
+                    metrics.comparisons / (double) size, metrics.swaps / (double) size);
+        }
+    }
+}
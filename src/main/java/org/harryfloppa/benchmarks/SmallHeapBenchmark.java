@@ -0,0 +1,62 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.IHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lifecycle of a short-lived per-request heap: create, fill with {@code size}
+ * elements, drain.
+ * <p>
+ * One invocation is one heap, so JMH runs millions of them; the score is the latency
+ * per heap. Run with -prof gc: gc.alloc.rate.norm is the bytes allocated per heap (the
+ * array, its resizes and, for MinHeap, the index map with an entry per element), and
+ * gc.alloc.rate the allocation rate. size=64 is past SmallMinHeap's default threshold
+ * and includes the promotion.
+ *   java -jar target/benchmarks.jar SmallHeapBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SmallHeapBenchmark {
+
+    private static final int POOL = 1 << 12;
+
+    @Param({"SMALL_MIN_HEAP", "MIN_HEAP", "LEAN_MIN_HEAP", "ADAPTIVE_HEAP"})
+    public HeapImplementation impl;
+
+    @Param({"4", "16", "32", "64"})
+    public int size;
+
+    private Integer[] values;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        values = new Integer[POOL];
+        for (int i = 0; i < POOL; i++) {
+            values[i] = rand.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public long createFillDrain() {
+        IHeap<Integer> heap = impl.create();
+        int offset = next;
+        next = (next + size) & (POOL - 1);
+        for (int i = 0; i < size; i++) {
+            heap.insert(values[(offset + i) & (POOL - 1)]);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.extractRoot();
+        }
+        return sum;
+    }
+}
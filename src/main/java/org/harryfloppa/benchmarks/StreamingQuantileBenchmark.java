@@ -0,0 +1,86 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.stats.StreamingQuantile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Update throughput of {@link StreamingQuantile}: exact sliding-window p99 and median
+ * versus the constant-memory P² estimate.
+ * <p>
+ * Each invocation adds one value from a pre-generated latency-like stream
+ * (log-normal) and reads the quantile, as a metrics pipeline would. The window
+ * parameter only applies to EXACT. main() prints updates per second against the
+ * 10^7 updates/s target:
+ *   java -cp target/benchmarks.jar org.harryfloppa.benchmarks.StreamingQuantileBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StreamingQuantileBenchmark {
+
+    private static final double TARGET_UPDATES_PER_SECOND = 1e7;
+
+    public enum Estimator {
+        EXACT, APPROXIMATE
+    }
+
+    @Param({"EXACT", "APPROXIMATE"})
+    public Estimator estimator;
+
+    @Param({"0.5", "0.99"})
+    public double q;
+
+    @Param({"1000", "100000"})
+    public int window;
+
+    private StreamingQuantile quantile;
+    private double[] stream;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        stream = new double[1 << 20];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = Math.exp(rand.nextGaussian());
+        }
+        quantile = estimator == Estimator.EXACT ? StreamingQuantile.exact(q, window) : StreamingQuantile.approximate(q);
+        // Start from a full window so every measured update also expires a value
+        for (int i = 0; i < window; i++) {
+            quantile.add(stream[cursor++ & (stream.length - 1)]);
+        }
+    }
+
+    @Benchmark
+    public double update() {
+        quantile.add(stream[cursor++ & (stream.length - 1)]);
+        return quantile.quantile();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(StreamingQuantileBenchmark.class.getSimpleName())
+                .build()).run();
+
+        System.out.println("\nUpdates per second (target 10^7):");
+        for (RunResult result : results) {
+            double perSecond = result.getPrimaryResult().getScore() * 1e6;
+            System.out.printf("  %-12s q=%-5s window=%-7s %14.0f  %5.1f%% of target%n",
+                    result.getParams().getParam("estimator"), result.getParams().getParam("q"),
+                    result.getParams().getParam("window"), perSecond,
+                    100 * perSecond / TARGET_UPDATES_PER_SECOND);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.harryfloppa.benchmarks;
+
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.metrics.HeapSiftEvent;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * Baseline for {@link SiftEngineBenchmark}: MinHeap with the original swap-per-level
+ * sifts, three array writes plus two index updates at every level moved.
+ */
+class SwapSiftMinHeap<T extends Comparable<T>> extends MinHeap<T> {
+
+    SwapSiftMinHeap(PerformanceTracker metrics, boolean indexed) {
+        super(metrics, DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR, indexed);
+    }
+
+    @Override
+    protected void fixUpward(int index) {
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+
+            metrics.arrayAccesses += 2;
+            metrics.comparisons++;
+
+            if (heap[index].compareTo(heap[parentIndex]) < 0) {
+                swap(index, parentIndex);
+                index = parentIndex;
+            } else {
+                break;
+            }
+        }
+
+        commitSift(event, "up", swapsBefore);
+    }
+
+    @Override
+    protected void fixDownward(int index, int endIndex) {
+        if (endIndex == -1) return;
+
+        HeapSiftEvent event = new HeapSiftEvent();
+        event.begin();
+        long swapsBefore = metrics.swaps;
+
+        while (index <= endIndex) {
+            int leftChildIndex = index * 2 + 1;
+            int rightChildIndex = index * 2 + 2;
+
+            if (leftChildIndex > endIndex) break;
+
+            int smallestIndex = leftChildIndex;
+
+            if (rightChildIndex <= endIndex) {
+                metrics.arrayAccesses += 2;
+                metrics.comparisons++;
+
+                if (heap[rightChildIndex].compareTo(heap[leftChildIndex]) < 0) {
+                    smallestIndex = rightChildIndex;
+                }
+            }
+
+            metrics.arrayAccesses += 2;
+            metrics.comparisons++;
+
+            if (heap[index].compareTo(heap[smallestIndex]) > 0) {
+                swap(index, smallestIndex);
+                index = smallestIndex;
+            } else {
+                break;
+            }
+        }
+
+        commitSift(event, "down", swapsBefore);
+    }
+}
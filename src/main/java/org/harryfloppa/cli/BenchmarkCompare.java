@@ -0,0 +1,123 @@
+package org.harryfloppa.cli;
+
+import org.harryfloppa.metrics.BenchmarkComparison;
+import org.harryfloppa.metrics.BenchmarkResultStore;
+import org.harryfloppa.metrics.BenchmarkResults;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Compares two benchmark runs and exits non-zero when a regression is detected.
+ * <p>
+ * Usage:
+ * <pre>
+ *   BenchmarkCompare [options] &lt;baseline&gt; &lt;candidate&gt;
+ *   BenchmarkCompare --list
+ *   BenchmarkCompare --import jmh-result.json
+ *
+ *   baseline/candidate: a results file (.csv or JMH .json), a run id from the store,
+ *   a git revision prefix, "latest" or "previous"
+ *
+ *   --store &lt;dir&gt;        results store (default benchmark-history)
+ *   --confidence &lt;p&gt;     confidence level, default 0.95
+ *   --min-effect &lt;pct&gt;   smallest relative change reported as a regression, default 5
+ *   --noise &lt;pct&gt;        threshold when samples are too few for an interval, default 10
+ * </pre>
+ * Exit codes: 0 no regression, 1 regression detected, 2 usage or input error.
+ */
+public class BenchmarkCompare {
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        Path storeRoot = Paths.get(BenchmarkResultStore.DEFAULT_ROOT);
+        double confidence = 0.95;
+        double minEffect = 5;
+        double noise = 10;
+        String baseline = null;
+        String candidate = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--store" -> storeRoot = Paths.get(args[++i]);
+                    case "--confidence" -> confidence = Double.parseDouble(args[++i]);
+                    case "--min-effect" -> minEffect = Double.parseDouble(args[++i]);
+                    case "--noise" -> noise = Double.parseDouble(args[++i]);
+                    case "--list" -> {
+                        for (BenchmarkResultStore.Run run : new BenchmarkResultStore(storeRoot).listRuns()) {
+                            System.out.println(run);
+                        }
+                        return 0;
+                    }
+                    case "--import" -> {
+                        BenchmarkResultStore.Run run = new BenchmarkResultStore(storeRoot).importJmh(Paths.get(args[++i]));
+                        System.out.println("Imported as " + run);
+                        return 0;
+                    }
+                    default -> {
+                        if (baseline == null) baseline = args[i];
+                        else if (candidate == null) candidate = args[i];
+                        else return usage("Unexpected argument: " + args[i]);
+                    }
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            return usage("Invalid option value");
+        } catch (IOException e) {
+            System.err.println("Error accessing results store: " + e.getMessage());
+            return 2;
+        }
+
+        if (baseline == null || candidate == null) {
+            return usage("Baseline and candidate are required");
+        }
+
+        try {
+            BenchmarkResultStore store = new BenchmarkResultStore(storeRoot);
+            BenchmarkResults base = resolve(store, baseline);
+            BenchmarkResults cand = resolve(store, candidate);
+
+            BenchmarkComparison comparison = new BenchmarkComparison(confidence, minEffect / 100, noise / 100)
+                    .compare(base, cand);
+            comparison.printReport(System.out);
+
+            if (comparison.hasRegressions()) {
+                System.out.println("\n✗ Performance regression detected");
+                return 1;
+            }
+            System.out.println("\n✓ No significant regressions");
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading results: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private static BenchmarkResults resolve(BenchmarkResultStore store, String reference) throws IOException {
+        Path path = Paths.get(reference);
+        if (Files.exists(path)) {
+            return BenchmarkResults.load(path);
+        }
+
+        BenchmarkResultStore.Run run = store.find(reference);
+        if (run == null) {
+            throw new IllegalArgumentException("No results file or stored run matches '" + reference + "'");
+        }
+        System.out.println("Using run " + run);
+        return run.load();
+    }
+
+    private static int usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: BenchmarkCompare [--store dir] [--confidence p] [--min-effect pct] "
+                + "[--noise pct] <baseline> <candidate>");
+        System.err.println("       BenchmarkCompare [--store dir] --list | --import <jmh-result.json>");
+        return 2;
+    }
+}
@@ -1,8 +1,18 @@
 package org.harryfloppa.cli;
 
+import org.harryfloppa.algorithms.HeapFactory;
+import org.harryfloppa.algorithms.IHeap;
 import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.benchmarks.HeapImplementation;
+import org.harryfloppa.metrics.BenchmarkResultStore;
 import org.harryfloppa.metrics.PerformanceTracker;
+import org.harryfloppa.workloads.MacroWorkload;
+import org.harryfloppa.workloads.MacroWorkloads;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 import java.util.Scanner;
 
@@ -14,6 +24,10 @@ public class BenchmarkRunner {
     private static final int[] DEFAULT_SIZES = {100, 500, 1000, 5000, 10000};
     private static final String CSV_FILE = "benchmark-results.csv";
 
+    // Results of this session; CSV_FILE holds the session, the store keeps every session
+    private static boolean sessionStarted = false;
+    private static BenchmarkResultStore.Run run;
+
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
 
@@ -29,6 +43,7 @@ public class BenchmarkRunner {
             System.out.println("4. Run Merge Benchmark");
             System.out.println("5. Run All Benchmarks");
             System.out.println("6. Custom Size Benchmark");
+            System.out.println("7. Run Macro Workloads (all heaps)");
             System.out.println("0. Exit");
             System.out.print("\nChoice: ");
 
@@ -41,6 +56,7 @@ public class BenchmarkRunner {
                 case 4 -> benchmarkMerge(DEFAULT_SIZES);
                 case 5 -> runAllBenchmarks(DEFAULT_SIZES);
                 case 6 -> customSizeBenchmark(scanner);
+                case 7 -> benchmarkMacroWorkloads();
                 case 0 -> {
                     System.out.println("\nExiting... Goodbye!");
                     return;
@@ -76,8 +92,7 @@ public class BenchmarkRunner {
         }
 
         printSummaryTable("INSERT", sizes, trackers);
-        PerformanceTracker.exportBatchToCSV(CSV_FILE, "insert", sizes, trackers);
-        System.out.println("\n✓ Results exported to " + CSV_FILE);
+        exportResults("insert", sizes, trackers);
     }
 
     private static void benchmarkExtractMin(int[] sizes) {
@@ -111,8 +126,7 @@ public class BenchmarkRunner {
         }
 
         printSummaryTable("EXTRACT-MIN", sizes, trackers);
-        PerformanceTracker.exportBatchToCSV(CSV_FILE, "extractMin", sizes, trackers);
-        System.out.println("\n✓ Results exported to " + CSV_FILE);
+        exportResults("extractMin", sizes, trackers);
     }
 
     private static void benchmarkDecreaseKey(int[] sizes) {
@@ -155,8 +169,7 @@ public class BenchmarkRunner {
         }
 
         printSummaryTable("DECREASE-KEY", sizes, trackers);
-        PerformanceTracker.exportBatchToCSV(CSV_FILE, "decreaseKey", sizes, trackers);
-        System.out.println("\n✓ Results exported to " + CSV_FILE);
+        exportResults("decreaseKey", sizes, trackers);
     }
 
     private static void benchmarkMerge(int[] sizes) {
@@ -192,8 +205,82 @@ public class BenchmarkRunner {
         }
 
         printSummaryTable("MERGE", sizes, trackers);
-        PerformanceTracker.exportBatchToCSV(CSV_FILE, "merge", sizes, trackers);
-        System.out.println("\n✓ Results exported to " + CSV_FILE);
+        exportResults("merge", sizes, trackers);
+    }
+
+    private static void benchmarkMacroWorkloads() {
+        System.out.println("\n╔════════════════════════════════════════╗");
+        System.out.println("║      MACRO WORKLOAD BENCHMARKS         ║");
+        System.out.println("╚════════════════════════════════════════╝");
+
+        HeapImplementation[] implementations = HeapImplementation.values();
+        for (MacroWorkloads workload : MacroWorkloads.values()) {
+            int scale = workload.defaultScale();
+            System.out.printf("%nPreparing %s (scale %d)...%n", workload, scale);
+            MacroWorkload instance = workload.create();
+            instance.prepare(scale, 42);
+
+            PerformanceTracker[] trackers = new PerformanceTracker[implementations.length];
+            long[] checksums = new long[implementations.length];
+            for (int i = 0; i < implementations.length; i++) {
+                HeapImplementation implementation = implementations[i];
+                System.out.printf("Testing with %s... ", implementation);
+                instance.run(implementation); // warm-up
+
+                // Keep the heaps the workload creates to read their counters afterwards
+                List<IHeap<?>> heaps = new ArrayList<>();
+                HeapFactory recording = new HeapFactory() {
+                    @Override
+                    public <T extends Comparable<T>> IHeap<T> create() {
+                        IHeap<T> heap = implementation.create();
+                        heaps.add(heap);
+                        return heap;
+                    }
+                };
+
+                PerformanceTracker tracker = new PerformanceTracker();
+                tracker.startTimer();
+                checksums[i] = instance.run(recording);
+                tracker.stopTimer();
+                for (IHeap<?> heap : heaps) {
+                    tracker.add(heap.getMetrics());
+                }
+                trackers[i] = tracker;
+                System.out.printf("Done (%.2f ms)%n", tracker.getElapsedTimeMillis());
+            }
+
+            printMacroTable(workload, instance, implementations, trackers);
+            for (int i = 1; i < implementations.length; i++) {
+                if (checksums[i] != checksums[0]) {
+                    System.out.printf("✗ %s produced a different result than %s%n", implementations[i],
+                            implementations[0]);
+                }
+            }
+            for (int i = 0; i < implementations.length; i++) {
+                exportResults("macro-" + workload.name().toLowerCase(Locale.ROOT) + "-"
+                        + implementations[i].name().toLowerCase(Locale.ROOT), new int[]{scale},
+                        new PerformanceTracker[]{trackers[i]});
+            }
+        }
+    }
+
+    private static void printMacroTable(MacroWorkloads workload, MacroWorkload instance,
+                                        HeapImplementation[] implementations, PerformanceTracker[] trackers) {
+        System.out.println("\n╔════════════════════════════════════════════════════════════════════════════════╗");
+        System.out.printf("║ %-79s║%n", workload + " RESULTS");
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║ Heap                │  Time(ms)  │ %16s │ Comparisons │ Inserts    ║%n",
+                instance.unit() + "/s");
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════════╣");
+
+        for (int i = 0; i < implementations.length; i++) {
+            PerformanceTracker t = trackers[i];
+            System.out.printf("║ %-19s │ %10.2f │ %16.0f │ %11d │ %10d ║%n", implementations[i],
+                    t.getElapsedTimeMillis(), instance.workUnits() / (t.getElapsedTimeMillis() / 1e3),
+                    t.comparisons, t.inserts);
+        }
+
+        System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
     }
 
     private static void runAllBenchmarks(int[] sizes) {
@@ -234,6 +321,22 @@ public class BenchmarkRunner {
         }
     }
 
+    private static void exportResults(String operation, int[] sizes, PerformanceTracker[] trackers) {
+        PerformanceTracker.exportBatchToCSV(CSV_FILE, operation, sizes, trackers, sessionStarted);
+        sessionStarted = true;
+        System.out.println("\n✓ Results exported to " + CSV_FILE);
+
+        try {
+            if (run == null) {
+                run = new BenchmarkResultStore().createRun();
+            }
+            PerformanceTracker.exportBatchToCSV(run.getResultsCsv().toString(), operation, sizes, trackers, true);
+            System.out.println("✓ Run recorded in " + run.getDirectory());
+        } catch (IOException e) {
+            System.err.println("Error recording run history: " + e.getMessage());
+        }
+    }
+
     private static void printSummaryTable(String operation, int[] sizes, PerformanceTracker[] trackers) {
         System.out.println("\n╔════════════════════════════════════════════════════════════════════╗");
         System.out.printf("║                    %s BENCHMARK RESULTS%-20s║%n", operation, "");
@@ -0,0 +1,171 @@
+package org.harryfloppa.cli;
+
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.benchmarks.HeapImplementation;
+import org.harryfloppa.graph.CsrGraph;
+import org.harryfloppa.graph.EdgeListLoader;
+import org.harryfloppa.graph.GraphGenerator;
+import org.harryfloppa.graph.MinimumSpanningTree;
+import org.harryfloppa.graph.QueueMode;
+import org.harryfloppa.graph.ShortestPaths;
+import org.harryfloppa.graph.VertexLabel;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs Dijkstra, Prim and A* on one graph with every heap implementation and prints
+ * runtime and PerformanceTracker counters per heap.
+ * <p>
+ * Usage:
+ * <pre>
+ *   GraphBenchmarkRunner [options]
+ *
+ *   --generate &lt;rows&gt;x&lt;cols&gt;   road-like grid graph (default 1600x1600, about 10^7 edges)
+ *   --graph &lt;file&gt;             edge list or DIMACS .gr file instead of a generated graph
+ *   --coordinates &lt;file&gt;       DIMACS .co file for the A* heuristic
+ *   --directed                 keep file edges directed (Prim still needs both directions)
+ *   --heaps &lt;A,B,..&gt;           HeapImplementation names, default all
+ *   --algorithms &lt;a,b,..&gt;      dijkstra, prim, astar; default all
+ *   --mode &lt;m&gt;                 decrease-key, lazy or both (default); decrease-key is
+ *                              skipped for heaps that do not support it
+ *   --seed &lt;n&gt;                 generator seed, default 42
+ * </pre>
+ * The default graph needs a few GB of heap (-Xmx4g).
+ */
+public class GraphBenchmarkRunner {
+
+    private static final List<String> ALGORITHMS = List.of("dijkstra", "prim", "astar");
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        int rows = 1600;
+        int cols = 1600;
+        String graphFile = null;
+        String coordinateFile = null;
+        boolean directed = false;
+        long seed = 42;
+        List<HeapImplementation> heaps = List.of(HeapImplementation.values());
+        List<String> algorithms = ALGORITHMS;
+        List<QueueMode> modes = List.of(QueueMode.values());
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--generate" -> {
+                        String[] dims = args[++i].toLowerCase(Locale.ROOT).split("x");
+                        rows = Integer.parseInt(dims[0]);
+                        cols = Integer.parseInt(dims[1]);
+                    }
+                    case "--graph" -> graphFile = args[++i];
+                    case "--coordinates" -> coordinateFile = args[++i];
+                    case "--directed" -> directed = true;
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--heaps" -> {
+                        heaps = new ArrayList<>();
+                        for (String name : args[++i].split(",")) {
+                            heaps.add(HeapImplementation.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                        }
+                    }
+                    case "--algorithms" -> {
+                        algorithms = List.of(args[++i].toLowerCase(Locale.ROOT).split(","));
+                        for (String algorithm : algorithms) {
+                            if (!ALGORITHMS.contains(algorithm)) {
+                                throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+                            }
+                        }
+                    }
+                    case "--mode" -> modes = switch (args[++i]) {
+                        case "decrease-key" -> List.of(QueueMode.DECREASE_KEY);
+                        case "lazy" -> List.of(QueueMode.LAZY_INSERT);
+                        case "both" -> List.of(QueueMode.values());
+                        default -> throw new IllegalArgumentException("Unknown mode " + args[i]);
+                    };
+                    default -> throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            return usage(e.getMessage());
+        }
+
+        CsrGraph graph;
+        long start = System.nanoTime();
+        try {
+            if (graphFile != null) {
+                graph = EdgeListLoader.load(Paths.get(graphFile), !directed);
+                if (coordinateFile != null) {
+                    graph = EdgeListLoader.loadCoordinates(Paths.get(coordinateFile), graph);
+                }
+            } else {
+                graph = GraphGenerator.roadNetwork(rows, cols, seed);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading graph: " + e.getMessage());
+            return 2;
+        }
+        System.out.printf("%s (%.1f MB) ready in %.0f ms%n", graph, graph.footprintBytes() / 1e6,
+                (System.nanoTime() - start) / 1e6);
+        if (graph.vertexCount() == 0) {
+            System.err.println("Graph is empty");
+            return 2;
+        }
+
+        System.out.printf("%n%-10s %-20s %-13s %10s %14s %14s %14s %11s %11s %11s %11s%n",
+                "Algorithm", "Heap", "Mode", "Time (ms)", "Comparisons", "Swaps", "Array access",
+                "Inserts", "Extracts", "DecKeys", "Stale");
+        for (String algorithm : algorithms) {
+            for (HeapImplementation implementation : heaps) {
+                for (QueueMode mode : modes) {
+                    if (mode == QueueMode.DECREASE_KEY && !implementation.supportsDecreaseKey()) continue;
+                    runOne(graph, algorithm, implementation, mode);
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static void runOne(CsrGraph graph, String algorithm, HeapImplementation implementation, QueueMode mode) {
+        IHeap<VertexLabel> heap = implementation.create();
+        int target = graph.vertexCount() - 1;
+        long elapsed;
+        long stale;
+        switch (algorithm) {
+            case "dijkstra" -> {
+                ShortestPaths.Result result = ShortestPaths.dijkstra(graph, 0, heap, mode);
+                elapsed = result.getElapsedTimeNanos();
+                stale = result.staleExtractions();
+            }
+            case "astar" -> {
+                ShortestPaths.Result result = ShortestPaths.aStar(graph, 0, target, heap, mode);
+                elapsed = result.getElapsedTimeNanos();
+                stale = result.staleExtractions();
+            }
+            case "prim" -> {
+                MinimumSpanningTree.Result result = MinimumSpanningTree.prim(graph, heap, mode);
+                elapsed = result.getElapsedTimeNanos();
+                stale = result.staleExtractions();
+            }
+            default -> throw new IllegalStateException("Unknown algorithm " + algorithm);
+        }
+
+        PerformanceTracker metrics = heap.getMetrics();
+        System.out.printf("%-10s %-20s %-13s %10.1f %14d %14d %14d %11d %11d %11d %11d%n",
+                algorithm, implementation, mode, elapsed / 1e6, metrics.comparisons, metrics.swaps,
+                metrics.arrayAccesses, metrics.inserts, metrics.extractions, metrics.decreaseKeys, stale);
+    }
+
+    private static int usage(String message) {
+        if (message != null) System.err.println(message);
+        System.err.println("Usage: GraphBenchmarkRunner [--generate RxC | --graph file [--coordinates file] "
+                + "[--directed]] [--heaps A,B] [--algorithms dijkstra,prim,astar] "
+                + "[--mode decrease-key|lazy|both] [--seed n]");
+        return 2;
+    }
+}
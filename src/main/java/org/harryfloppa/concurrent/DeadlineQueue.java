@@ -0,0 +1,247 @@
+package org.harryfloppa.concurrent;
+
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking work queue that hands out tasks once their deadline has passed,
+ * ordered by deadline (ties in submission order), backed by the project's MinHeap
+ * <p>
+ * Waiting uses a ReentrantLock and a Condition only, never {@code synchronized} or
+ * Object.wait, so a virtual thread blocked in take() unmounts from its carrier
+ * instead of pinning it.
+ * <p>
+ * Leader-follower waiting: one thread (the leader) parks with a timeout equal to
+ * the current root's remaining delay; every other waiter parks without a timeout.
+ * With thousands of idle consumers only the leader wakes up when the root becomes
+ * due, instead of all of them timing out at once. A leader that takes a task, or an
+ * offer that installs a new earliest deadline, signals one follower to take over.
+ * <p>
+ * Deadlines are System.nanoTime() values.
+ */
+public class DeadlineQueue<E> {
+
+    private static final class Entry<E> implements Comparable<Entry<E>> {
+        final long deadline;
+        final long sequence;
+        final E task;
+
+        Entry(long deadline, long sequence, E task) {
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Entry<E> other) {
+            // Subtraction keeps the order correct across nanoTime overflow
+            long difference = deadline - other.deadline;
+            if (difference != 0) return difference < 0 ? -1 : 1;
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final MinHeap<Entry<E>> heap;
+    private Thread leader;
+    private long sequence;
+
+    public DeadlineQueue(PerformanceTracker metrics) {
+        this.heap = new MinHeap<>(metrics);
+    }
+
+    public DeadlineQueue() {
+        this(new PerformanceTracker());
+    }
+
+    /**
+     * Add a task that becomes available at the given System.nanoTime() value.
+     */
+    public void offerAt(E task, long deadlineNanos) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+
+        lock.lock();
+        try {
+            Entry<E> entry = new Entry<>(deadlineNanos, sequence++, task);
+            heap.insert(entry);
+            if (heap.peekRoot() == entry) {
+                // New earliest deadline: the current leader's timeout is too long
+                leader = null;
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void offer(E task, long delay, TimeUnit unit) {
+        offerAt(task, System.nanoTime() + unit.toNanos(delay));
+    }
+
+    /**
+     * Add a task that is due immediately.
+     */
+    public void offer(E task) {
+        offerAt(task, System.nanoTime());
+    }
+
+    /**
+     * Wait until the earliest task is due and remove it.
+     */
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (heap.isEmpty()) {
+                    available.await();
+                    continue;
+                }
+
+                long delay = heap.peekRoot().deadline - System.nanoTime();
+                if (delay <= 0) {
+                    return heap.extractRoot().task;
+                }
+                if (leader != null) {
+                    available.await();
+                } else {
+                    Thread current = Thread.currentThread();
+                    leader = current;
+                    try {
+                        available.awaitNanos(delay);
+                    } finally {
+                        if (leader == current) leader = null;
+                    }
+                }
+            }
+        } finally {
+            if (leader == null && !heap.isEmpty()) {
+                available.signal();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Like take(), but give up after the timeout.
+     * @return the task, or null if none became due in time
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (heap.isEmpty()) {
+                    if (remaining <= 0) return null;
+                    remaining = available.awaitNanos(remaining);
+                    continue;
+                }
+
+                long delay = heap.peekRoot().deadline - System.nanoTime();
+                if (delay <= 0) {
+                    return heap.extractRoot().task;
+                }
+                if (remaining <= 0) return null;
+                if (remaining < delay || leader != null) {
+                    remaining = available.awaitNanos(remaining);
+                } else {
+                    Thread current = Thread.currentThread();
+                    leader = current;
+                    try {
+                        remaining -= delay - available.awaitNanos(delay);
+                    } finally {
+                        if (leader == current) leader = null;
+                    }
+                }
+            }
+        } finally {
+            if (leader == null && !heap.isEmpty()) {
+                available.signal();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the earliest task if it is due, without waiting.
+     */
+    public E poll() {
+        lock.lock();
+        try {
+            if (heap.isEmpty() || heap.peekRoot().deadline - System.nanoTime() > 0) {
+                return null;
+            }
+            return heap.extractRoot().task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move every due task (at most maxElements) to the collection under a single
+     * lock acquisition.
+     * @return number of tasks moved
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            int moved = 0;
+            while (moved < maxElements && !heap.isEmpty() && heap.peekRoot().deadline - now <= 0) {
+                target.add(heap.extractRoot().task);
+                moved++;
+            }
+            if (moved > 0 && leader == null && !heap.isEmpty()) {
+                available.signal();
+            }
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int drainTo(Collection<? super E> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Nanoseconds until the earliest task is due (negative if overdue), or
+     * Long.MAX_VALUE when the queue is empty.
+     */
+    public long nanosUntilNext() {
+        lock.lock();
+        try {
+            return heap.isEmpty() ? Long.MAX_VALUE : heap.peekRoot().deadline - System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public PerformanceTracker getMetrics() {
+        return heap.getMetrics();
+    }
+}
@@ -0,0 +1,67 @@
+package org.harryfloppa.concurrent;
+
+import org.harryfloppa.algorithms.PersistentPriorityQueue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe min-priority queue whose readers take consistent snapshots without
+ * locking or copying
+ * <p>
+ * The state is one {@link PersistentPriorityQueue} version in an AtomicReference.
+ * Updates build the next version and install it with compareAndSet, retrying if
+ * another writer got there first; with a single writer they never retry.
+ * snapshot() is one volatile read: the returned version stays valid and unchanged
+ * however many updates follow, and costs nothing to keep (unchanged structure is
+ * shared with newer versions).
+ */
+public class SnapshotPriorityQueue<T extends Comparable<T>> {
+
+    private final AtomicReference<PersistentPriorityQueue<T>> current =
+            new AtomicReference<>(PersistentPriorityQueue.empty());
+
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot insert null element");
+        }
+        current.updateAndGet(queue -> queue.insert(element));
+    }
+
+    /**
+     * Remove and return the minimum, or null if the queue is empty.
+     */
+    public T poll() {
+        while (true) {
+            PersistentPriorityQueue<T> queue = current.get();
+            if (queue.isEmpty()) {
+                return null;
+            }
+            if (current.compareAndSet(queue, queue.deleteMin())) {
+                return queue.peekMin();
+            }
+        }
+    }
+
+    /**
+     * The minimum, or null if the queue is empty.
+     */
+    public T peek() {
+        PersistentPriorityQueue<T> queue = current.get();
+        return queue.isEmpty() ? null : queue.peekMin();
+    }
+
+    /**
+     * The current version, for lock-free reading.
+     */
+    public PersistentPriorityQueue<T> snapshot() {
+        return current.get();
+    }
+
+    public int size() {
+        return current.get().size();
+    }
+
+    public boolean isEmpty() {
+        return current.get().isEmpty();
+    }
+}
@@ -0,0 +1,169 @@
+package org.harryfloppa.graph;
+
+import java.util.Arrays;
+
+/**
+ * Directed graph with non-negative int weights in compressed sparse row form
+ * <p>
+ * The out-edges of vertex v are the indices offsets[v] .. offsets[v + 1] - 1 of the
+ * targets and weights arrays, so a graph with n vertices and m edges costs
+ * 4 * (n + 1 + 2m) bytes and neighbours are scanned sequentially. Undirected graphs
+ * store every edge in both directions.
+ * <p>
+ * Vertices can optionally carry planar coordinates, which A* uses for its
+ * straight-line heuristic.
+ */
+public final class CsrGraph {
+
+    private final int vertexCount;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final float[] x;
+    private final float[] y;
+    private double heuristicScale = Double.NaN;
+
+    private CsrGraph(int vertexCount, int[] offsets, int[] targets, int[] weights, float[] x, float[] y) {
+        this.vertexCount = vertexCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Build a graph from the first edgeCount entries of parallel edge arrays
+     * with a counting sort on the source vertex.
+     * @param undirected Also add the reverse of every edge
+     */
+    public static CsrGraph fromEdges(int vertexCount, int[] sources, int[] destinations, int[] edgeWeights,
+                                     int edgeCount, boolean undirected) {
+        if (vertexCount < 0 || edgeCount < 0 || edgeCount > sources.length
+                || edgeCount > destinations.length || edgeCount > edgeWeights.length) {
+            throw new IllegalArgumentException("Invalid vertex or edge count");
+        }
+
+        int[] offsets = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            int u = sources[e];
+            int v = destinations[e];
+            if (u < 0 || u >= vertexCount || v < 0 || v >= vertexCount) {
+                throw new IllegalArgumentException("Edge " + u + " -> " + v + " is out of range");
+            }
+            if (edgeWeights[e] < 0) {
+                throw new IllegalArgumentException("Negative weight on edge " + u + " -> " + v);
+            }
+            offsets[u + 1]++;
+            if (undirected) offsets[v + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int total = offsets[vertexCount];
+        int[] targets = new int[total];
+        int[] weights = new int[total];
+        int[] cursor = Arrays.copyOf(offsets, vertexCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int u = sources[e];
+            int v = destinations[e];
+            int slot = cursor[u]++;
+            targets[slot] = v;
+            weights[slot] = edgeWeights[e];
+            if (undirected) {
+                slot = cursor[v]++;
+                targets[slot] = u;
+                weights[slot] = edgeWeights[e];
+            }
+        }
+        return new CsrGraph(vertexCount, offsets, targets, weights, null, null);
+    }
+
+    /**
+     * The same graph with vertex coordinates attached; the adjacency arrays are shared.
+     */
+    public CsrGraph withCoordinates(float[] xs, float[] ys) {
+        if (xs.length != vertexCount || ys.length != vertexCount) {
+            throw new IllegalArgumentException("Need one coordinate pair per vertex");
+        }
+        return new CsrGraph(vertexCount, offsets, targets, weights, xs, ys);
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int firstEdge(int v) {
+        return offsets[v];
+    }
+
+    public int endEdge(int v) {
+        return offsets[v + 1];
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    public boolean hasCoordinates() {
+        return x != null;
+    }
+
+    public double distance(int u, int v) {
+        double dx = x[u] - x[v];
+        double dy = y[u] - y[v];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Largest factor c with weight(u, v) >= c * distance(u, v) on every edge, so
+     * c * distance(v, goal) never overestimates the remaining path length.
+     * Computed once, on first use.
+     */
+    public double heuristicScale() {
+        if (!hasCoordinates()) {
+            return 0;
+        }
+        if (Double.isNaN(heuristicScale)) {
+            double scale = Double.POSITIVE_INFINITY;
+            for (int u = 0; u < vertexCount; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    double length = distance(u, targets[e]);
+                    if (length > 0) {
+                        scale = Math.min(scale, weights[e] / length);
+                    }
+                }
+            }
+            // Leave a little slack for rounding in the heuristic's own arithmetic
+            heuristicScale = Double.isInfinite(scale) ? 0 : scale * (1 - 1e-9);
+        }
+        return heuristicScale;
+    }
+
+    /**
+     * Approximate heap footprint of the adjacency and coordinate arrays in bytes.
+     */
+    public long footprintBytes() {
+        long bytes = 4L * offsets.length + 4L * targets.length + 4L * weights.length;
+        if (hasCoordinates()) bytes += 8L * vertexCount;
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[vertices=" + vertexCount + ", edges=" + edgeCount() + "]";
+    }
+}
@@ -0,0 +1,239 @@
+package org.harryfloppa.graph;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads edge-list text files through memory-mapped windows
+ * <p>
+ * Recognised lines:
+ * - "u v [w]": plain edge list, 0-based ids, weight defaults to 1
+ * - "a u v w": DIMACS shortest-path arc, 1-based ids (9th DIMACS challenge .gr files)
+ * - "v id x y": DIMACS coordinate line, 1-based id (.co files, see loadCoordinates)
+ * - "p sp n m": DIMACS problem line; the graph has at least n vertices, so vertices
+ *   without arcs at the end of the id range are kept
+ * - lines starting with c, # or %, and other p lines, are comments/headers and are skipped
+ * <p>
+ * The file is mapped in windows of at most WINDOW_BYTES; each window is parsed up to
+ * its last complete line and the next one starts right after it, so files larger than
+ * 2 GB work and no byte is copied onto the Java heap. Numbers are parsed directly
+ * from the mapped bytes.
+ */
+public final class EdgeListLoader {
+
+    static final int WINDOW_BYTES = 1 << 28;
+
+    private EdgeListLoader() {
+    }
+
+    public static CsrGraph load(Path file, boolean undirected) throws IOException {
+        return load(file, undirected, WINDOW_BYTES);
+    }
+
+    static CsrGraph load(Path file, boolean undirected, int windowBytes) throws IOException {
+        EdgeBuffer edges = new EdgeBuffer();
+        forEachLine(file, windowBytes, line -> {
+            char kind = line.kind();
+            if (kind == 'a') {
+                edges.add(line.nextInt() - 1, line.nextInt() - 1, line.nextInt());
+            } else if (kind == '0') {
+                int u = line.nextInt();
+                int v = line.nextInt();
+                edges.add(u, v, line.hasMore() ? line.nextInt() : 1);
+            } else if (kind == 'p') {
+                line.nextToken();
+                if ("sp".equals(line.nextToken())) {
+                    int n = line.nextInt();
+                    if (n < 0) {
+                        throw new IOException("Negative vertex count " + n + " at byte " + line.start);
+                    }
+                    edges.declaredVertices = n;
+                }
+            } else if (kind != 'c' && kind != 'p' && kind != '#' && kind != '%' && kind != 'v') {
+                throw new IOException("Unrecognised line type '" + kind + "' at byte " + line.start);
+            }
+        });
+        int vertices = Math.max(edges.declaredVertices, edges.maxVertex + 1);
+        return CsrGraph.fromEdges(vertices, edges.sources, edges.destinations, edges.weights,
+                edges.count, undirected);
+    }
+
+    /**
+     * Attach the coordinates of a DIMACS .co file ("v id x y", 1-based) to the graph.
+     */
+    public static CsrGraph loadCoordinates(Path file, CsrGraph graph) throws IOException {
+        int n = graph.vertexCount();
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        forEachLine(file, WINDOW_BYTES, line -> {
+            if (line.kind() == 'v') {
+                int id = line.nextInt() - 1;
+                if (id < 0 || id >= n) {
+                    throw new IOException("Coordinate for unknown vertex " + (id + 1));
+                }
+                xs[id] = line.nextInt();
+                ys[id] = line.nextInt();
+            }
+        });
+        return graph.withCoordinates(xs, ys);
+    }
+
+    // ===== parsing =====
+
+    private interface LineHandler {
+        void accept(Line line) throws IOException;
+    }
+
+    private static void forEachLine(Path file, int windowBytes, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            Line line = new Line();
+            while (position < size) {
+                long length = Math.min(windowBytes, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int end = (int) length;
+                if (position + length < size) {
+                    // Stop after the last complete line; the rest is re-mapped with the next window
+                    while (end > 0 && buffer.get(end - 1) != '\n') end--;
+                    if (end == 0) {
+                        throw new IOException("Line at byte " + position + " is longer than the mapping window");
+                    }
+                }
+
+                line.buffer = buffer;
+                int i = 0;
+                while (i < end) {
+                    int lineEnd = i;
+                    while (lineEnd < end && buffer.get(lineEnd) != '\n') lineEnd++;
+                    line.reset(i, lineEnd, position);
+                    if (line.kind() != 0) {
+                        handler.accept(line);
+                    }
+                    i = lineEnd + 1;
+                }
+                position += end;
+            }
+        }
+    }
+
+    /**
+     * Cursor over one line of a mapped window.
+     */
+    private static final class Line {
+        MappedByteBuffer buffer;
+        long start;
+        int pos;
+        int end;
+
+        void reset(int from, int to, long windowOffset) {
+            pos = from;
+            end = to;
+            start = windowOffset + from;
+            skipBlanks();
+        }
+
+        /**
+         * First character of the line, '0' for a number, 0 for a blank line.
+         * The type letter itself is skipped by the first nextInt().
+         */
+        char kind() {
+            if (pos >= end) return 0;
+            char c = (char) buffer.get(pos);
+            if (c >= '0' && c <= '9' || c == '-') return '0';
+            return c;
+        }
+
+        boolean hasMore() {
+            skipBlanks();
+            return pos < end;
+        }
+
+        /**
+         * Next blank-separated word, "" at the end of the line.
+         */
+        String nextToken() {
+            skipBlanks();
+            StringBuilder token = new StringBuilder();
+            while (pos < end) {
+                byte c = buffer.get(pos);
+                if (c == ' ' || c == '\t' || c == '\r') break;
+                token.append((char) c);
+                pos++;
+            }
+            return token.toString();
+        }
+
+        int nextInt() throws IOException {
+            skipBlanks();
+            if (pos < end && !Character.isDigit(buffer.get(pos)) && buffer.get(pos) != '-') {
+                // Skip the line's type letter
+                pos++;
+                skipBlanks();
+            }
+            boolean negative = pos < end && buffer.get(pos) == '-';
+            if (negative) pos++;
+            int digits = pos;
+            long value = 0;
+            while (pos < end) {
+                int c = buffer.get(pos) - '0';
+                if (c < 0 || c > 9) break;
+                value = value * 10 + c;
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw new IOException("Number out of range at byte " + start);
+                }
+                pos++;
+            }
+            if (pos == digits) {
+                throw new IOException("Expected a number at byte " + start);
+            }
+            long result = negative ? -value : value;
+            if (result > Integer.MAX_VALUE) {
+                throw new IOException("Number out of range at byte " + start);
+            }
+            return (int) result;
+        }
+
+        private void skipBlanks() {
+            while (pos < end) {
+                byte c = buffer.get(pos);
+                if (c != ' ' && c != '\t' && c != '\r') break;
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Growable parallel int arrays for edges read so far.
+     */
+    private static final class EdgeBuffer {
+        int[] sources = new int[1024];
+        int[] destinations = new int[1024];
+        int[] weights = new int[1024];
+        int count;
+        int maxVertex = -1;
+        /** n of the DIMACS "p sp n m" line, 0 without one */
+        int declaredVertices;
+
+        void add(int u, int v, int w) throws IOException {
+            if (u < 0 || v < 0) {
+                throw new IOException("Negative vertex id in edge " + u + " -> " + v);
+            }
+            if (count == sources.length) {
+                int capacity = sources.length * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            sources[count] = u;
+            destinations[count] = v;
+            weights[count] = w;
+            count++;
+            maxVertex = Math.max(maxVertex, Math.max(u, v));
+        }
+    }
+}
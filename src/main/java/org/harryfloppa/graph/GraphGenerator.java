@@ -0,0 +1,95 @@
+package org.harryfloppa.graph;
+
+import java.util.Random;
+
+/**
+ * Synthetic graphs for the graph benchmarks
+ * <p>
+ * roadNetwork builds a planar, road-like graph: vertices on a jittered grid,
+ * undirected edges to the right and lower neighbour plus occasional diagonal
+ * shortcuts, and weights equal to the Euclidean length times a random detour
+ * factor in [1, 1.5). Degrees stay around 4 as in real road networks, the graph is
+ * connected, and the straight-line distance is an admissible A* heuristic.
+ * A rows x cols grid has about 4 * rows * cols directed edges, so 1600 x 1600 gives
+ * roughly 10^7.
+ */
+public final class GraphGenerator {
+
+    private static final float SPACING = 100f;
+    private static final double DIAGONAL_PROBABILITY = 0.1;
+
+    private GraphGenerator() {
+    }
+
+    public static CsrGraph roadNetwork(int rows, int cols, long seed) {
+        if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("Grid size out of range: " + rows + " x " + cols);
+        }
+
+        Random rand = new Random(seed);
+        int n = rows * cols;
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                xs[v] = (c + 0.4f * (rand.nextFloat() - 0.5f)) * SPACING;
+                ys[v] = (r + 0.4f * (rand.nextFloat() - 0.5f)) * SPACING;
+            }
+        }
+
+        int capacity = 2 * n + (int) (n * DIAGONAL_PROBABILITY * 1.2) + 16;
+        int[] sources = new int[capacity];
+        int[] destinations = new int[capacity];
+        int[] weights = new int[capacity];
+        int m = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    m = addEdge(sources, destinations, weights, m, v, v + 1, xs, ys, rand);
+                }
+                if (r + 1 < rows) {
+                    m = addEdge(sources, destinations, weights, m, v, v + cols, xs, ys, rand);
+                }
+                if (r + 1 < rows && c + 1 < cols && m < capacity && rand.nextDouble() < DIAGONAL_PROBABILITY) {
+                    m = addEdge(sources, destinations, weights, m, v, v + cols + 1, xs, ys, rand);
+                }
+            }
+        }
+        return CsrGraph.fromEdges(n, sources, destinations, weights, m, true).withCoordinates(xs, ys);
+    }
+
+    /**
+     * Random graph with the given number of undirected edges between uniformly
+     * chosen endpoints and weights in [1, maxWeight]; no coordinates, may be
+     * disconnected.
+     */
+    public static CsrGraph random(int vertices, int edges, int maxWeight, long seed) {
+        if (vertices < 1 || edges < 0 || maxWeight < 1) {
+            throw new IllegalArgumentException("Invalid random graph parameters");
+        }
+
+        Random rand = new Random(seed);
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            sources[e] = rand.nextInt(vertices);
+            destinations[e] = rand.nextInt(vertices);
+            weights[e] = 1 + rand.nextInt(maxWeight);
+        }
+        return CsrGraph.fromEdges(vertices, sources, destinations, weights, edges, true);
+    }
+
+    private static int addEdge(int[] sources, int[] destinations, int[] weights, int m,
+                               int u, int v, float[] xs, float[] ys, Random rand) {
+        double dx = xs[u] - xs[v];
+        double dy = ys[u] - ys[v];
+        double length = Math.sqrt(dx * dx + dy * dy);
+        sources[m] = u;
+        destinations[m] = v;
+        weights[m] = (int) Math.ceil(length * (1 + 0.5 * rand.nextDouble()));
+        return m + 1;
+    }
+}
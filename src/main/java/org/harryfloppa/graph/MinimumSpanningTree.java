@@ -0,0 +1,124 @@
+package org.harryfloppa.graph;
+
+import org.harryfloppa.algorithms.IHeap;
+
+import java.util.Arrays;
+
+/**
+ * Prim's minimum spanning tree over a caller-supplied heap
+ * <p>
+ * The graph is treated as undirected (every edge should be stored in both
+ * directions, as CsrGraph.fromEdges(..., true) does). A disconnected graph yields a
+ * spanning forest: Prim is restarted from the lowest unvisited vertex of every
+ * component. Heap and QueueMode requirements are the same as for ShortestPaths.
+ */
+public final class MinimumSpanningTree {
+
+    private MinimumSpanningTree() {
+    }
+
+    public static final class Result {
+        private final int[] parents;
+        private final long totalWeight;
+        private final int treeEdges;
+        private final int components;
+        private final long staleExtractions;
+        private final long elapsedNanos;
+
+        Result(int[] parents, long totalWeight, int treeEdges, int components, long staleExtractions,
+               long elapsedNanos) {
+            this.parents = parents;
+            this.totalWeight = totalWeight;
+            this.treeEdges = treeEdges;
+            this.components = components;
+            this.staleExtractions = staleExtractions;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Tree neighbour through which the vertex was connected, -1 for component roots.
+         */
+        public int parent(int vertex) {
+            return parents[vertex];
+        }
+
+        public long totalWeight() {
+            return totalWeight;
+        }
+
+        public int treeEdges() {
+            return treeEdges;
+        }
+
+        public int components() {
+            return components;
+        }
+
+        public long staleExtractions() {
+            return staleExtractions;
+        }
+
+        public long getElapsedTimeNanos() {
+            return elapsedNanos;
+        }
+    }
+
+    public static Result prim(CsrGraph graph, IHeap<VertexLabel> heap, QueueMode mode) {
+        if (!heap.isEmpty()) {
+            throw new IllegalArgumentException("Heap must be empty");
+        }
+
+        long start = System.nanoTime();
+        int n = graph.vertexCount();
+        long[] keys = new long[n];
+        int[] parents = new int[n];
+        boolean[] inTree = new boolean[n];
+        VertexLabel[] queued = mode == QueueMode.DECREASE_KEY ? new VertexLabel[n] : null;
+        Arrays.fill(keys, Long.MAX_VALUE);
+        Arrays.fill(parents, -1);
+
+        long total = 0;
+        int treeEdges = 0;
+        int components = 0;
+        long stale = 0;
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) continue;
+            components++;
+            keys[root] = 0;
+            VertexLabel first = new VertexLabel(root, 0);
+            heap.insert(first);
+            if (queued != null) queued[root] = first;
+
+            while (!heap.isEmpty()) {
+                VertexLabel label = heap.extractRoot();
+                int v = label.vertex;
+                if (inTree[v]) {
+                    stale++;
+                    continue;
+                }
+                inTree[v] = true;
+                if (parents[v] != -1) {
+                    total += label.priority;
+                    treeEdges++;
+                }
+
+                for (int e = graph.firstEdge(v), end = graph.endEdge(v); e < end; e++) {
+                    int u = graph.target(e);
+                    int w = graph.weight(e);
+                    if (inTree[u] || w >= keys[u]) continue;
+
+                    keys[u] = w;
+                    parents[u] = v;
+                    VertexLabel next = new VertexLabel(u, w);
+                    if (queued != null && queued[u] != null) {
+                        heap.decreaseKey(queued[u], next);
+                    } else {
+                        heap.insert(next);
+                    }
+                    if (queued != null) queued[u] = next;
+                }
+            }
+        }
+        return new Result(parents, total, treeEdges, components, stale, System.nanoTime() - start);
+    }
+}
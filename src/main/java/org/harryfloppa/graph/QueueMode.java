@@ -0,0 +1,15 @@
+package org.harryfloppa.graph;
+
+/**
+ * How the graph algorithms update a vertex that is already queued with a worse priority
+ * <p>
+ * - DECREASE_KEY: replace its label in place with IHeap.decreaseKey; the heap never
+ *   holds more than one label per vertex
+ * - LAZY_INSERT: insert a second, better label and skip the outdated one when it is
+ *   extracted; works with heaps that do not support decreaseKey at the cost of a
+ *   larger heap and extra extractions
+ */
+public enum QueueMode {
+    DECREASE_KEY,
+    LAZY_INSERT
+}
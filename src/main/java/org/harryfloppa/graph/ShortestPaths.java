@@ -0,0 +1,167 @@
+package org.harryfloppa.graph;
+
+import org.harryfloppa.algorithms.IHeap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-source shortest paths (Dijkstra) and point-to-point search (A*) over a
+ * caller-supplied heap
+ * <p>
+ * The heap is passed in empty, so any IHeap implementation can be measured and its
+ * PerformanceTracker read afterwards. With QueueMode.DECREASE_KEY the heap must
+ * support decreaseKey; LAZY_INSERT works with every heap. After an A* search the
+ * heap still holds the unexplored frontier.
+ * Distances are longs; unreachable vertices keep UNREACHABLE.
+ */
+public final class ShortestPaths {
+
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private ShortestPaths() {
+    }
+
+    public static final class Result {
+        private final long[] distances;
+        private final int[] parents;
+        private final int settled;
+        private final long staleExtractions;
+        private final long elapsedNanos;
+
+        Result(long[] distances, int[] parents, int settled, long staleExtractions, long elapsedNanos) {
+            this.distances = distances;
+            this.parents = parents;
+            this.settled = settled;
+            this.staleExtractions = staleExtractions;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long distance(int vertex) {
+            return distances[vertex];
+        }
+
+        public long[] distances() {
+            return distances;
+        }
+
+        public int parent(int vertex) {
+            return parents[vertex];
+        }
+
+        /**
+         * Vertices from the source to the target, empty if the target was not reached.
+         */
+        public List<Integer> path(int target) {
+            if (distances[target] == UNREACHABLE) {
+                return List.of();
+            }
+            List<Integer> path = new ArrayList<>();
+            for (int v = target; v != -1; v = parents[v]) {
+                path.add(v);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        /**
+         * Number of vertices whose distance was finalised.
+         */
+        public int settled() {
+            return settled;
+        }
+
+        /**
+         * Outdated labels skipped in LAZY_INSERT mode.
+         */
+        public long staleExtractions() {
+            return staleExtractions;
+        }
+
+        public long getElapsedTimeNanos() {
+            return elapsedNanos;
+        }
+    }
+
+    public static Result dijkstra(CsrGraph graph, int source, IHeap<VertexLabel> heap, QueueMode mode) {
+        return search(graph, source, -1, heap, mode, 0);
+    }
+
+    /**
+     * A* from source to target with the straight-line heuristic scaled by
+     * graph.heuristicScale(); without coordinates it degrades to Dijkstra with an
+     * early exit at the target.
+     */
+    public static Result aStar(CsrGraph graph, int source, int target, IHeap<VertexLabel> heap, QueueMode mode) {
+        checkVertex(graph, target);
+        return search(graph, source, target, heap, mode, graph.heuristicScale());
+    }
+
+    private static Result search(CsrGraph graph, int source, int target, IHeap<VertexLabel> heap,
+                                 QueueMode mode, double scale) {
+        checkVertex(graph, source);
+        if (!heap.isEmpty()) {
+            throw new IllegalArgumentException("Heap must be empty");
+        }
+
+        long start = System.nanoTime();
+        int n = graph.vertexCount();
+        long[] distances = new long[n];
+        int[] parents = new int[n];
+        boolean[] settled = new boolean[n];
+        // Label currently queued for each vertex, needed to decreaseKey it
+        VertexLabel[] queued = mode == QueueMode.DECREASE_KEY ? new VertexLabel[n] : null;
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(parents, -1);
+
+        distances[source] = 0;
+        VertexLabel first = new VertexLabel(source, heuristic(graph, source, target, scale));
+        heap.insert(first);
+        if (queued != null) queued[source] = first;
+
+        int settledCount = 0;
+        long stale = 0;
+        while (!heap.isEmpty()) {
+            int v = heap.extractRoot().vertex;
+            if (settled[v]) {
+                stale++;
+                continue;
+            }
+            settled[v] = true;
+            settledCount++;
+            if (v == target) break;
+
+            long dv = distances[v];
+            for (int e = graph.firstEdge(v), end = graph.endEdge(v); e < end; e++) {
+                int u = graph.target(e);
+                long candidate = dv + graph.weight(e);
+                if (settled[u] || candidate >= distances[u]) continue;
+
+                distances[u] = candidate;
+                parents[u] = v;
+                VertexLabel label = new VertexLabel(u, candidate + heuristic(graph, u, target, scale));
+                if (queued != null && queued[u] != null) {
+                    heap.decreaseKey(queued[u], label);
+                } else {
+                    heap.insert(label);
+                }
+                if (queued != null) queued[u] = label;
+            }
+        }
+
+        return new Result(distances, parents, settledCount, stale, System.nanoTime() - start);
+    }
+
+    private static long heuristic(CsrGraph graph, int v, int target, double scale) {
+        if (target < 0 || scale == 0) return 0;
+        return (long) (scale * graph.distance(v, target));
+    }
+
+    private static void checkVertex(CsrGraph graph, int v) {
+        if (v < 0 || v >= graph.vertexCount()) {
+            throw new IllegalArgumentException("Vertex " + v + " is not in the graph");
+        }
+    }
+}
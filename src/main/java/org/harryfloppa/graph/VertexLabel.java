@@ -0,0 +1,30 @@
+package org.harryfloppa.graph;
+
+/**
+ * Heap element of the graph algorithms: a vertex and its current priority
+ * (tentative distance, A* f-value or connecting edge weight)
+ * <p>
+ * Ordered by priority, ties by vertex id. equals/hashCode are deliberately left at
+ * identity: heaps that index their elements for decreaseKey must tell an outdated
+ * label of a vertex apart from its replacement.
+ */
+public final class VertexLabel implements Comparable<VertexLabel> {
+    public final int vertex;
+    public final long priority;
+
+    public VertexLabel(int vertex, long priority) {
+        this.vertex = vertex;
+        this.priority = priority;
+    }
+
+    @Override
+    public int compareTo(VertexLabel other) {
+        int byPriority = Long.compare(priority, other.priority);
+        return byPriority != 0 ? byPriority : Integer.compare(vertex, other.vertex);
+    }
+
+    @Override
+    public String toString() {
+        return vertex + ":" + priority;
+    }
+}
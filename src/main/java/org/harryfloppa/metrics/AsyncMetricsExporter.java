@@ -0,0 +1,584 @@
+package org.harryfloppa.metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched exporter for {@link PerformanceTracker} rows.
+ * <p>
+ * Callers copy a tracker's counters into a bounded lock-free ring buffer with
+ * {@link #offer}; a background writer thread drains the ring and writes rows in large
+ * batches through a single open {@link FileChannel}. The calling thread never blocks
+ * and never touches the disk: when the ring is full the row is dropped and counted
+ * (see {@link #getDropped()}).
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ *   <li>{@link Format#CSV} - same columns as {@link PerformanceTracker#exportToCSV}</li>
+ *   <li>{@link Format#BINARY} - compact columnar blocks for multi-million-row runs,
+ *       readable with {@link #readBinary(Path, RowConsumer)}</li>
+ * </ul>
+ */
+public class AsyncMetricsExporter implements AutoCloseable {
+
+    public enum Format { CSV, BINARY }
+
+    /**
+     * Callback for rows decoded by {@link #readBinary(Path, RowConsumer)}.
+     */
+    public interface RowConsumer {
+        void accept(long timestampMillis, String operation, int dataSize,
+                    long comparisons, long swaps, long arrayAccesses,
+                    long allocations, long elapsedNanos);
+    }
+
+    public static final int BINARY_MAGIC = 0x4846504D; // "HFPM"
+    public static final short BINARY_VERSION = 1;
+    static final String CSV_HEADER =
+            "timestamp,operation,dataSize,comparisons,swaps,arrayAccesses,allocations,timeMs";
+
+    private static final int BLOCK_ROWS = 8192;
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+    // Upper bound of a CSV row without its operation: quoted timestamp, six numbers
+    private static final int CSV_FIXED_BYTES = 256;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+    private static final long IDLE_FLUSH_NANOS = 100_000_000L;
+
+    // Ring buffer: one sequence number per slot plus one primitive array per column,
+    // so offering a row allocates nothing.
+    private final int mask;
+    private final AtomicLongArray sequence;
+    private final String[] operations;
+    private final int[] dataSizes;
+    private final long[] timestamps;
+    private final long[] comparisons;
+    private final long[] swaps;
+    private final long[] arrayAccesses;
+    private final long[] allocations;
+    private final long[] elapsed;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0; // writer thread only
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written = 0;
+    private volatile long flushRequest = 0;
+    private volatile long flushedThrough = 0;
+    private volatile boolean closing = false;
+    private volatile IOException failure;
+
+    private final Format format;
+    private final FileChannel channel;
+    private final ByteBuffer out;
+    private final Thread writer;
+
+    // Binary block being assembled by the writer thread
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> pendingDictionary = new ArrayList<>();
+    private int blockRows = 0;
+    private final int[] blockOps;
+    private final int[] blockSizes;
+    private final long[][] blockLongs;
+
+    /**
+     * @param file Output file, truncated if it exists
+     * @param format Output format
+     * @param capacity Ring buffer capacity in rows, rounded up to a power of two
+     */
+    public AsyncMetricsExporter(Path file, Format format, int capacity) throws IOException {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.mask = size - 1;
+        this.sequence = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequence.set(i, i);
+        }
+        this.operations = new String[size];
+        this.dataSizes = new int[size];
+        this.timestamps = new long[size];
+        this.comparisons = new long[size];
+        this.swaps = new long[size];
+        this.arrayAccesses = new long[size];
+        this.allocations = new long[size];
+        this.elapsed = new long[size];
+
+        this.format = format;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+
+        if (format == Format.BINARY) {
+            blockOps = new int[BLOCK_ROWS];
+            blockSizes = new int[BLOCK_ROWS];
+            blockLongs = new long[6][BLOCK_ROWS];
+            out.putInt(BINARY_MAGIC).putShort(BINARY_VERSION);
+        } else {
+            blockOps = null;
+            blockSizes = null;
+            blockLongs = null;
+            writeAscii(CSV_HEADER);
+            out.put((byte) '\n');
+        }
+
+        this.writer = new Thread(this::drainLoop, "metrics-exporter-" + file.getFileName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public AsyncMetricsExporter(Path file, Format format) throws IOException {
+        this(file, format, 1 << 16);
+    }
+
+    /**
+     * Enqueue a copy of the tracker's current counters without blocking.
+     * @return false if the ring was full (or the exporter closed) and the row was dropped
+     */
+    public boolean offer(String operation, int dataSize, PerformanceTracker tracker) {
+        return offer(operation, dataSize, tracker.comparisons, tracker.swaps,
+                tracker.arrayAccesses, tracker.allocations, tracker.getElapsedTimeNanos());
+    }
+
+    public boolean offer(String operation, int dataSize, long comparisons, long swaps,
+                         long arrayAccesses, long allocations, long elapsedNanos) {
+        long pos = closing || failure != null ? -1 : claim();
+        if (pos < 0) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        publish(pos, System.currentTimeMillis(), operation, dataSize,
+                comparisons, swaps, arrayAccesses, allocations, elapsedNanos);
+        return true;
+    }
+
+    // Claim the next ring position, or -1 if the ring is full
+    private long claim() {
+        while (true) {
+            long pos = tail.get();
+            long seq = sequence.get((int) (pos & mask));
+            if (seq == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) return pos;
+            } else if (seq < pos) {
+                return -1;
+            }
+            // Another producer took this position; retry with the new tail
+        }
+    }
+
+    private void publish(long pos, long timestampMillis, String operation, int dataSize,
+                         long comparisons, long swaps, long arrayAccesses,
+                         long allocations, long elapsedNanos) {
+        int slot = (int) (pos & mask);
+        this.operations[slot] = operation == null ? "" : operation;
+        this.dataSizes[slot] = dataSize;
+        this.timestamps[slot] = timestampMillis;
+        this.comparisons[slot] = comparisons;
+        this.swaps[slot] = swaps;
+        this.arrayAccesses[slot] = arrayAccesses;
+        this.allocations[slot] = allocations;
+        this.elapsed[slot] = elapsedNanos;
+        sequence.lazySet(slot, pos + 1);
+    }
+
+    /**
+     * Block until every row offered before this call has been written to the file.
+     * Intended for checkpoints and shutdown, never for the heap's own thread.
+     */
+    public void flush() {
+        long target = tail.get();
+        if (target > flushRequest) {
+            flushRequest = target;
+        }
+        LockSupport.unpark(writer);
+        while (flushedThrough < target && writer.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Drain remaining rows, write them and close the file.
+     */
+    @Override
+    public void close() {
+        if (closing) return;
+        closing = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public IOException getFailure() {
+        return failure;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    // ===== writer thread =====
+
+    private void drainLoop() {
+        long lastWrite = System.nanoTime();
+        try {
+            while (true) {
+                int drained = drain();
+
+                // A flush completes once its rows are out, even if producers keep offering
+                long target = flushRequest;
+                if (target > flushedThrough && head >= target) {
+                    writePendingBlock();
+                    flushBuffer();
+                    flushedThrough = head;
+                }
+                if (drained > 0) {
+                    lastWrite = System.nanoTime();
+                    continue;
+                }
+
+                // Claimed but unpublished rows must land before a flush or close completes
+                boolean caughtUp = head >= tail.get();
+                boolean requested = closing || flushRequest > flushedThrough;
+                boolean idle = System.nanoTime() - lastWrite > IDLE_FLUSH_NANOS
+                        && (blockRows > 0 || out.position() > 0);
+
+                if (requested ? caughtUp : idle) {
+                    writePendingBlock();
+                    flushBuffer();
+                    flushedThrough = head;
+                    if (closing) break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } catch (IOException e) {
+            failure = e;
+            System.err.println("Error writing metrics: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // Fail like an I/O error, so offers stop instead of queueing rows nobody writes
+            failure = new IOException("Metrics writer failed", e);
+            System.err.println("Error writing metrics: " + e);
+        } finally {
+            flushedThrough = Long.MAX_VALUE;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing metrics file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write the published rows, at most one ring's worth per call so flush requests are
+     * checked between batches.
+     */
+    private int drain() throws IOException {
+        int count = 0;
+        while (count <= mask) {
+            int slot = (int) (head & mask);
+            if (sequence.get(slot) != head + 1) break;
+
+            if (format == Format.BINARY) {
+                appendBinary(slot);
+            } else {
+                appendCsv(slot);
+            }
+            operations[slot] = null;
+            sequence.lazySet(slot, head + mask + 1);
+            head++;
+            count++;
+        }
+        if (count > 0) {
+            written += count;
+        }
+        return count;
+    }
+
+    private void appendCsv(int slot) throws IOException {
+        String timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamps[slot]), ZoneId.systemDefault())
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        ensure(CSV_FIXED_BYTES);
+        out.put(quoted(timestamp));
+        out.put((byte) ',');
+        writeBytes(quoted(operations[slot]));
+        ensure(CSV_FIXED_BYTES);
+        writeAscii(',', dataSizes[slot]);
+        writeAscii(',', comparisons[slot]);
+        writeAscii(',', swaps[slot]);
+        writeAscii(',', arrayAccesses[slot]);
+        writeAscii(',', allocations[slot]);
+        out.put((byte) ',');
+        writeMillis(elapsed[slot]);
+        out.put((byte) '\n');
+    }
+
+    private void appendBinary(int slot) throws IOException {
+        String operation = operations[slot];
+        Integer id = dictionary.get(operation);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.put(operation, id);
+            pendingDictionary.add(operation);
+        }
+
+        int row = blockRows++;
+        blockOps[row] = id;
+        blockSizes[row] = dataSizes[slot];
+        blockLongs[0][row] = timestamps[slot];
+        blockLongs[1][row] = comparisons[slot];
+        blockLongs[2][row] = swaps[slot];
+        blockLongs[3][row] = arrayAccesses[slot];
+        blockLongs[4][row] = allocations[slot];
+        blockLongs[5][row] = elapsed[slot];
+
+        if (blockRows == BLOCK_ROWS) {
+            writePendingBlock();
+        }
+    }
+
+    /**
+     * Block layout: rowCount, dictionary entry count, dictionary entries
+     * (length-prefixed UTF-8), then each column contiguously: opIds, dataSizes,
+     * timestamps, comparisons, swaps, arrayAccesses, allocations, elapsedNanos.
+     */
+    private void writePendingBlock() throws IOException {
+        if (format != Format.BINARY || blockRows == 0) return;
+
+        ensure(8);
+        out.putInt(blockRows).putInt(pendingDictionary.size());
+        for (String entry : pendingDictionary) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            ensure(4);
+            out.putInt(bytes.length);
+            writeBytes(bytes);
+        }
+        pendingDictionary.clear();
+
+        for (int i = 0; i < blockRows; i++) {
+            ensure(4);
+            out.putInt(blockOps[i]);
+        }
+        for (int i = 0; i < blockRows; i++) {
+            ensure(4);
+            out.putInt(blockSizes[i]);
+        }
+        for (long[] column : blockLongs) {
+            for (int i = 0; i < blockRows; i++) {
+                ensure(8);
+                out.putLong(column[i]);
+            }
+        }
+        blockRows = 0;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (out.remaining() < bytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Buffer the bytes, or write them straight to the channel if they are larger than
+     * the buffer.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        if (bytes.length <= out.remaining()) {
+            out.put(bytes);
+            return;
+        }
+        ByteBuffer direct = ByteBuffer.wrap(bytes);
+        while (direct.hasRemaining()) {
+            channel.write(direct);
+        }
+    }
+
+    // CSV field in quotes, inner quotes doubled, as UTF-8
+    private static byte[] quoted(String value) {
+        return ('"' + value.replace("\"", "\"\"") + '"').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            out.put((byte) value.charAt(i));
+        }
+    }
+
+    private void writeAscii(char separator, long value) {
+        out.put((byte) separator);
+        writeAscii(Long.toString(value));
+    }
+
+    // Same rounding as "%.3f" of nanos / 1e6 for non-negative values, without Formatter
+    private void writeMillis(long nanos) {
+        if (nanos < 0) {
+            out.put((byte) '-');
+            nanos = -nanos;
+        }
+        long micros = (nanos + 500) / 1000;
+        writeAscii(Long.toString(micros / 1000));
+        out.put((byte) '.');
+        long fraction = micros % 1000;
+        out.put((byte) ('0' + fraction / 100));
+        out.put((byte) ('0' + fraction / 10 % 10));
+        out.put((byte) ('0' + fraction % 10));
+    }
+
+    // ===== reading =====
+
+    /**
+     * Stream every row of a {@link Format#BINARY} file to the consumer.
+     * @return number of rows read
+     */
+    public static long readBinary(Path file, RowConsumer consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            buffer.limit(0);
+
+            if (!fill(in, buffer, 6) || buffer.getInt() != BINARY_MAGIC) {
+                throw new IOException("Not a binary metrics file: " + file);
+            }
+            short version = buffer.getShort();
+            if (version != BINARY_VERSION) {
+                throw new IOException("Unsupported binary metrics version " + version);
+            }
+
+            List<String> dictionary = new ArrayList<>();
+            long total = 0;
+            int[] ops = new int[BLOCK_ROWS];
+            int[] sizes = new int[BLOCK_ROWS];
+            long[][] longs = new long[6][BLOCK_ROWS];
+
+            while (fill(in, buffer, 8)) {
+                int rows = buffer.getInt();
+                int entries = buffer.getInt();
+                if (rows < 0 || rows > BLOCK_ROWS || entries < 0) {
+                    throw new IOException("Corrupt block header in " + file);
+                }
+                for (int e = 0; e < entries; e++) {
+                    require(in, buffer, 4, file);
+                    byte[] bytes = readBytes(in, buffer, buffer.getInt(), file);
+                    dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+                }
+                for (int i = 0; i < rows; i++) {
+                    require(in, buffer, 4, file);
+                    ops[i] = buffer.getInt();
+                    if (ops[i] < 0 || ops[i] >= dictionary.size()) {
+                        throw new IOException("Corrupt operation id " + ops[i] + " in " + file);
+                    }
+                }
+                for (int i = 0; i < rows; i++) {
+                    require(in, buffer, 4, file);
+                    sizes[i] = buffer.getInt();
+                }
+                for (long[] column : longs) {
+                    for (int i = 0; i < rows; i++) {
+                        require(in, buffer, 8, file);
+                        column[i] = buffer.getLong();
+                    }
+                }
+                for (int i = 0; i < rows; i++) {
+                    consumer.accept(longs[0][i], dictionary.get(ops[i]), sizes[i],
+                            longs[1][i], longs[2][i], longs[3][i], longs[4][i], longs[5][i]);
+                }
+                total += rows;
+            }
+            return total;
+        }
+    }
+
+    private static void require(FileChannel in, ByteBuffer buffer, int bytes, Path file) throws IOException {
+        if (!fill(in, buffer, bytes)) {
+            throw new IOException("Truncated binary metrics file: " + file);
+        }
+    }
+
+    /**
+     * Read length bytes; entries longer than the buffer (the writer sends them past its
+     * own buffer too) are read straight from the channel.
+     */
+    private static byte[] readBytes(FileChannel in, ByteBuffer buffer, int length, Path file) throws IOException {
+        if (length < 0 || length > buffer.remaining() + in.size() - in.position()) {
+            throw new IOException("Corrupt dictionary entry length " + length + " in " + file);
+        }
+        byte[] bytes = new byte[length];
+        int buffered = Math.min(length, buffer.remaining());
+        buffer.get(bytes, 0, buffered);
+        ByteBuffer rest = ByteBuffer.wrap(bytes, buffered, length - buffered);
+        while (rest.hasRemaining()) {
+            if (in.read(rest) < 0) {
+                throw new IOException("Truncated binary metrics file: " + file);
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean fill(FileChannel in, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) return true;
+        buffer.compact();
+        // A full buffer reads 0 bytes: stop rather than spin
+        while (buffer.position() < bytes && buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) break;
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Convert a {@link Format#BINARY} file to the CSV layout.
+     * @return number of rows converted
+     */
+    public static long convertBinaryToCsv(Path binary, Path csv) throws IOException {
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(csv, Format.CSV, BLOCK_ROWS)) {
+            long total = readBinary(binary, (ts, op, size, cmp, sw, acc, alloc, nanos) -> {
+                // Conversion must be lossless, so wait for space instead of dropping
+                long pos;
+                while ((pos = exporter.claim()) < 0) {
+                    if (exporter.failure != null) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                exporter.publish(pos, ts, op, size, cmp, sw, acc, alloc, nanos);
+            });
+            exporter.flush();
+            if (exporter.getFailure() != null) {
+                throw exporter.getFailure();
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package org.harryfloppa.metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares a candidate run against a baseline, benchmark by benchmark.
+ * <p>
+ * For each key present in both runs the difference of means is reported with a
+ * Welch confidence interval. A benchmark is a regression when the interval lies
+ * entirely on the "worse" side of zero and the relative change exceeds the minimum
+ * effect size. With fewer than two samples on either side no interval exists, and
+ * the relative change alone is checked against the (larger) noise threshold.
+ */
+public class BenchmarkComparison {
+
+    public enum Verdict { REGRESSION, IMPROVEMENT, UNCHANGED, INSUFFICIENT_DATA }
+
+    public static class Delta {
+        public final String key;
+        public final String unit;
+        public final BenchmarkResults.Metric baseline;
+        public final BenchmarkResults.Metric candidate;
+        public final double difference;
+        public final double relative;
+        public final double lower;
+        public final double upper;
+        public final Verdict verdict;
+
+        Delta(String key, BenchmarkResults.Metric baseline, BenchmarkResults.Metric candidate,
+              double difference, double relative, double lower, double upper, Verdict verdict) {
+            this.key = key;
+            this.unit = baseline.getUnit();
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.difference = difference;
+            this.relative = relative;
+            this.lower = lower;
+            this.upper = upper;
+            this.verdict = verdict;
+        }
+    }
+
+    private final double confidence;
+    private final double minEffect;
+    private final double noiseThreshold;
+    private final List<Delta> deltas = new ArrayList<>();
+    private final List<String> missing = new ArrayList<>();
+
+    /**
+     * @param confidence Confidence level of the intervals, e.g. 0.95
+     * @param minEffect Minimum relative change treated as significant, e.g. 0.05 for 5%
+     * @param noiseThreshold Relative change flagged when no interval can be computed
+     */
+    public BenchmarkComparison(double confidence, double minEffect, double noiseThreshold) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("Confidence must be in (0, 1)");
+        }
+        this.confidence = confidence;
+        this.minEffect = minEffect;
+        this.noiseThreshold = noiseThreshold;
+    }
+
+    public BenchmarkComparison() {
+        this(0.95, 0.05, 0.10);
+    }
+
+    public BenchmarkComparison compare(BenchmarkResults baseline, BenchmarkResults candidate) {
+        for (BenchmarkResults.Metric base : baseline.getMetrics()) {
+            BenchmarkResults.Metric cand = candidate.get(base.getKey());
+            if (cand == null || cand.getCount() == 0 || base.getCount() == 0) {
+                missing.add(base.getKey());
+                continue;
+            }
+            deltas.add(delta(base, cand));
+        }
+        return this;
+    }
+
+    private Delta delta(BenchmarkResults.Metric base, BenchmarkResults.Metric cand) {
+        double difference = cand.getMean() - base.getMean();
+        double relative = base.getMean() != 0 ? difference / Math.abs(base.getMean()) : 0.0;
+        // Positive "worsening" means slower (or lower throughput for thrpt modes)
+        double worsening = base.isHigherBetter() ? -relative : relative;
+
+        if (base.getCount() < 2 || cand.getCount() < 2) {
+            Verdict verdict = Verdict.INSUFFICIENT_DATA;
+            if (worsening > noiseThreshold) verdict = Verdict.REGRESSION;
+            else if (worsening < -noiseThreshold) verdict = Verdict.IMPROVEMENT;
+            return new Delta(base.getKey(), base, cand, difference, relative, Double.NaN, Double.NaN, verdict);
+        }
+
+        double va = base.getVariance() / base.getCount();
+        double vb = cand.getVariance() / cand.getCount();
+        double se = Math.sqrt(va + vb);
+        double lower = difference;
+        double upper = difference;
+
+        if (se > 0) {
+            double df = (va + vb) * (va + vb)
+                    / (va * va / (base.getCount() - 1) + vb * vb / (cand.getCount() - 1));
+            double t = studentTQuantile(0.5 + confidence / 2, df);
+            lower = difference - t * se;
+            upper = difference + t * se;
+        }
+
+        boolean worse = base.isHigherBetter() ? upper < 0 : lower > 0;
+        boolean better = base.isHigherBetter() ? lower > 0 : upper < 0;
+
+        Verdict verdict = Verdict.UNCHANGED;
+        if (worse && worsening > minEffect) verdict = Verdict.REGRESSION;
+        else if (better && -worsening > minEffect) verdict = Verdict.IMPROVEMENT;
+
+        return new Delta(base.getKey(), base, cand, difference, relative, lower, upper, verdict);
+    }
+
+    public List<Delta> getDeltas() {
+        return Collections.unmodifiableList(deltas);
+    }
+
+    public List<String> getMissing() {
+        return Collections.unmodifiableList(missing);
+    }
+
+    public List<Delta> getRegressions() {
+        List<Delta> regressions = new ArrayList<>();
+        for (Delta delta : deltas) {
+            if (delta.verdict == Verdict.REGRESSION) regressions.add(delta);
+        }
+        return regressions;
+    }
+
+    public boolean hasRegressions() {
+        return !getRegressions().isEmpty();
+    }
+
+    public void printReport(PrintStream out) {
+        out.printf("%-60s %12s %12s %9s  %-27s %s%n",
+                "Benchmark", "Baseline", "Candidate", "Change", "CI of difference", "Verdict");
+        for (Delta d : deltas) {
+            String interval = Double.isNaN(d.lower) ? "n/a"
+                    : String.format("[%.4g, %.4g]", d.lower, d.upper);
+            out.printf("%-60s %12.4g %12.4g %+8.2f%%  %-27s %s%n",
+                    d.key, d.baseline.getMean(), d.candidate.getMean(),
+                    d.relative * 100, interval, d.verdict);
+        }
+        for (String key : missing) {
+            out.printf("%-60s missing from candidate%n", key);
+        }
+        out.printf("%nConfidence %.0f%%, min effect %.1f%%: %d regression(s), %d benchmark(s) compared%n",
+                confidence * 100, minEffect * 100, getRegressions().size(), deltas.size());
+    }
+
+    // ===== Student's t distribution =====
+
+    /**
+     * Quantile of Student's t distribution, found by bisection on the CDF.
+     */
+    static double studentTQuantile(double p, double df) {
+        double lo = 0;
+        double hi = 1;
+        while (studentTCdf(hi, df) < p) {
+            hi *= 2;
+            if (hi > 1e6) return hi;
+        }
+        for (int i = 0; i < 100; i++) {
+            double mid = (lo + hi) / 2;
+            if (studentTCdf(mid, df) < p) lo = mid;
+            else hi = mid;
+        }
+        return (lo + hi) / 2;
+    }
+
+    static double studentTCdf(double t, double df) {
+        double x = df / (df + t * t);
+        double tail = 0.5 * regularizedIncompleteBeta(x, df / 2, 0.5);
+        return t >= 0 ? 1 - tail : tail;
+    }
+
+    private static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    // Lentz's method for the incomplete beta continued fraction
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        if (Math.abs(d) < tiny) d = tiny;
+        d = 1 / d;
+        double result = d;
+
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            result *= d * c;
+
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            double step = d * c;
+            result *= step;
+            if (Math.abs(step - 1) < 1e-12) break;
+        }
+        return result;
+    }
+
+    // Lanczos approximation
+    private static double logGamma(double x) {
+        double[] coefficients = {
+                76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+        };
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
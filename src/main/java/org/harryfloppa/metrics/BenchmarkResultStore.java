@@ -0,0 +1,237 @@
+package org.harryfloppa.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps every benchmark run in its own directory so history is never overwritten.
+ * <p>
+ * Layout:
+ * <pre>
+ *   benchmark-history/
+ *     20250101-120000-1a2b3c4/
+ *       run.properties     git revision, JVM and hardware of the run
+ *       results.csv        rows exported by BenchmarkRunner
+ *       jmh-result.json    imported JMH results
+ * </pre>
+ * Run ids sort chronologically; runs can be looked up by id, by git revision prefix,
+ * or as "latest" / "previous".
+ */
+public class BenchmarkResultStore {
+
+    public static final String DEFAULT_ROOT = "benchmark-history";
+    public static final String RESULTS_CSV = "results.csv";
+    private static final String RUN_PROPERTIES = "run.properties";
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * One stored run: its directory and environment description.
+     */
+    public static class Run {
+        private final Path directory;
+        private final Properties environment;
+
+        Run(Path directory, Properties environment) {
+            this.directory = directory;
+            this.environment = environment;
+        }
+
+        public String getId() {
+            return directory.getFileName().toString();
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public Path getResultsCsv() {
+            return directory.resolve(RESULTS_CSV);
+        }
+
+        public String getRevision() {
+            return environment.getProperty("git.revision", "unknown");
+        }
+
+        public String getJvm() {
+            return environment.getProperty("java.vm.name", "") + " " + environment.getProperty("java.version", "");
+        }
+
+        public String getHardware() {
+            return environment.getProperty("hardware", "");
+        }
+
+        public Properties getEnvironment() {
+            return environment;
+        }
+
+        public BenchmarkResults load() throws IOException {
+            return BenchmarkResults.load(directory);
+        }
+
+        @Override
+        public String toString() {
+            String revision = getRevision();
+            return String.format("%s  rev=%s  jvm=%s  hw=%s", getId(),
+                    revision.length() > 12 ? revision.substring(0, 12) : revision, getJvm().trim(), getHardware());
+        }
+    }
+
+    private final Path root;
+
+    public BenchmarkResultStore(Path root) {
+        this.root = root;
+    }
+
+    public BenchmarkResultStore() {
+        this(Paths.get(DEFAULT_ROOT));
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Create a new run directory stamped with the current environment.
+     */
+    public Run createRun() throws IOException {
+        Properties environment = describeEnvironment();
+        String revision = environment.getProperty("git.revision");
+        String suffix = revision.length() >= 7 ? revision.substring(0, 7) : revision;
+        String base = LocalDateTime.now().format(ID_FORMAT) + "-" + suffix;
+
+        Path directory = root.resolve(base);
+        for (int i = 1; Files.exists(directory); i++) {
+            directory = root.resolve(base + "-" + i);
+        }
+        Files.createDirectories(directory);
+
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(RUN_PROPERTIES))) {
+            environment.store(writer, "Benchmark run environment");
+        }
+        return new Run(directory, environment);
+    }
+
+    /**
+     * Copy a JMH JSON result file into a new run.
+     */
+    public Run importJmh(Path jmhJson) throws IOException {
+        Run run = createRun();
+        Files.copy(jmhJson, run.getDirectory().resolve("jmh-result.json"), StandardCopyOption.REPLACE_EXISTING);
+        return run;
+    }
+
+    /**
+     * All runs, oldest first.
+     */
+    public List<Run> listRuns() throws IOException {
+        List<Run> runs = new ArrayList<>();
+        if (!Files.isDirectory(root)) return runs;
+
+        List<Path> directories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root, Files::isDirectory)) {
+            stream.forEach(directories::add);
+        }
+        Collections.sort(directories);
+
+        for (Path directory : directories) {
+            Properties environment = new Properties();
+            Path properties = directory.resolve(RUN_PROPERTIES);
+            if (Files.exists(properties)) {
+                try (Reader reader = Files.newBufferedReader(properties)) {
+                    environment.load(reader);
+                }
+            }
+            runs.add(new Run(directory, environment));
+        }
+        return runs;
+    }
+
+    /**
+     * Resolve "latest", "previous", a run id, or a git revision prefix (newest match).
+     * @return the run, or null if nothing matches
+     */
+    public Run find(String reference) throws IOException {
+        List<Run> runs = listRuns();
+        if (runs.isEmpty()) return null;
+
+        if ("latest".equals(reference)) return runs.get(runs.size() - 1);
+        if ("previous".equals(reference)) return runs.size() > 1 ? runs.get(runs.size() - 2) : null;
+
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            if (runs.get(i).getId().equals(reference)) return runs.get(i);
+        }
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            if (runs.get(i).getRevision().startsWith(reference)) return runs.get(i);
+        }
+        return null;
+    }
+
+    public static Properties describeEnvironment() {
+        Properties environment = new Properties();
+        environment.setProperty("timestamp", LocalDateTime.now().toString());
+        environment.setProperty("git.revision", gitRevision());
+        environment.setProperty("java.version", System.getProperty("java.version", ""));
+        environment.setProperty("java.vm.name", System.getProperty("java.vm.name", ""));
+        environment.setProperty("java.vendor", System.getProperty("java.vendor", ""));
+        environment.setProperty("os", System.getProperty("os.name", "") + " " + System.getProperty("os.version", ""));
+        environment.setProperty("arch", System.getProperty("os.arch", ""));
+        environment.setProperty("cpus", Integer.toString(Runtime.getRuntime().availableProcessors()));
+        environment.setProperty("maxMemoryMb", Long.toString(Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+        environment.setProperty("hardware", cpuModel() + " x" + Runtime.getRuntime().availableProcessors());
+        return environment;
+    }
+
+    private static String gitRevision() {
+        String fromCi = System.getenv("GITHUB_SHA");
+        if (fromCi != null && !fromCi.isBlank()) return fromCi;
+
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && line != null) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            // git not installed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    private static String cpuModel() {
+        Path cpuInfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try (BufferedReader reader = Files.newBufferedReader(cpuInfo)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } catch (IOException e) {
+                // fall through
+            }
+        }
+        return System.getProperty("os.arch", "unknown");
+    }
+}
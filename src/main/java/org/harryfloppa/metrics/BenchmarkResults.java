@@ -0,0 +1,239 @@
+package org.harryfloppa.metrics;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Benchmark measurements loaded from CLI CSV exports or JMH JSON results.
+ * <p>
+ * Every benchmark (operation + size, or JMH benchmark + params) becomes one
+ * {@link Metric} holding running sample statistics, so repeated rows or JMH
+ * iterations/forks contribute to the mean and variance used for comparisons.
+ */
+public class BenchmarkResults {
+
+    /**
+     * Sample statistics for one benchmark key (Welford's online mean/variance).
+     */
+    public static class Metric {
+        private final String key;
+        private final String unit;
+        private final boolean higherIsBetter;
+        private long count = 0;
+        private double mean = 0;
+        private double m2 = 0;
+
+        public Metric(String key, String unit, boolean higherIsBetter) {
+            this.key = key;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        public void add(double value) {
+            add(value, 1);
+        }
+
+        /**
+         * Add a value observed {@code weight} times (JMH sample-mode histograms).
+         */
+        public void add(double value, long weight) {
+            if (Double.isNaN(value) || weight <= 0) return;
+            long newCount = count + weight;
+            double delta = value - mean;
+            mean += delta * weight / newCount;
+            m2 += delta * delta * count * weight / newCount;
+            count = newCount;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public boolean isHigherBetter() {
+            return higherIsBetter;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getVariance() {
+            return count > 1 ? m2 / (count - 1) : 0.0;
+        }
+    }
+
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+
+    public Metric metric(String key, String unit, boolean higherIsBetter) {
+        return metrics.computeIfAbsent(key, k -> new Metric(k, unit, higherIsBetter));
+    }
+
+    public Metric get(String key) {
+        return metrics.get(key);
+    }
+
+    public Collection<Metric> getMetrics() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    public boolean isEmpty() {
+        return metrics.isEmpty();
+    }
+
+    /**
+     * Load a results file ({@code .csv} or {@code .json}) or every such file in a directory.
+     */
+    public static BenchmarkResults load(Path path) throws IOException {
+        BenchmarkResults results = new BenchmarkResults();
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*.{csv,json}")) {
+                List<Path> sorted = new ArrayList<>();
+                files.forEach(sorted::add);
+                Collections.sort(sorted);
+                for (Path file : sorted) {
+                    results.read(file);
+                }
+            }
+        } else {
+            results.read(path);
+        }
+        return results;
+    }
+
+    public void read(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".json")) {
+            readJmhJson(Files.readString(file));
+        } else {
+            readCsv(Files.readAllLines(file));
+        }
+    }
+
+    /**
+     * Rows from {@link PerformanceTracker#exportToCSV} / {@code exportBatchToCSV}.
+     * Time is compared per (operation, size); comparison counts are deterministic with
+     * the runner's fixed seeds and are compared too, to catch algorithmic regressions.
+     */
+    public void readCsv(List<String> lines) {
+        if (lines.isEmpty()) return;
+
+        List<String> header = splitCsv(lines.get(0));
+        int op = header.indexOf("operation");
+        int size = header.indexOf("dataSize");
+        int time = header.indexOf("timeMs");
+        int comparisons = header.indexOf("comparisons");
+        if (op < 0 || size < 0 || time < 0) {
+            throw new IllegalArgumentException("Not a benchmark CSV: missing operation/dataSize/timeMs columns");
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) continue;
+            if (line.equals(lines.get(0))) continue; // header repeated by appended exports
+
+            List<String> row = splitCsv(line);
+            String key = row.get(op) + "[size=" + row.get(size) + "]";
+            metric(key, "ms", false).add(Double.parseDouble(row.get(time)));
+            if (comparisons >= 0) {
+                metric(key + ":comparisons", "count", false).add(Double.parseDouble(row.get(comparisons)));
+            }
+        }
+    }
+
+    /**
+     * JMH JSON ({@code -rf json}). Throughput scores are higher-is-better, all other modes
+     * lower-is-better. Raw per-iteration data is used when present, sample-mode histograms
+     * otherwise, and the bare score as a last resort.
+     */
+    @SuppressWarnings("unchecked")
+    public void readJmhJson(String json) {
+        Object root = MiniJson.parse(json);
+        if (!(root instanceof List)) {
+            throw new IllegalArgumentException("JMH results must be a JSON array");
+        }
+
+        for (Object entry : (List<Object>) root) {
+            Map<String, Object> result = (Map<String, Object>) entry;
+            String benchmark = String.valueOf(result.get("benchmark"));
+            String mode = String.valueOf(result.get("mode"));
+            Map<String, Object> primary = (Map<String, Object>) result.get("primaryMetric");
+            if (primary == null) continue;
+
+            StringBuilder key = new StringBuilder(benchmark).append(':').append(mode);
+            Object params = result.get("params");
+            if (params instanceof Map) {
+                key.append(new TreeMap<>((Map<String, Object>) params));
+            }
+
+            Metric metric = metric(key.toString(), String.valueOf(primary.get("scoreUnit")),
+                    "thrpt".equals(mode));
+
+            Object raw = primary.get("rawData");
+            Object histogram = primary.get("rawDataHistogram");
+            if (raw instanceof List) {
+                for (Object fork : (List<Object>) raw) {
+                    for (Object value : (List<Object>) fork) {
+                        metric.add(MiniJson.number(value));
+                    }
+                }
+            } else if (histogram instanceof List) {
+                for (Object fork : (List<Object>) histogram) {
+                    for (Object iteration : (List<Object>) fork) {
+                        for (Object bucket : (List<Object>) iteration) {
+                            List<Object> pair = (List<Object>) bucket;
+                            metric.add(MiniJson.number(pair.get(0)), (long) MiniJson.number(pair.get(1)));
+                        }
+                    }
+                }
+            } else {
+                metric.add(MiniJson.number(primary.get("score")));
+            }
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
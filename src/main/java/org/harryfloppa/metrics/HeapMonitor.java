@@ -0,0 +1,250 @@
+package org.harryfloppa.metrics;
+
+import org.harryfloppa.algorithms.IHeap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live view of a heap and its {@link PerformanceTracker} for production monitoring.
+ * <p>
+ * A shared daemon thread samples the tracker once per second and feeds sliding-window
+ * rates; the heap itself is never touched by the sampler except for {@code size()}.
+ * Tracker fields are plain longs written by the heap's owner thread, so values read
+ * here may lag by a sample but never block or slow the heap's hot paths.
+ * <p>
+ * Usage:
+ * <pre>
+ *   HeapMonitor monitor = HeapMonitor.register("scheduler", heap, heap.getMetrics());
+ *   ...
+ *   monitor.close();
+ * </pre>
+ */
+public class HeapMonitor implements HeapMonitorMXBean, AutoCloseable {
+
+    public static final String DOMAIN = "org.harryfloppa";
+    private static final int DEFAULT_WINDOW_SECONDS = 60;
+
+    private static ScheduledExecutorService sampler;
+
+    private final String name;
+    private final IHeap<?> heap;
+    private final PerformanceTracker tracker;
+    private final int windowSeconds;
+    private final ObjectName objectName;
+
+    private final SlidingWindowRate insertRate;
+    private final SlidingWindowRate extractRate;
+    private final SlidingWindowRate decreaseKeyRate;
+    private final SlidingWindowRate comparisonRate;
+    private final SlidingWindowRate swapRate;
+    private ScheduledFuture<?> sampling;
+
+    public HeapMonitor(String name, IHeap<?> heap, PerformanceTracker tracker, int windowSeconds) {
+        if (name == null || heap == null || tracker == null) {
+            throw new IllegalArgumentException("Name, heap and tracker are required");
+        }
+        if (windowSeconds < 1) {
+            throw new IllegalArgumentException("Window must be at least one second");
+        }
+
+        this.name = name;
+        this.heap = heap;
+        this.tracker = tracker;
+        this.windowSeconds = windowSeconds;
+        this.objectName = objectNameFor(name);
+
+        int samples = windowSeconds + 1;
+        this.insertRate = new SlidingWindowRate(samples);
+        this.extractRate = new SlidingWindowRate(samples);
+        this.decreaseKeyRate = new SlidingWindowRate(samples);
+        this.comparisonRate = new SlidingWindowRate(samples);
+        this.swapRate = new SlidingWindowRate(samples);
+    }
+
+    /**
+     * Create a monitor with a 60 second window, start sampling and register it with the
+     * platform MBean server under {@code org.harryfloppa:type=Heap,name=<name>}.
+     */
+    public static HeapMonitor register(String name, IHeap<?> heap, PerformanceTracker tracker) {
+        return register(name, heap, tracker, DEFAULT_WINDOW_SECONDS);
+    }
+
+    public static HeapMonitor register(String name, IHeap<?> heap, PerformanceTracker tracker,
+                                       int windowSeconds) {
+        HeapMonitor monitor = new HeapMonitor(name, heap, tracker, windowSeconds);
+        monitor.start();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(monitor, monitor.objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            monitor.stop();
+            throw new IllegalArgumentException("Heap monitor already registered: " + name, e);
+        } catch (JMException e) {
+            monitor.stop();
+            throw new IllegalStateException("Could not register heap monitor " + name, e);
+        }
+        return monitor;
+    }
+
+    public synchronized void start() {
+        if (sampling != null) return;
+        sample();
+        sampling = sampler().scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stop() {
+        if (sampling != null) {
+            sampling.cancel(false);
+            sampling = null;
+        }
+    }
+
+    /**
+     * Stop sampling and unregister from the platform MBean server if registered.
+     */
+    @Override
+    public void close() {
+        stop();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (InstanceNotFoundException e) {
+            // Already gone
+        } catch (JMException e) {
+            System.err.println("Error unregistering heap monitor: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Take one sample of all counters. Called by the sampler thread; exposed for tests
+     * and for callers that want to drive sampling themselves.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        insertRate.record(now, tracker.inserts);
+        extractRate.record(now, tracker.extractions);
+        decreaseKeyRate.record(now, tracker.decreaseKeys);
+        comparisonRate.record(now, tracker.comparisons);
+        swapRate.record(now, tracker.swaps);
+    }
+
+    private static synchronized ScheduledExecutorService sampler() {
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "heap-monitor-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sampler;
+    }
+
+    private static ObjectName objectNameFor(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=Heap,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid monitor name: " + name, e);
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHeapType() {
+        return heap.getClass().getSimpleName();
+    }
+
+    @Override
+    public int getSize() {
+        return heap.size();
+    }
+
+    @Override
+    public long getComparisons() {
+        return tracker.comparisons;
+    }
+
+    @Override
+    public long getSwaps() {
+        return tracker.swaps;
+    }
+
+    @Override
+    public long getArrayAccesses() {
+        return tracker.arrayAccesses;
+    }
+
+    @Override
+    public long getAllocations() {
+        return tracker.allocations;
+    }
+
+    @Override
+    public long getInserts() {
+        return tracker.inserts;
+    }
+
+    @Override
+    public long getExtractions() {
+        return tracker.extractions;
+    }
+
+    @Override
+    public long getDecreaseKeys() {
+        return tracker.decreaseKeys;
+    }
+
+    @Override
+    public long getResizes() {
+        return tracker.resizes;
+    }
+
+    @Override
+    public double getInsertRate() {
+        return insertRate.ratePerSecond();
+    }
+
+    @Override
+    public double getExtractRate() {
+        return extractRate.ratePerSecond();
+    }
+
+    @Override
+    public double getDecreaseKeyRate() {
+        return decreaseKeyRate.ratePerSecond();
+    }
+
+    @Override
+    public double getComparisonRate() {
+        return comparisonRate.ratePerSecond();
+    }
+
+    @Override
+    public double getSwapRate() {
+        return swapRate.ratePerSecond();
+    }
+
+    @Override
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+}
@@ -0,0 +1,26 @@
+package org.harryfloppa.metrics;
+
+/**
+ * Management interface exposing live heap counters and sliding-window rates over JMX.
+ */
+public interface HeapMonitorMXBean {
+    String getName();
+    String getHeapType();
+    int getSize();
+
+    long getComparisons();
+    long getSwaps();
+    long getArrayAccesses();
+    long getAllocations();
+    long getInserts();
+    long getExtractions();
+    long getDecreaseKeys();
+    long getResizes();
+
+    double getInsertRate();
+    double getExtractRate();
+    double getDecreaseKeyRate();
+    double getComparisonRate();
+    double getSwapRate();
+    int getWindowSeconds();
+}
@@ -0,0 +1,32 @@
+package org.harryfloppa.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted whenever a heap grows or shrinks its backing array.
+ * <p>
+ * Enabled by default; resizes are rare (amortized O(1)) so recording them is cheap.
+ */
+@Name("org.harryfloppa.HeapResize")
+@Label("Heap Resize")
+@Category({"Heap"})
+@Description("Backing array of a heap was reallocated")
+@StackTrace(false)
+public class HeapResizeEvent extends jdk.jfr.Event {
+
+    @Label("Heap Type")
+    public String heapType;
+
+    @Label("Old Capacity")
+    public int oldCapacity;
+
+    @Label("New Capacity")
+    public int newCapacity;
+
+    @Label("Size")
+    public int size;
+}
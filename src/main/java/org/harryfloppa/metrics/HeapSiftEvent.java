@@ -0,0 +1,40 @@
+package org.harryfloppa.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event for a single sift (fixUpward / fixDownward).
+ * <p>
+ * Sifts run on every insert and extract, so the event is disabled by default and only
+ * sifts slower than the threshold are committed once it is enabled, e.g.
+ * {@code jfr configure org.harryfloppa.HeapSift#enabled=true}. While disabled the
+ * event object is never escaped and the JIT removes it from the sift loop entirely.
+ */
+@Name("org.harryfloppa.HeapSift")
+@Label("Heap Sift")
+@Category({"Heap"})
+@Description("Sift that moved an element across several levels of the heap")
+@Enabled(false)
+@Threshold("10 us")
+@StackTrace(false)
+public class HeapSiftEvent extends jdk.jfr.Event {
+
+    @Label("Heap Type")
+    public String heapType;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Levels")
+    @Description("Number of levels the element moved")
+    public int levels;
+
+    @Label("Size")
+    public int size;
+}
@@ -0,0 +1,176 @@
+package org.harryfloppa.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal recursive-descent JSON reader, enough for JMH's {@code -rf json} output.
+ * <p>
+ * Objects become {@link LinkedHashMap}, arrays {@link ArrayList}, numbers {@link Double}
+ * (JMH writes "NaN" as a string, which is mapped to {@link Double#NaN}).
+ */
+final class MiniJson {
+    private final String text;
+    private int pos = 0;
+
+    private MiniJson(String text) {
+        this.text = text;
+    }
+
+    static Object parse(String text) {
+        MiniJson parser = new MiniJson(text);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos != text.length()) {
+            throw parser.error("Trailing content");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) throw error("Unexpected end of input");
+
+        return switch (text.charAt(pos)) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> {
+                expect("true");
+                yield Boolean.TRUE;
+            }
+            case 'f' -> {
+                expect("false");
+                yield Boolean.FALSE;
+            }
+            case 'n' -> {
+                expect("null");
+                yield null;
+            }
+            default -> readNumber();
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            consume(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                consume('}');
+                return object;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                consume(']');
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        consume('"');
+        StringBuilder sb = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= text.length()) break;
+            char escape = text.charAt(pos++);
+            switch (escape) {
+                case 'n' -> sb.append('\n');
+                case 't' -> sb.append('\t');
+                case 'r' -> sb.append('\r');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > text.length()) throw error("Bad unicode escape");
+                    sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    pos += 4;
+                }
+                default -> sb.append(escape);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Double readNumber() {
+        int start = pos;
+        while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+            pos++;
+        }
+        if (start == pos) throw error("Unexpected character '" + text.charAt(pos) + "'");
+        return Double.parseDouble(text.substring(start, pos));
+    }
+
+    private void expect(String literal) {
+        if (!text.startsWith(literal, pos)) throw error("Expected " + literal);
+        pos += literal.length();
+    }
+
+    private void consume(char expected) {
+        if (peek() != expected) throw error("Expected '" + expected + "'");
+        pos++;
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : '\0';
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + pos);
+    }
+
+    /**
+     * Numeric value of a parsed JSON node, accepting JMH's quoted "NaN"/"Infinity".
+     */
+    static double number(Object value) {
+        if (value instanceof Number n) return n.doubleValue();
+        if (value instanceof String s) {
+            try {
+                return Double.parseDouble(s);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -17,6 +17,10 @@ public class PerformanceTracker {
     public long swaps = 0;
     public long arrayAccesses = 0;
     public long allocations = 0;
+    public long inserts = 0;
+    public long extractions = 0;
+    public long decreaseKeys = 0;
+    public long resizes = 0;
     private long startTime = 0;
     private long endTime = 0;
 
@@ -41,6 +45,10 @@ public class PerformanceTracker {
         swaps = 0;
         arrayAccesses = 0;
         allocations = 0;
+        inserts = 0;
+        extractions = 0;
+        decreaseKeys = 0;
+        resizes = 0;
         startTime = 0;
         endTime = 0;
     }
@@ -51,11 +59,29 @@ public class PerformanceTracker {
         copy.swaps = this.swaps;
         copy.arrayAccesses = this.arrayAccesses;
         copy.allocations = this.allocations;
+        copy.inserts = this.inserts;
+        copy.extractions = this.extractions;
+        copy.decreaseKeys = this.decreaseKeys;
+        copy.resizes = this.resizes;
         copy.startTime = this.startTime;
         copy.endTime = this.endTime;
         return copy;
     }
 
+    /**
+     * Add another tracker's counters to this one; the timer is left unchanged.
+     */
+    public void add(PerformanceTracker other) {
+        comparisons += other.comparisons;
+        swaps += other.swaps;
+        arrayAccesses += other.arrayAccesses;
+        allocations += other.allocations;
+        inserts += other.inserts;
+        extractions += other.extractions;
+        decreaseKeys += other.decreaseKeys;
+        resizes += other.resizes;
+    }
+
     /**
      * Export metrics to CSV file
      * @param filename Output CSV file name
@@ -87,9 +113,22 @@ public class PerformanceTracker {
 
     public static void exportBatchToCSV(String filename, String operation,
                                         int[] dataSizes, PerformanceTracker[] trackers) {
+        exportBatchToCSV(filename, operation, dataSizes, trackers, false);
+    }
+
+    /**
+     * Export one row per data size
+     * @param append Whether to append to existing file (header is written only once)
+     */
+    public static void exportBatchToCSV(String filename, String operation,
+                                        int[] dataSizes, PerformanceTracker[] trackers, boolean append) {
         try {
-            try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-                writer.println("operation,dataSize,comparisons,swaps,arrayAccesses,allocations,timeMs");
+            boolean writeHeader = !append || !Files.exists(Paths.get(filename));
+
+            try (PrintWriter writer = new PrintWriter(new FileWriter(filename, append))) {
+                if (writeHeader) {
+                    writer.println("operation,dataSize,comparisons,swaps,arrayAccesses,allocations,timeMs");
+                }
 
                 String opEscaped = csvQuote(operation);
 
@@ -106,6 +145,15 @@ public class PerformanceTracker {
         }
     }
 
+    /**
+     * Queue this tracker's counters on an asynchronous exporter instead of writing
+     * the file on the calling thread.
+     * @return false if the exporter's buffer was full and the row was dropped
+     */
+    public boolean exportAsync(AsyncMetricsExporter exporter, String operation, int dataSize) {
+        return exporter.offer(operation, dataSize, this);
+    }
+
     private static String csvQuote(String value) {
         if (value == null) return "";
         String escaped = value.replace("\"", "\"\"");
@@ -146,4 +194,24 @@ public class PerformanceTracker {
     public long getArrayAccesses() {
         return arrayAccesses;
     }
+
+    public long getAllocations() {
+        return allocations;
+    }
+
+    public long getInserts() {
+        return inserts;
+    }
+
+    public long getExtractions() {
+        return extractions;
+    }
+
+    public long getDecreaseKeys() {
+        return decreaseKeys;
+    }
+
+    public long getResizes() {
+        return resizes;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package org.harryfloppa.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Serves registered {@link HeapMonitor}s in the Prometheus text exposition format.
+ * <p>
+ * Binds to the loopback interface by default so the endpoint is only reachable from
+ * the local host (e.g. a node-level scraper or sidecar):
+ * <pre>
+ *   PrometheusEndpoint endpoint = PrometheusEndpoint.start(9404);
+ *   endpoint.add(monitor);
+ *   // curl http://127.0.0.1:9404/metrics
+ * </pre>
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final List<HeapMonitor> monitors = new CopyOnWriteArrayList<>();
+    private final HttpServer server;
+
+    private PrometheusEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    public static PrometheusEndpoint start(int port) throws IOException {
+        return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public static PrometheusEndpoint start(InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        PrometheusEndpoint endpoint = new PrometheusEndpoint(server);
+        server.createContext("/metrics", endpoint::handle);
+        server.start();
+        return endpoint;
+    }
+
+    public PrometheusEndpoint add(HeapMonitor monitor) {
+        monitors.add(monitor);
+        return this;
+    }
+
+    public void remove(HeapMonitor monitor) {
+        monitors.remove(monitor);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render(monitors).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Render monitors in Prometheus text format, one metric family at a time.
+     */
+    public static String render(List<HeapMonitor> monitors) {
+        StringBuilder sb = new StringBuilder();
+        List<HeapMonitor> snapshot = new ArrayList<>(monitors);
+
+        gauge(sb, "heap_size", "Number of elements currently in the heap",
+                snapshot, HeapMonitor::getSize);
+
+        counter(sb, "heap_comparisons_total", "Element comparisons", snapshot, HeapMonitor::getComparisons);
+        counter(sb, "heap_swaps_total", "Element swaps", snapshot, HeapMonitor::getSwaps);
+        counter(sb, "heap_array_accesses_total", "Backing array reads and writes",
+                snapshot, HeapMonitor::getArrayAccesses);
+        counter(sb, "heap_allocations_total", "Tracked allocations", snapshot, HeapMonitor::getAllocations);
+        counter(sb, "heap_inserts_total", "Insert operations", snapshot, HeapMonitor::getInserts);
+        counter(sb, "heap_extractions_total", "Extract-root operations", snapshot, HeapMonitor::getExtractions);
+        counter(sb, "heap_decrease_keys_total", "Decrease-key operations", snapshot, HeapMonitor::getDecreaseKeys);
+        counter(sb, "heap_resizes_total", "Backing array reallocations", snapshot, HeapMonitor::getResizes);
+
+        gauge(sb, "heap_insert_rate", "Inserts per second over the sliding window",
+                snapshot, HeapMonitor::getInsertRate);
+        gauge(sb, "heap_extract_rate", "Extractions per second over the sliding window",
+                snapshot, HeapMonitor::getExtractRate);
+        gauge(sb, "heap_decrease_key_rate", "Decrease-key operations per second over the sliding window",
+                snapshot, HeapMonitor::getDecreaseKeyRate);
+        gauge(sb, "heap_comparison_rate", "Comparisons per second over the sliding window",
+                snapshot, HeapMonitor::getComparisonRate);
+        gauge(sb, "heap_swap_rate", "Swaps per second over the sliding window",
+                snapshot, HeapMonitor::getSwapRate);
+
+        return sb.toString();
+    }
+
+    private interface Value {
+        double of(HeapMonitor monitor);
+    }
+
+    private static void counter(StringBuilder sb, String metric, String help,
+                                List<HeapMonitor> monitors, Value value) {
+        family(sb, metric, help, "counter", monitors, value);
+    }
+
+    private static void gauge(StringBuilder sb, String metric, String help,
+                              List<HeapMonitor> monitors, Value value) {
+        family(sb, metric, help, "gauge", monitors, value);
+    }
+
+    private static void family(StringBuilder sb, String metric, String help, String type,
+                               List<HeapMonitor> monitors, Value value) {
+        sb.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+        for (HeapMonitor monitor : monitors) {
+            sb.append(metric)
+                    .append("{heap=\"").append(escapeLabel(monitor.getName()))
+                    .append("\",type=\"").append(escapeLabel(monitor.getHeapType()))
+                    .append("\"} ")
+                    .append(formatValue(value.of(monitor)))
+                    .append('\n');
+        }
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.US, "%.3f", value);
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
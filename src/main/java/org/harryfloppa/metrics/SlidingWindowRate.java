@@ -0,0 +1,57 @@
+package org.harryfloppa.metrics;
+
+/**
+ * Per-second rate of a monotonically increasing counter over a sliding time window.
+ * <p>
+ * Samples are kept in a fixed ring buffer; the rate is the counter delta between the
+ * oldest and newest sample divided by the time between them. Counter resets (value
+ * going backwards) restart the window.
+ */
+public class SlidingWindowRate {
+    private final long[] times;
+    private final long[] values;
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * @param samples Number of samples kept in the window (at least 2)
+     */
+    public SlidingWindowRate(int samples) {
+        if (samples < 2) {
+            throw new IllegalArgumentException("Window needs at least 2 samples");
+        }
+        this.times = new long[samples];
+        this.values = new long[samples];
+    }
+
+    public synchronized void record(long timeNanos, long value) {
+        if (count > 0 && value < values[newest()]) {
+            count = 0;
+        }
+        times[head] = timeNanos;
+        values[head] = value;
+        head = (head + 1) % times.length;
+        if (count < times.length) count++;
+    }
+
+    public synchronized double ratePerSecond() {
+        if (count < 2) return 0.0;
+
+        int newest = newest();
+        int oldest = (head - count + times.length) % times.length;
+        long elapsed = times[newest] - times[oldest];
+        if (elapsed <= 0) return 0.0;
+
+        return (values[newest] - values[oldest]) * 1_000_000_000.0 / elapsed;
+    }
+
+    public synchronized double windowSeconds() {
+        if (count < 2) return 0.0;
+        int oldest = (head - count + times.length) % times.length;
+        return (times[newest()] - times[oldest]) / 1_000_000_000.0;
+    }
+
+    private int newest() {
+        return (head - 1 + times.length) % times.length;
+    }
+}
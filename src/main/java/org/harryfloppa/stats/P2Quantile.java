@@ -0,0 +1,112 @@
+package org.harryfloppa.stats;
+
+import java.util.Arrays;
+
+/**
+ * P² quantile estimator (Jain & Chlamtac, 1985) in constant memory
+ * <p>
+ * Five markers track the minimum, the q/2, q and (1+q)/2 quantiles and the maximum.
+ * Each value increments the positions of the markers above it; a middle marker that
+ * drifts one position or more from its desired position moves by one, with its
+ * height adjusted by piecewise-parabolic interpolation (or linear, if the parabola
+ * would break the marker order). O(1) time per value and no allocation. The
+ * estimate covers the whole stream; the first five values are answered exactly.
+ */
+public class P2Quantile implements StreamingQuantile {
+
+    private final double q;
+    private final double[] heights = new double[5];
+    private final double[] positions = new double[5];
+    private final double[] desired = new double[5];
+    private final double[] increments;
+    private long count;
+
+    public P2Quantile(double q) {
+        this.q = StreamingQuantile.checkLevel(q);
+        this.increments = new double[]{0, q / 2, q, (1 + q) / 2, 1};
+    }
+
+    @Override
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+
+        if (count < 5) {
+            heights[(int) count++] = value;
+            if (count == 5) {
+                Arrays.sort(heights);
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i + 1;
+                }
+                desired[0] = 1;
+                desired[1] = 1 + 2 * q;
+                desired[2] = 1 + 4 * q;
+                desired[3] = 3 + 2 * q;
+                desired[4] = 5;
+            }
+            return;
+        }
+        count++;
+
+        // Cell k with heights[k] <= value < heights[k + 1], extending the extremes
+        int k;
+        if (value < heights[0]) {
+            heights[0] = value;
+            k = 0;
+        } else if (value >= heights[4]) {
+            heights[4] = value;
+            k = 3;
+        } else {
+            k = 0;
+            while (value >= heights[k + 1]) k++;
+        }
+
+        for (int i = k + 1; i < 5; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < 5; i++) {
+            desired[i] += increments[i];
+        }
+
+        for (int i = 1; i <= 3; i++) {
+            double offset = desired[i] - positions[i];
+            if (offset >= 1 && positions[i + 1] - positions[i] > 1
+                    || offset <= -1 && positions[i - 1] - positions[i] < -1) {
+                int d = offset > 0 ? 1 : -1;
+                double candidate = parabolic(i, d);
+                if (heights[i - 1] < candidate && candidate < heights[i + 1]) {
+                    heights[i] = candidate;
+                } else {
+                    heights[i] += d * (heights[i + d] - heights[i]) / (positions[i + d] - positions[i]);
+                }
+                positions[i] += d;
+            }
+        }
+    }
+
+    private double parabolic(int i, int d) {
+        double span = positions[i + 1] - positions[i - 1];
+        double right = (positions[i] - positions[i - 1] + d) * (heights[i + 1] - heights[i])
+                / (positions[i + 1] - positions[i]);
+        double left = (positions[i + 1] - positions[i] - d) * (heights[i] - heights[i - 1])
+                / (positions[i] - positions[i - 1]);
+        return heights[i] + d / span * (right + left);
+    }
+
+    @Override
+    public double quantile() {
+        if (count == 0) return Double.NaN;
+        if (count < 5) {
+            double[] seen = Arrays.copyOf(heights, (int) count);
+            Arrays.sort(seen);
+            return seen[Math.max(0, (int) Math.ceil(q * count) - 1)];
+        }
+        return heights[2];
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+}
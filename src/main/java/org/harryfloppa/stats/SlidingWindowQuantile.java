@@ -0,0 +1,125 @@
+package org.harryfloppa.stats;
+
+import org.harryfloppa.algorithms.MaxHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.metrics.PerformanceTracker;
+
+/**
+ * Exact quantile over a count-based sliding window, on a MaxHeap/MinHeap pair
+ * <p>
+ * The lower max-heap holds the k = ceil(q * n) smallest values of the window and the
+ * upper min-heap the rest, so the quantile is the lower heap's root. A new value goes
+ * to the side its position requires; the value leaving the window is taken out of
+ * its heap with Heap.remove in O(log n); then at most a few roots move across to
+ * restore |lower| = k. Memory is bounded by the window.
+ * <p>
+ * Values are wrapped in samples that order by value, then arrival, and use identity
+ * equality, so duplicates are distinct heap elements. The sample leaving the
+ * window is reused for the arriving value, so a full window allocates nothing per
+ * update beyond what the heaps' index maps do.
+ */
+public class SlidingWindowQuantile implements StreamingQuantile {
+
+    private static final class Sample implements Comparable<Sample> {
+        double value;
+        long sequence;
+        boolean lower;
+
+        @Override
+        public int compareTo(Sample other) {
+            int byValue = Double.compare(value, other.value);
+            return byValue != 0 ? byValue : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final double q;
+    private final Sample[] window;
+    private final MaxHeap<Sample> lower;
+    private final MinHeap<Sample> upper;
+    private int oldest;
+    private int size;
+    private long count;
+
+    public SlidingWindowQuantile(double q, int window, PerformanceTracker metrics) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must hold at least one value");
+        }
+        this.q = StreamingQuantile.checkLevel(q);
+        this.window = new Sample[window];
+        PerformanceTracker tracker = metrics != null ? metrics : new PerformanceTracker();
+        this.lower = new MaxHeap<>(tracker);
+        this.upper = new MinHeap<>(tracker);
+    }
+
+    public SlidingWindowQuantile(double q, int window) {
+        this(q, window, new PerformanceTracker());
+    }
+
+    @Override
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+
+        Sample sample;
+        if (size == window.length) {
+            sample = window[oldest];
+            if (sample.lower) lower.remove(sample);
+            else upper.remove(sample);
+            oldest = (oldest + 1) % window.length;
+        } else {
+            sample = new Sample();
+            window[(oldest + size) % window.length] = sample;
+            size++;
+        }
+        sample.value = value;
+        sample.sequence = count++;
+
+        if (!lower.isEmpty() && sample.compareTo(lower.peekRoot()) < 0) {
+            sample.lower = true;
+            lower.insert(sample);
+        } else {
+            sample.lower = false;
+            upper.insert(sample);
+        }
+        rebalance();
+    }
+
+    private void rebalance() {
+        int k = Math.min(size, Math.max(1, (int) Math.ceil(q * size)));
+        while (lower.size() > k) {
+            Sample moved = lower.extractRoot();
+            moved.lower = false;
+            upper.insert(moved);
+        }
+        while (lower.size() < k) {
+            Sample moved = upper.extractRoot();
+            moved.lower = true;
+            lower.insert(moved);
+        }
+    }
+
+    @Override
+    public double quantile() {
+        return size == 0 ? Double.NaN : lower.peekRoot().value;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Number of values currently in the window.
+     */
+    public int windowSize() {
+        return size;
+    }
+
+    /**
+     * Counters of both heaps (they share one tracker).
+     */
+    public PerformanceTracker getMetrics() {
+        return lower.getMetrics();
+    }
+}
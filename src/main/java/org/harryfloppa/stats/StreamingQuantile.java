@@ -0,0 +1,48 @@
+package org.harryfloppa.stats;
+
+/**
+ * Running p-quantile of a stream of values
+ * <p>
+ * - exact(q, window): the exact quantile of the last {@code window} values, kept in
+ *   a max-heap/min-heap pair (see SlidingWindowQuantile)
+ * - approximate(q): the P² estimate over the whole stream in constant memory
+ *   (see P2Quantile)
+ * The quantile is defined by nearest rank: the value at rank ceil(q * n) of the n
+ * values considered, so q = 0.5 gives the lower median.
+ */
+public interface StreamingQuantile {
+
+    void add(double value);
+
+    /**
+     * Current quantile, NaN before the first value.
+     */
+    double quantile();
+
+    /**
+     * Number of values added so far.
+     */
+    long count();
+
+    static StreamingQuantile exact(double q, int window) {
+        return new SlidingWindowQuantile(q, window);
+    }
+
+    static StreamingQuantile approximate(double q) {
+        return new P2Quantile(q);
+    }
+
+    static StreamingQuantile median(int window) {
+        return exact(0.5, window);
+    }
+
+    /**
+     * Validate a quantile level, shared by the implementations.
+     */
+    static double checkLevel(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+        }
+        return q;
+    }
+}
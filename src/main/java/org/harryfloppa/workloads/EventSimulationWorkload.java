@@ -0,0 +1,144 @@
+package org.harryfloppa.workloads;
+
+import org.harryfloppa.algorithms.HeapFactory;
+import org.harryfloppa.algorithms.IHeap;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Discrete-event simulation of a closed queueing network
+ * <p>
+ * A fixed population of customers alternates between thinking (an exponential
+ * delay) and visiting one of STATIONS single-server FIFO stations with exponential
+ * service times. The pending event set holds one ARRIVAL per thinking customer and
+ * one DEPARTURE per busy server, so the heap stays at about the population size,
+ * the classic "hold model" for event-set benchmarks.
+ * <p>
+ * Scale is the number of events processed; the population is scale / 20, capped at
+ * 100 000. The result mixes the number of completed services with the final clock.
+ */
+public class EventSimulationWorkload implements MacroWorkload {
+
+    static final int STATIONS = 1_000;
+    private static final int MAX_POPULATION = 100_000;
+    private static final double MEAN_THINK_TIME = 50.0;
+
+    private static final byte ARRIVAL = 0;
+    private static final byte DEPARTURE = 1;
+
+    static final class Event implements Comparable<Event> {
+        final double time;
+        final long sequence;
+        final byte type;
+        final int station;
+        final int customer;
+
+        Event(double time, long sequence, byte type, int station, int customer) {
+            this.time = time;
+            this.sequence = sequence;
+            this.type = type;
+            this.station = station;
+            this.customer = customer;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Double.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private int events;
+    private int population;
+    private long seed;
+    private double[] serviceRates;
+
+    @Override
+    public void prepare(int scale, long seed) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale cannot be negative");
+        }
+        this.events = scale;
+        this.population = Math.max(1, Math.min(MAX_POPULATION, scale / 20));
+        this.seed = seed;
+
+        Random rand = new Random(seed);
+        serviceRates = new double[STATIONS];
+        for (int s = 0; s < STATIONS; s++) {
+            serviceRates[s] = 0.5 + 1.5 * rand.nextDouble();
+        }
+    }
+
+    @Override
+    public long run(HeapFactory heaps) {
+        IHeap<Event> pending = heaps.create();
+        Random rand = new Random(seed);
+        // Per-station FIFO of waiting customers as linked lists through next[]
+        int[] head = new int[STATIONS];
+        int[] tail = new int[STATIONS];
+        int[] next = new int[population];
+        boolean[] busy = new boolean[STATIONS];
+        Arrays.fill(head, -1);
+        Arrays.fill(tail, -1);
+
+        long sequence = 0;
+        for (int c = 0; c < population; c++) {
+            pending.insert(new Event(exponential(rand, MEAN_THINK_TIME), sequence++, ARRIVAL,
+                    rand.nextInt(STATIONS), c));
+        }
+
+        double clock = 0;
+        long completed = 0;
+        for (int processed = 0; processed < events && !pending.isEmpty(); processed++) {
+            Event event = pending.extractRoot();
+            clock = event.time;
+            int s = event.station;
+
+            if (event.type == ARRIVAL) {
+                if (!busy[s]) {
+                    busy[s] = true;
+                    pending.insert(new Event(clock + exponential(rand, 1 / serviceRates[s]), sequence++,
+                            DEPARTURE, s, event.customer));
+                } else {
+                    next[event.customer] = -1;
+                    if (tail[s] == -1) head[s] = event.customer;
+                    else next[tail[s]] = event.customer;
+                    tail[s] = event.customer;
+                }
+            } else {
+                completed++;
+                pending.insert(new Event(clock + exponential(rand, MEAN_THINK_TIME), sequence++, ARRIVAL,
+                        rand.nextInt(STATIONS), event.customer));
+                int waiting = head[s];
+                if (waiting == -1) {
+                    busy[s] = false;
+                } else {
+                    head[s] = next[waiting];
+                    if (head[s] == -1) tail[s] = -1;
+                    pending.insert(new Event(clock + exponential(rand, 1 / serviceRates[s]), sequence++,
+                            DEPARTURE, s, waiting));
+                }
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            pending.extractRoot();
+        }
+        return completed * 31 + Double.doubleToLongBits(clock);
+    }
+
+    private static double exponential(Random rand, double mean) {
+        return -mean * Math.log(1 - rand.nextDouble());
+    }
+
+    @Override
+    public long workUnits() {
+        return events;
+    }
+
+    @Override
+    public String unit() {
+        return "events";
+    }
+}
@@ -0,0 +1,162 @@
+package org.harryfloppa.workloads;
+
+import org.harryfloppa.algorithms.HeapFactory;
+import org.harryfloppa.algorithms.IHeap;
+
+import java.util.Random;
+
+/**
+ * Block-wise Huffman code construction over a large byte stream
+ * <p>
+ * Like block-based compressors, the stream is cut into BLOCK_BYTES blocks and every
+ * block gets its own code. Symbols are byte pairs (a 65536-letter alphabet), so each
+ * block builds a tree over thousands of leaves: insert all leaves, then repeatedly
+ * extract the two lightest nodes and insert their parent. The result is the total
+ * encoded size in bits.
+ * <p>
+ * The input is text-like: words from a random vocabulary drawn with a Zipf
+ * distribution and separated by spaces. Scale is the stream length in bytes.
+ */
+public class HuffmanWorkload implements MacroWorkload {
+
+    static final int BLOCK_BYTES = 1 << 16;
+    private static final int ALPHABET = 1 << 16;
+    private static final int VOCABULARY = 20_000;
+
+    static final class Node implements Comparable<Node> {
+        final long weight;
+        // Leaves: their symbol; internal nodes: ALPHABET + creation order. Breaks weight ties
+        final int order;
+        final Node left;
+        final Node right;
+
+        Node(long weight, int order, Node left, Node right) {
+            this.weight = weight;
+            this.order = order;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int byWeight = Long.compare(weight, other.weight);
+            return byWeight != 0 ? byWeight : Integer.compare(order, other.order);
+        }
+    }
+
+    private byte[] data;
+
+    @Override
+    public void prepare(int scale, long seed) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale cannot be negative");
+        }
+
+        Random rand = new Random(seed);
+        byte[][] words = new byte[VOCABULARY][];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = new byte[2 + rand.nextInt(9)];
+            for (int j = 0; j < words[i].length; j++) {
+                words[i][j] = (byte) ('a' + rand.nextInt(26));
+            }
+        }
+        // Zipf(1): cumulative weights 1/1, 1/2, ... for inverse-transform sampling
+        double[] cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+
+        data = new byte[scale];
+        int pos = 0;
+        while (pos < scale) {
+            double u = rand.nextDouble() * sum;
+            int lo = 0;
+            int hi = VOCABULARY - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] < u) lo = mid + 1;
+                else hi = mid;
+            }
+            for (byte b : words[lo]) {
+                if (pos == scale) break;
+                data[pos++] = b;
+            }
+            if (pos < scale) data[pos++] = ' ';
+        }
+    }
+
+    @Override
+    public long run(HeapFactory heaps) {
+        IHeap<Node> heap = heaps.create();
+        int[] frequencies = new int[ALPHABET];
+        long totalBits = 0;
+        for (int block = 0; block < data.length; block += BLOCK_BYTES) {
+            int end = Math.min(data.length, block + BLOCK_BYTES);
+            for (int i = block; i < end; i += 2) {
+                int low = i + 1 < end ? data[i + 1] & 0xff : 0;
+                frequencies[(data[i] & 0xff) << 8 | low]++;
+            }
+            totalBits += encodedBits(heap, frequencies);
+        }
+        return totalBits;
+    }
+
+    /**
+     * Build the Huffman tree of one block and return the block's encoded size.
+     * Clears the frequencies and leaves the heap empty.
+     */
+    static long encodedBits(IHeap<Node> heap, int[] frequencies) {
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            if (frequencies[symbol] > 0) {
+                heap.insert(new Node(frequencies[symbol], symbol, null, null));
+                frequencies[symbol] = 0;
+            }
+        }
+        if (heap.isEmpty()) return 0;
+        if (heap.size() == 1) {
+            // A single symbol still needs one bit per occurrence
+            return heap.extractRoot().weight;
+        }
+
+        int order = ALPHABET;
+        while (heap.size() > 1) {
+            Node a = heap.extractRoot();
+            Node b = heap.extractRoot();
+            heap.insert(new Node(a.weight + b.weight, order++, a, b));
+        }
+        Node root = heap.extractRoot();
+
+        // Sum weight * depth over the leaves with an explicit stack
+        long bits = 0;
+        Node[] stack = new Node[order - ALPHABET + 2];
+        int[] depths = new int[stack.length];
+        int top = 0;
+        stack[0] = root;
+        depths[0] = 0;
+        while (top >= 0) {
+            Node node = stack[top];
+            int depth = depths[top--];
+            if (node.left == null) {
+                bits += node.weight * depth;
+            } else {
+                stack[++top] = node.left;
+                depths[top] = depth + 1;
+                stack[++top] = node.right;
+                depths[top] = depth + 1;
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public long workUnits() {
+        return data.length;
+    }
+
+    @Override
+    public String unit() {
+        return "bytes";
+    }
+}
@@ -0,0 +1,29 @@
+package org.harryfloppa.workloads;
+
+import org.harryfloppa.algorithms.HeapFactory;
+
+/**
+ * Complete application built around a priority queue, used as an end-to-end benchmark
+ * <p>
+ * prepare() generates the input outside the measurement; run() does the whole job
+ * with a heap from the factory and returns a checksum of the output. The heap only
+ * decides performance: the checksum is the same for every heap implementation,
+ * because all heap elements are totally ordered. Every run uses a single heap and
+ * leaves it empty.
+ */
+public interface MacroWorkload {
+
+    /**
+     * Generate the input; deterministic for a given scale and seed.
+     */
+    void prepare(int scale, long seed);
+
+    long run(HeapFactory heaps);
+
+    /**
+     * Amount of input processed by one run, in unit()s, for throughput figures.
+     */
+    long workUnits();
+
+    String unit();
+}
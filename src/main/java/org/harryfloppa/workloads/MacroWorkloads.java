@@ -0,0 +1,38 @@
+package org.harryfloppa.workloads;
+
+/**
+ * The macro workloads run by BenchmarkRunner and MacroWorkloadBenchmark, with the
+ * scale each of them uses by default (about a second per run on a desktop machine).
+ */
+public enum MacroWorkloads {
+    HUFFMAN(64 << 20) {
+        @Override
+        public MacroWorkload create() {
+            return new HuffmanWorkload();
+        }
+    },
+    EVENT_SIMULATION(1_000_000) {
+        @Override
+        public MacroWorkload create() {
+            return new EventSimulationWorkload();
+        }
+    },
+    PUZZLE_SEARCH(25) {
+        @Override
+        public MacroWorkload create() {
+            return new PuzzleSearchWorkload();
+        }
+    };
+
+    private final int defaultScale;
+
+    MacroWorkloads(int defaultScale) {
+        this.defaultScale = defaultScale;
+    }
+
+    public abstract MacroWorkload create();
+
+    public int defaultScale() {
+        return defaultScale;
+    }
+}
@@ -0,0 +1,189 @@
+package org.harryfloppa.workloads;
+
+import org.harryfloppa.algorithms.HeapFactory;
+import org.harryfloppa.algorithms.IHeap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Best-first (A*) search over 15-puzzle state spaces
+ * <p>
+ * Instances are generated by random walks of WALK_LENGTH moves from the solved
+ * board and solved optimally with the Manhattan-distance heuristic. A board is
+ * packed into a long, 4 bits per square. The open list is the heap; improved paths
+ * are re-inserted and stale entries skipped (no decreaseKey), and the heap is
+ * drained between instances, as a solver reusing one queue would. Ties in f are
+ * broken towards deeper nodes, then by board, so every heap expands the same nodes.
+ * <p>
+ * Scale is the number of instances. The result is the sum of the optimal solution
+ * lengths times 2^32 plus the number of expanded nodes.
+ */
+public class PuzzleSearchWorkload implements MacroWorkload {
+
+    static final int WALK_LENGTH = 40;
+    private static final int SIDE = 4;
+    private static final int SQUARES = SIDE * SIDE;
+    // Square i holds tile i + 1, the blank is on the last square
+    static final long GOAL = goal();
+
+    static final class SearchNode implements Comparable<SearchNode> {
+        final long board;
+        final int blank;
+        final int cost;
+        final int estimate;
+
+        SearchNode(long board, int blank, int cost, int estimate) {
+            this.board = board;
+            this.blank = blank;
+            this.cost = cost;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public int compareTo(SearchNode other) {
+            int byTotal = Integer.compare(cost + estimate, other.cost + other.estimate);
+            if (byTotal != 0) return byTotal;
+            int byDepth = Integer.compare(other.cost, cost);
+            return byDepth != 0 ? byDepth : Long.compare(board, other.board);
+        }
+    }
+
+    private long[] instances = new long[0];
+
+    @Override
+    public void prepare(int scale, long seed) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale cannot be negative");
+        }
+
+        Random rand = new Random(seed);
+        instances = new long[scale];
+        for (int i = 0; i < scale; i++) {
+            long board = GOAL;
+            int blank = SQUARES - 1;
+            int previous = -1;
+            for (int step = 0; step < WALK_LENGTH; step++) {
+                int target;
+                do {
+                    target = neighbour(blank, rand.nextInt(4));
+                } while (target < 0 || target == previous);
+                previous = blank;
+                board = move(board, blank, target);
+                blank = target;
+            }
+            instances[i] = board;
+        }
+    }
+
+    @Override
+    public long run(HeapFactory heaps) {
+        IHeap<SearchNode> open = heaps.create();
+        long lengths = 0;
+        long expanded = 0;
+        for (long board : instances) {
+            Map<Long, Integer> bestCost = new HashMap<>();
+            open.insert(new SearchNode(board, blankOf(board), 0, manhattan(board)));
+            bestCost.put(board, 0);
+
+            while (true) {
+                SearchNode node = open.extractRoot();
+                if (node.cost > bestCost.get(node.board)) continue;
+                if (node.board == GOAL) {
+                    lengths += node.cost;
+                    break;
+                }
+                expanded++;
+
+                for (int direction = 0; direction < 4; direction++) {
+                    int target = neighbour(node.blank, direction);
+                    if (target < 0) continue;
+                    long child = move(node.board, node.blank, target);
+                    int cost = node.cost + 1;
+                    Integer known = bestCost.get(child);
+                    if (known != null && known <= cost) continue;
+                    bestCost.put(child, cost);
+
+                    int tile = tileAt(node.board, target);
+                    int estimate = node.estimate - distance(tile, target) + distance(tile, node.blank);
+                    open.insert(new SearchNode(child, target, cost, estimate));
+                }
+            }
+            while (!open.isEmpty()) {
+                open.extractRoot();
+            }
+        }
+        return (lengths << 32) + expanded;
+    }
+
+    // ===== board encoding =====
+
+    private static long goal() {
+        long board = 0;
+        for (int i = 0; i < SQUARES - 1; i++) {
+            board |= (long) (i + 1) << (4 * i);
+        }
+        return board;
+    }
+
+    static int tileAt(long board, int square) {
+        return (int) (board >>> (4 * square)) & 0xF;
+    }
+
+    /**
+     * Slide the tile on target into the blank square.
+     */
+    static long move(long board, int blank, int target) {
+        long tile = tileAt(board, target);
+        return board & ~(0xFL << (4 * target)) | tile << (4 * blank);
+    }
+
+    /**
+     * Square next to the given one in direction 0..3 (up, down, left, right), or -1.
+     */
+    static int neighbour(int square, int direction) {
+        int row = square / SIDE;
+        int col = square % SIDE;
+        return switch (direction) {
+            case 0 -> row > 0 ? square - SIDE : -1;
+            case 1 -> row < SIDE - 1 ? square + SIDE : -1;
+            case 2 -> col > 0 ? square - 1 : -1;
+            default -> col < SIDE - 1 ? square + 1 : -1;
+        };
+    }
+
+    static int blankOf(long board) {
+        for (int square = 0; square < SQUARES; square++) {
+            if (tileAt(board, square) == 0) return square;
+        }
+        throw new IllegalArgumentException("Board has no blank");
+    }
+
+    /**
+     * Distance of a tile on the given square from its goal square.
+     */
+    private static int distance(int tile, int square) {
+        int home = tile - 1;
+        return Math.abs(home / SIDE - square / SIDE) + Math.abs(home % SIDE - square % SIDE);
+    }
+
+    static int manhattan(long board) {
+        int sum = 0;
+        for (int square = 0; square < SQUARES; square++) {
+            int tile = tileAt(board, square);
+            if (tile != 0) sum += distance(tile, square);
+        }
+        return sum;
+    }
+
+    @Override
+    public long workUnits() {
+        return instances.length;
+    }
+
+    @Override
+    public String unit() {
+        return "instances";
+    }
+}
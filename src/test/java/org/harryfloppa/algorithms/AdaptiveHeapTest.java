@@ -0,0 +1,125 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.algorithms.AdaptiveHeap.Representation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveHeapTest {
+
+    /**
+     * Element with identity equality, so decreaseKey replaces one specific object.
+     */
+    private static final class Item implements Comparable<Item> {
+        final int key;
+
+        Item(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    @Test
+    @DisplayName("Follows tiny, build-and-drain and decreaseKey phases and stays a valid min-heap")
+    void testPhases() {
+        Random rand = new Random(48);
+        AdaptiveHeap<Item> heap = new AdaptiveHeap<>();
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+
+        // Tiny steady state: never leaves the sorted array
+        for (int i = 0; i < 10 * AdaptiveHeap.WINDOW; i++) {
+            if (heap.size() < 8) {
+                int key = rand.nextInt(100);
+                heap.insert(new Item(key));
+                reference.add(key);
+            } else {
+                assertEquals(reference.poll(), heap.extractRoot().key);
+            }
+        }
+        assertEquals(Representation.SORTED_ARRAY, heap.getRepresentation());
+        assertEquals(0, heap.getMigrations());
+
+        // Build: overflowing the sorted array switches to the lean heap at once
+        for (int i = 0; i < 20_000; i++) {
+            int key = rand.nextInt(1_000_000);
+            heap.insert(new Item(key));
+            reference.add(key);
+            if (i == AdaptiveHeap.SORTED_MAX) {
+                assertEquals(Representation.LEAN, heap.getRepresentation());
+            }
+        }
+
+        // Drain: bottom-up after two extract-heavy windows
+        while (heap.size() > 5000) {
+            assertEquals(reference.poll(), heap.extractRoot().key);
+        }
+        assertEquals(Representation.BOTTOM_UP, heap.getRepresentation());
+
+        // decreaseKey: indexed at once, then the heap keeps working
+        List<Item> live = new ArrayList<>(heap.stream().toList());
+        for (int i = 0; i < 3000; i++) {
+            int index = rand.nextInt(live.size());
+            Item old = live.get(index);
+            Item lower = new Item(old.key - rand.nextInt(1000));
+            heap.decreaseKey(old, lower);
+            assertEquals(Representation.INDEXED, heap.getRepresentation());
+            reference.remove(old.key);
+            reference.add(lower.key);
+            live.set(index, lower);
+        }
+
+        // Shrinking back to a handful returns to the sorted array
+        while (heap.size() > 10) {
+            assertEquals(reference.poll(), heap.extractRoot().key);
+        }
+        for (int i = 0; i < 2 * AdaptiveHeap.WINDOW; i++) {
+            heap.insert(new Item(rand.nextInt(100)));
+            heap.extractRoot();
+        }
+        assertEquals(Representation.SORTED_ARRAY, heap.getRepresentation());
+        assertTrue(heap.getMigrations() >= 4);
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int key = heap.extractRoot().key;
+            assertTrue(previous <= key);
+            previous = key;
+        }
+        assertThrows(NoSuchElementException.class, heap::extractRoot);
+    }
+
+    @Test
+    @DisplayName("Sorted array mode supports decreaseKey and merge, and overflows on merge")
+    void testSmallOperations() {
+        AdaptiveHeap<Integer> heap = new AdaptiveHeap<>();
+        heap.insert(5).insert(3).insert(9);
+        heap.decreaseKey(9, 1);
+        assertEquals(Representation.SORTED_ARRAY, heap.getRepresentation());
+        assertEquals(1, heap.peekRoot());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(42, 0));
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null));
+
+        MinHeap<Integer> other = new MinHeap<>();
+        for (int i = 100; i < 200; i++) {
+            other.insert(i);
+        }
+        heap.merge(other);
+        assertEquals(100, other.size());
+        assertEquals(103, heap.size());
+        // The window saw a decreaseKey, so the overflow goes to the indexed heap
+        assertEquals(Representation.INDEXED, heap.getRepresentation());
+        assertEquals(List.of(1, 3, 5, 100), heap.streamSorted().limit(4).toList());
+    }
+}
@@ -0,0 +1,105 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedHeapTest {
+
+    @Test
+    @DisplayName("Random insert/extract matches PriorityQueue for several block heights")
+    void testRandomOperations() {
+        for (int levelsPerBlock : new int[]{1, 2, 3, 10}) {
+            checkRandomOperations(levelsPerBlock);
+        }
+    }
+
+    private void checkRandomOperations(int levelsPerBlock) {
+        BlockedHeap<Integer> heap = new BlockedHeap<>(null, levelsPerBlock);
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        Random rand = new Random(levelsPerBlock);
+
+        for (int i = 0; i < 50_000; i++) {
+            if (reference.isEmpty() || rand.nextInt(3) > 0) {
+                int value = rand.nextInt(1_000_000);
+                heap.insert(value);
+                reference.add(value);
+            } else {
+                assertEquals(reference.poll(), heap.extractRoot());
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll(), heap.extractRoot());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Descending inserts spanning many blocks drain in order")
+    void testManyBlocks() {
+        BlockedHeap<Integer> heap = new BlockedHeap<>(null, 3);
+        int n = 10_000;
+        for (int i = n; i > 0; i--) {
+            heap.insert(i);
+        }
+        assertEquals(1, heap.peekRoot());
+        for (int i = 1; i <= n; i++) {
+            assertEquals(i, heap.extractRoot());
+        }
+    }
+
+    @Test
+    @DisplayName("DecreaseKey builds the index lazily and restores order")
+    void testDecreaseKey() {
+        BlockedHeap<Integer> heap = new BlockedHeap<>(null, 2);
+        for (int i = 1; i <= 100; i++) {
+            heap.insert(i * 10);
+        }
+        heap.decreaseKey(1000, 5);
+        heap.decreaseKey(500, 1);
+        heap.insert(3);
+
+        assertEquals(1, heap.extractRoot());
+        assertEquals(3, heap.extractRoot());
+        assertEquals(5, heap.extractRoot());
+        assertEquals(10, heap.extractRoot());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(20, 25));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(12345, 1));
+    }
+
+    @Test
+    @DisplayName("Merge with MinHeap and BlockedHeap")
+    void testMerge() {
+        BlockedHeap<Integer> heap = new BlockedHeap<>(null, 2);
+        heap.insert(5).insert(15);
+
+        MinHeap<Integer> minHeap = new MinHeap<>();
+        minHeap.insert(10).insert(1);
+        BlockedHeap<Integer> other = new BlockedHeap<>(null, 3);
+        other.insert(7).insert(20);
+
+        heap.merge(minHeap);
+        heap.merge(other);
+
+        assertEquals(6, heap.size());
+        int[] expected = {1, 5, 7, 10, 15, 20};
+        for (int value : expected) {
+            assertEquals(value, heap.extractRoot());
+        }
+    }
+
+    @Test
+    @DisplayName("Empty heap throws on extract and peek")
+    void testEmpty() {
+        BlockedHeap<Integer> heap = new BlockedHeap<>();
+        assertThrows(NoSuchElementException.class, heap::extractRoot);
+        assertThrows(NoSuchElementException.class, heap::peekRoot);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null));
+    }
+}
@@ -0,0 +1,102 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BottomUpMinHeapTest {
+
+    private PerformanceTracker tracker;
+    private BottomUpMinHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PerformanceTracker();
+        heap = new BottomUpMinHeap<>(tracker);
+    }
+
+    @Test
+    @DisplayName("Elements come out in order, with duplicates, after inserts and a bulk load")
+    void testOrder() {
+        Random rand = new Random(11);
+        Integer[] values = new Integer[3000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(400);
+        }
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(values[i]);
+        }
+        heap.insertBatch(values, 1000, 2000);
+
+        Integer[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (Integer expected : sorted) {
+            assertEquals(expected, heap.extractMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Index stays consistent for decreaseKey and remove")
+    void testIndexedOperations() {
+        for (int i = 0; i < 200; i++) {
+            heap.insert(i * 10);
+        }
+        heap.decreaseKey(1500, -1);
+        assertEquals(-1, heap.peekMin());
+        assertTrue(heap.remove(730));
+        assertFalse(heap.remove(731));
+
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            int value = heap.extractMin();
+            assertTrue(value >= previous);
+            assertNotEquals(730, value);
+            previous = value;
+            count++;
+        }
+        assertEquals(199, count);
+    }
+
+    @Test
+    @DisplayName("The unindexed variant orders elements and rejects index operations")
+    void testUnindexed() {
+        BottomUpMinHeap<Integer> lean = BottomUpMinHeap.unindexed(tracker, 4);
+        assertFalse(lean.isIndexed());
+        for (int i = 100; i > 0; i--) {
+            lean.insert(i % 10);
+        }
+        assertThrows(UnsupportedOperationException.class, () -> lean.decreaseKey(5, 0));
+        assertThrows(UnsupportedOperationException.class, () -> lean.remove(5));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i / 10, lean.extractMin());
+        }
+    }
+
+    @Test
+    @DisplayName("Draining needs fewer comparisons than the top-down sift")
+    void testFewerComparisons() {
+        PerformanceTracker topDown = new PerformanceTracker();
+        MinHeap<Integer> reference = new MinHeap<>(topDown);
+        Random rand = new Random(13);
+        for (int i = 0; i < 50_000; i++) {
+            int value = rand.nextInt();
+            heap.insert(value);
+            reference.insert(value);
+        }
+        tracker.reset();
+        topDown.reset();
+        while (!heap.isEmpty()) {
+            assertEquals(reference.extractMin(), heap.extractMin());
+        }
+        assertTrue(tracker.comparisons < topDown.comparisons * 0.7,
+                tracker.comparisons + " vs " + topDown.comparisons);
+    }
+}
@@ -0,0 +1,128 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaryHeapTest {
+
+    private static final int[] ARITIES = {2, 3, 4, 8, 16, 17, 64};
+
+    private static List<ChildSelector> selectors() {
+        List<ChildSelector> selectors = new ArrayList<>();
+        selectors.add(ChildSelector.scalar());
+        if (ChildSelector.isVectorAvailable()) {
+            selectors.add(ChildSelector.vectorized());
+        }
+        return selectors;
+    }
+
+    @Test
+    @DisplayName("Vector selection is available in the test JVM and agrees with the scalar loop")
+    void testSelectorsAgree() {
+        assertTrue(ChildSelector.isVectorAvailable());
+        ChildSelector scalar = ChildSelector.scalar();
+        ChildSelector vector = ChildSelector.vectorized();
+        Random rand = new Random(17);
+        int[] ints = new int[200];
+        long[] longs = new long[200];
+        for (int round = 0; round < 500; round++) {
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = rand.nextInt(8) - 4;
+                longs[i] = ints[i] * (1L << 40);
+            }
+            int from = rand.nextInt(100);
+            int to = from + 1 + rand.nextInt(70);
+            assertEquals(scalar.minInt(ints, from, to), vector.minInt(ints, from, to));
+            assertEquals(scalar.minLong(longs, from, to), vector.minLong(longs, from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("Int and long d-ary heaps sort random keys for every arity and selector")
+    void testOrder() {
+        Random rand = new Random(19);
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(2000) - 1000;
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (ChildSelector selector : selectors()) {
+            for (int arity : ARITIES) {
+                IntDaryHeap ints = new IntDaryHeap(arity, selector);
+                LongDaryHeap longs = new LongDaryHeap(arity, selector);
+                for (int value : values) {
+                    ints.insert(value);
+                    longs.insert(value * 3_000_000_000L);
+                }
+                for (int expected : sorted) {
+                    String context = selector + ", d=" + arity;
+                    assertEquals(expected, ints.extract(), context);
+                    assertEquals(expected * 3_000_000_000L, longs.extract(), context);
+                }
+                assertTrue(ints.isEmpty());
+                assertTrue(longs.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sifting never asks the selector for an empty child range")
+    void testSelectorRanges() {
+        ChildSelector scalar = ChildSelector.scalar();
+        ChildSelector checked = new ChildSelector() {
+            @Override
+            public int minInt(int[] keys, int from, int to) {
+                assertTrue(from < to, "empty range at " + from);
+                return scalar.minInt(keys, from, to);
+            }
+
+            @Override
+            public int minLong(long[] keys, int from, int to) {
+                assertTrue(from < to, "empty range at " + from);
+                return scalar.minLong(keys, from, to);
+            }
+        };
+        for (int arity : ARITIES) {
+            IntDaryHeap ints = new IntDaryHeap(arity, checked);
+            LongDaryHeap longs = new LongDaryHeap(arity, checked);
+            for (int i = 0; i < 50; i++) {
+                ints.insert(50 - i);
+                longs.insert(50 - i);
+            }
+            for (int i = 1; i <= 50; i++) {
+                assertEquals(i, ints.extract());
+                assertEquals(i, longs.extract());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Empty heap throws, invalid arity is rejected, capacity shrinks on drain")
+    void testErrorsAndCapacity() {
+        IntDaryHeap heap = new IntDaryHeap(4);
+        assertThrows(NoSuchElementException.class, heap::peek);
+        assertThrows(NoSuchElementException.class, heap::extract);
+        assertThrows(IllegalArgumentException.class, () -> new IntDaryHeap(1));
+        assertThrows(IllegalArgumentException.class, () -> new LongDaryHeap(IntDaryHeap.MAX_ARITY + 1));
+
+        for (int i = 0; i < 10_000; i++) {
+            heap.insert(i);
+        }
+        assertTrue(heap.capacity() >= 10_000);
+        while (heap.size() > 3) {
+            heap.extract();
+        }
+        assertTrue(heap.capacity() <= 16);
+        assertEquals(9_997, heap.peek());
+    }
+}
@@ -0,0 +1,127 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapPoolTest {
+
+    private static List<IHeap<Integer>> heaps() {
+        List<IHeap<Integer>> heaps = new ArrayList<>();
+        heaps.add(new MinHeap<>());
+        heaps.add(new LeanMinHeap<>());
+        heaps.add(new BottomUpMinHeap<>());
+        heaps.add(new MaxHeap<>());
+        heaps.add(new BlockedHeap<>(null, 2));
+        heaps.add(new MinMaxHeap<>());
+        heaps.add(new LeftistHeap<>());
+        heaps.add(new SkewHeap<>(null, true));
+        heaps.add(new LockFreeSkipListHeap<>());
+        heaps.add(new SmallMinHeap<>());
+        heaps.add(new AdaptiveHeap<>());
+        return heaps;
+    }
+
+    @Test
+    @DisplayName("clear() empties every implementation, which stays usable afterwards")
+    void testClear() {
+        for (IHeap<Integer> heap : heaps()) {
+            String name = heap.getClass().getSimpleName();
+            for (int i = 0; i < 1000; i++) {
+                heap.insert((i * 7919) % 1000);
+            }
+            heap.clear();
+            assertTrue(heap.isEmpty(), name);
+            assertEquals(0, heap.size(), name);
+            assertEquals(0, heap.stream().count(), name);
+            assertThrows(NoSuchElementException.class, heap::peekRoot, name);
+
+            heap.insert(5).insert(2).insert(8);
+            assertEquals(3, heap.size(), name);
+            assertEquals(heap instanceof MaxHeap ? 8 : 2, heap.extractRoot(), name);
+            heap.clear();
+            heap.clear();
+            assertTrue(heap.isEmpty(), name);
+        }
+    }
+
+    @Test
+    @DisplayName("clear() keeps the array and the index stays consistent")
+    void testClearKeepsCapacity() {
+        MinHeap<Integer> heap = new MinHeap<>();
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(i);
+        }
+        int capacity = heap.capacity();
+        heap.clear();
+        assertEquals(capacity, heap.capacity());
+
+        heap.insert(10).insert(20);
+        heap.decreaseKey(20, 1);
+        assertEquals(1, heap.extractRoot());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(500, 0));
+    }
+
+    @Test
+    @DisplayName("Released heaps come back empty, with reset metrics, from the matching size class")
+    void testBorrowAndRelease() {
+        HeapPool<Integer, MinHeap<Integer>> pool = HeapPool.minHeaps();
+        MinHeap<Integer> small = pool.borrow(10);
+        assertEquals(HeapPool.MIN_CLASS, small.capacity());
+        MinHeap<Integer> large = pool.borrow(1000);
+        assertEquals(1024, large.capacity());
+
+        small.insert(3).insert(1);
+        pool.release(small);
+        pool.release(large);
+        assertEquals(2, pool.idle());
+        assertEquals(0, small.getMetrics().inserts);
+
+        assertSame(small, pool.borrow(16));
+        assertTrue(small.isEmpty());
+        assertSame(large, pool.borrow(600));
+        assertNotSame(small, pool.borrow(1));
+        assertEquals(0, pool.idle());
+
+        // A heap that grew is filed under its new class
+        for (int i = 0; i < 100; i++) {
+            small.insert(i);
+        }
+        pool.release(small);
+        assertSame(small, pool.borrow(128));
+
+        // Too large to pool
+        MinHeap<Integer> huge = pool.borrow(HeapPool.MAX_CLASS + 1);
+        assertTrue(huge.capacity() > HeapPool.MAX_CLASS);
+        pool.release(huge);
+        assertEquals(0, pool.idle());
+
+        assertThrows(IllegalArgumentException.class, () -> pool.borrow(-1));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(null));
+    }
+
+    @Test
+    @DisplayName("Stripes are per thread and bounded per size class")
+    void testStripes() throws InterruptedException {
+        HeapPool<Integer, LeanMinHeap<Integer>> pool = new HeapPool<>(capacity -> new LeanMinHeap<>(null, capacity), 2);
+        List<LeanMinHeap<Integer>> borrowed = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            borrowed.add(pool.borrow());
+        }
+        borrowed.forEach(pool::release);
+        assertEquals(2, pool.idle());
+
+        AtomicReference<LeanMinHeap<Integer>> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(pool.borrow()));
+        thread.start();
+        thread.join();
+        assertFalse(borrowed.contains(other.get()));
+        assertEquals(2, pool.idle());
+    }
+}
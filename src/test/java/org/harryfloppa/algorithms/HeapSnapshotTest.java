@@ -0,0 +1,118 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapSnapshotTest {
+
+    private static <T extends Comparable<T>> byte[] snapshot(Heap<T> heap, ElementCodec<T> codec,
+                                                             boolean compress) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HeapSnapshot.write(heap, codec, Channels.newChannel(bytes), compress);
+        return bytes.toByteArray();
+    }
+
+    private static <T extends Comparable<T>, H extends Heap<T>> H restore(byte[] bytes, ElementCodec<T> codec,
+                                                                           H target) throws IOException {
+        return HeapSnapshot.read(Channels.newChannel(new ByteArrayInputStream(bytes)), codec, target);
+    }
+
+    @Test
+    @DisplayName("Multi-block snapshots restore the exact array order, with and without deflate")
+    void testRoundTrip() throws IOException {
+        Random rand = new Random(46);
+        MinHeap<Integer> heap = new MinHeap<>();
+        // More than one block of 4-byte elements
+        for (int i = 0; i < 300_000; i++) {
+            heap.insert(rand.nextInt(1000));
+        }
+
+        for (boolean compress : new boolean[]{false, true}) {
+            byte[] bytes = snapshot(heap, ElementCodec.integers(), compress);
+            MinHeap<Integer> restored = restore(bytes, ElementCodec.integers(), new MinHeap<>());
+            assertEquals(heap.size(), restored.size());
+            Object[] expected = heap.heap;
+            Object[] actual = restored.heap;
+            assertArrayEquals(Arrays.copyOf(expected, heap.size()), Arrays.copyOf(actual, heap.size()));
+            if (compress) {
+                assertTrue(bytes.length < 4 * heap.size(), "small ints should deflate");
+            }
+
+            // The restored index works, and elements come out in order
+            restored.decreaseKey((Integer) actual[restored.size() - 1], -1);
+            int previous = restored.extractRoot();
+            assertEquals(-1, previous);
+            while (!restored.isEmpty()) {
+                int next = restored.extractRoot();
+                assertTrue(previous <= next);
+                previous = next;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Variable-size codecs, files, and other heaps of the same order")
+    void testStringsAndFiles(@TempDir Path dir) throws IOException {
+        MaxHeap<String> heap = new MaxHeap<>();
+        for (String s : new String[]{"pear", "äpfel", "", "日本", "𝄞 clef", "zebra", "apple"}) {
+            heap.insert(s);
+        }
+        assertEquals("𝄞 clef".getBytes(StandardCharsets.UTF_8).length,
+                ElementCodec.strings().encodedSize("𝄞 clef"));
+
+        Path file = dir.resolve("heap.bin");
+        HeapSnapshot.write(heap, ElementCodec.strings(), file, true);
+        MaxHeap<String> restored = HeapSnapshot.read(file, ElementCodec.strings(), new MaxHeap<>());
+        assertEquals("𝄞 clef", restored.extractRoot());
+        assertEquals("日本", restored.extractRoot());
+        assertEquals(5, restored.size());
+
+        MinHeap<Integer> empty = new MinHeap<>();
+        assertTrue(restore(snapshot(empty, ElementCodec.integers(), false), ElementCodec.integers(),
+                new LeanMinHeap<>()).isEmpty());
+
+        MinHeap<Integer> small = new MinHeap<>();
+        small.insert(3).insert(1).insert(2);
+        LeanMinHeap<Integer> lean = restore(snapshot(small, ElementCodec.integers(), false),
+                ElementCodec.integers(), new LeanMinHeap<>());
+        assertEquals(1, lean.extractRoot());
+    }
+
+    @Test
+    @DisplayName("Corrupt, mismatched and out-of-order snapshots are rejected")
+    void testRejects() throws IOException {
+        MinHeap<Integer> heap = new MinHeap<>();
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(i * 7 % 1000);
+        }
+
+        for (boolean compress : new boolean[]{false, true}) {
+            byte[] bytes = snapshot(heap, ElementCodec.integers(), compress);
+            byte[] flipped = bytes.clone();
+            flipped[bytes.length / 2] ^= 0x10;
+            assertThrows(IOException.class, () -> restore(flipped, ElementCodec.integers(), new MinHeap<>()));
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+            assertThrows(IOException.class, () -> restore(truncated, ElementCodec.integers(), new MinHeap<>()));
+            assertThrows(IOException.class, () -> restore(bytes, ElementCodec.integers(), new MaxHeap<>()));
+        }
+
+        byte[] bytes = snapshot(heap, ElementCodec.integers(), false);
+        assertThrows(IOException.class, () -> restore(bytes, ElementCodec.longs(), new MinHeap<Long>()));
+        assertThrows(IOException.class, () -> restore(new byte[20], ElementCodec.integers(), new MinHeap<>()));
+        MinHeap<Integer> nonEmpty = new MinHeap<>();
+        nonEmpty.insert(1);
+        assertThrows(IllegalArgumentException.class, () -> restore(bytes, ElementCodec.integers(), nonEmpty));
+    }
+}
@@ -0,0 +1,91 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapStreamTest {
+
+    private static List<IHeap<Integer>> heaps() {
+        List<IHeap<Integer>> heaps = new ArrayList<>();
+        heaps.add(new MinHeap<>());
+        heaps.add(new LeanMinHeap<>());
+        heaps.add(new BottomUpMinHeap<>());
+        heaps.add(new MaxHeap<>());
+        // Small blocks, so the traversal crosses many block boundaries
+        heaps.add(new BlockedHeap<>(null, 2));
+        heaps.add(new BlockedHeap<>());
+        heaps.add(new MinMaxHeap<>());
+        heaps.add(new LeftistHeap<>());
+        heaps.add(new SkewHeap<>(null, true));
+        heaps.add(new LockFreeSkipListHeap<>());
+        return heaps;
+    }
+
+    @Test
+    @DisplayName("stream and streamSorted see every element and leave the heap unchanged")
+    void testStreams() {
+        Random rand = new Random(47);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(rand.nextInt(2000));
+        }
+
+        for (IHeap<Integer> heap : heaps()) {
+            String name = heap.getClass().getSimpleName();
+            values.forEach(heap::insert);
+            for (int i = 0; i < 1000; i++) {
+                heap.extractRoot();
+            }
+            Comparator<Integer> order = heap instanceof MaxHeap ? Comparator.reverseOrder() : Comparator.naturalOrder();
+
+            List<Integer> expected = heap.stream().sorted(order).collect(Collectors.toList());
+            assertEquals(4000, expected.size(), name);
+            assertEquals(expected, heap.streamSorted().collect(Collectors.toList()), name);
+            assertEquals(expected.subList(0, 10), heap.streamSorted().limit(10).collect(Collectors.toList()), name);
+            assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                    heap.parallelStream().mapToLong(Integer::longValue).sum(), name);
+
+            assertEquals(4000, heap.size(), name);
+            for (Integer value : expected) {
+                assertEquals(value, heap.extractRoot(), name);
+            }
+            assertEquals(0, heap.stream().count(), name);
+            assertEquals(0, heap.streamSorted().count(), name);
+        }
+    }
+
+    @Test
+    @DisplayName("Array heaps split evenly for parallel streams")
+    void testSplitting() {
+        for (IHeap<Integer> heap : List.<IHeap<Integer>>of(new MinHeap<>(), new BlockedHeap<>(null, 3), new MinMaxHeap<>())) {
+            for (int i = 0; i < 1001; i++) {
+                heap.insert(i);
+            }
+            Spliterator<Integer> right = heap.spliterator();
+            assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            Spliterator<Integer> left = right.trySplit();
+            assertNotNull(left);
+            assertEquals(1001, left.getExactSizeIfKnown() + right.getExactSizeIfKnown());
+            assertTrue(Math.abs(left.getExactSizeIfKnown() - right.getExactSizeIfKnown()) <= 1);
+
+            long[] seen = new long[1];
+            left.forEachRemaining(x -> seen[0] += x);
+            right.forEachRemaining(x -> seen[0] += x);
+            assertEquals(1000L * 1001 / 2, seen[0]);
+        }
+
+        MinHeap<Integer> heap = new MinHeap<>();
+        heap.insert(1);
+        assertEquals(1, heap.streamSorted().spliterator().getExactSizeIfKnown());
+        assertTrue(new LockFreeSkipListHeap<Integer>().spliterator().hasCharacteristics(Spliterator.SORTED));
+    }
+}
@@ -0,0 +1,184 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockFreeSkipListHeapTest {
+
+    private static final int THREADS = 4;
+
+    @Test
+    @DisplayName("Single-threaded behaviour matches PriorityQueue")
+    void testSequentialAgainstPriorityQueue() {
+        LockFreeSkipListHeap<Integer> heap = new LockFreeSkipListHeap<>(null, 2);
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        Random rand = new Random(1);
+
+        for (int i = 0; i < 20_000; i++) {
+            if (reference.isEmpty() || rand.nextInt(3) > 0) {
+                int value = rand.nextInt(1000);
+                heap.insert(value);
+                reference.add(value);
+            } else {
+                assertEquals(reference.peek(), heap.peekRoot());
+                assertEquals(reference.poll(), heap.extractRoot());
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll(), heap.extractRoot());
+        }
+        assertTrue(heap.isEmpty());
+        assertNull(heap.poll());
+        assertThrows(NoSuchElementException.class, heap::extractRoot);
+        assertThrows(UnsupportedOperationException.class, () -> heap.decreaseKey(1, 0));
+    }
+
+    @Test
+    @DisplayName("Merge copies elements from skiplist and array heaps")
+    void testMerge() {
+        LockFreeSkipListHeap<Integer> heap = new LockFreeSkipListHeap<>();
+        LockFreeSkipListHeap<Integer> other = new LockFreeSkipListHeap<>();
+        MinHeap<Integer> array = new MinHeap<>();
+        heap.insert(5).insert(1);
+        other.insert(3).insert(4);
+        array.insert(2).insert(6);
+
+        heap.merge(other);
+        heap.merge(array);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), heap.snapshot());
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent producers and consumers neither lose nor duplicate elements")
+    void testConcurrentNoLossNoDuplicates() throws Exception {
+        LockFreeSkipListHeap<Integer> heap = new LockFreeSkipListHeap<>(null, 4);
+        int perThread = 50_000;
+        boolean[] seen = new boolean[THREADS * perThread];
+        ExecutorService pool = Executors.newFixedThreadPool(2 * THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Integer>>> consumers = new ArrayList<>();
+            List<Future<?>> producers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int base = t * perThread;
+                producers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        heap.insert(base + i);
+                    }
+                    return null;
+                }));
+                consumers.add(pool.submit(() -> {
+                    start.await();
+                    List<Integer> taken = new ArrayList<>();
+                    for (int i = 0; i < perThread; ) {
+                        Integer value = heap.poll();
+                        if (value != null) {
+                            taken.add(value);
+                            i++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            for (Future<?> producer : producers) {
+                producer.get(60, TimeUnit.SECONDS);
+            }
+            for (Future<List<Integer>> consumer : consumers) {
+                for (int value : consumer.get(60, TimeUnit.SECONDS)) {
+                    assertFalse(seen[value], "duplicate " + value);
+                    seen[value] = true;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "lost " + i);
+        }
+        assertTrue(heap.isEmpty());
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent history has no deleteMin that skipped a smaller present element")
+    void testConcurrentHistoryIsLinearizable() throws Exception {
+        LockFreeSkipListHeap<Integer> heap = new LockFreeSkipListHeap<>(null, 2);
+        int perThread = 3_000;
+        int total = THREADS * perThread;
+        // Per value: end of its insert, start and end of the extractRoot that returned it
+        long[] insertEnd = new long[total];
+        long[] deleteStart = new long[total];
+        long[] deleteEnd = new long[total];
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int seed = t;
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    Random rand = new Random(seed);
+                    for (int i = 0; i < perThread; i++) {
+                        // Values are interleaved across threads and unique
+                        int value = i * THREADS + seed;
+                        heap.insert(value);
+                        insertEnd[value] = System.nanoTime();
+
+                        if (rand.nextBoolean()) {
+                            long before = System.nanoTime();
+                            Integer removed = heap.poll();
+                            long after = System.nanoTime();
+                            if (removed != null) {
+                                deleteStart[removed] = before;
+                                deleteEnd[removed] = after;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Drain the rest sequentially so every value has a deletion interval
+        Integer removed;
+        while ((removed = heap.poll()) != null) {
+            deleteStart[removed] = deleteEnd[removed] = System.nanoTime();
+        }
+
+        // A deletion returning v is wrong if some u < v was inserted before it started
+        // and was removed by a deletion that started only after it finished
+        for (int v = 0; v < total; v++) {
+            assertTrue(deleteStart[v] > 0, "never removed " + v);
+            for (int u = 0; u < v; u++) {
+                if (insertEnd[u] < deleteStart[v] && deleteStart[u] > deleteEnd[v]) {
+                    fail("extractRoot returned " + v + " while smaller " + u + " was present");
+                }
+            }
+        }
+    }
+}
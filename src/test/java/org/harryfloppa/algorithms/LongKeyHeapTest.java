@@ -0,0 +1,65 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyHeapTest {
+
+    private LongKeyHeap<String> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new LongKeyHeap<>();
+    }
+
+    @Test
+    @DisplayName("Entries come out in key order with their own payloads")
+    void testOrder() {
+        Random rand = new Random(5);
+        long[] keys = new long[5000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextInt(1000) - 500L;
+            heap.insert(keys[i], Long.toString(keys[i]));
+        }
+        Arrays.sort(keys);
+
+        for (long key : keys) {
+            assertEquals(key, heap.peekKey());
+            assertEquals(Long.toString(key), heap.peekValue());
+            assertEquals(Long.toString(key), heap.extract());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Empty heap throws, invalid options are rejected")
+    void testErrors() {
+        assertThrows(NoSuchElementException.class, () -> heap.peekKey());
+        assertThrows(NoSuchElementException.class, () -> heap.extract());
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyHeap<String>(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyHeap<String>(null, 8, 1.0));
+    }
+
+    @Test
+    @DisplayName("Arrays grow with the load and shrink back on drain")
+    void testCapacity() {
+        LongKeyHeap<String> sized = new LongKeyHeap<>(null, 16, 1.5);
+        for (int i = 0; i < 10_000; i++) {
+            sized.insert(i, null);
+        }
+        assertTrue(sized.capacity() >= 10_000);
+        while (sized.size() > 10) {
+            sized.extract();
+        }
+        assertTrue(sized.capacity() <= 64);
+        assertEquals(9_990, sized.peekKey());
+        assertEquals(10_000, sized.getMetrics().inserts);
+    }
+}
@@ -0,0 +1,68 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxHeapTest {
+
+    private MaxHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new MaxHeap<>();
+    }
+
+    @Test
+    @DisplayName("Elements come out largest first, also after merge and batch insert")
+    void testOrder() {
+        Random rand = new Random(3);
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rand.nextInt(500);
+            heap.insert(values[i]);
+        }
+        MaxHeap<Integer> other = new MaxHeap<>();
+        other.addAll(values);
+        heap.merge(other);
+
+        int previous = Integer.MAX_VALUE;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            int value = heap.extractMax();
+            assertTrue(value <= previous);
+            previous = value;
+            count++;
+        }
+        assertEquals(2000, count);
+    }
+
+    @Test
+    @DisplayName("decreaseKey raises an element towards the root; lowering is rejected")
+    void testDecreaseKey() {
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i * 10);
+        }
+        heap.decreaseKey(30, 95);
+        assertEquals(95, heap.peekMax());
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(50, 40));
+    }
+
+    @Test
+    @DisplayName("remove keeps the max-heap property")
+    void testRemove() {
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i);
+        }
+        assertTrue(heap.remove(99));
+        assertTrue(heap.remove(50));
+        assertEquals(98, heap.extractMax());
+        assertEquals(97, heap.extractMax());
+        assertEquals(96, heap.size());
+        assertEquals("MaxHeap[]", new MaxHeap<Integer>().toString());
+    }
+}
@@ -0,0 +1,110 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeldableHeapTest {
+
+    private static List<MeldableHeap<Integer>> emptyHeaps(boolean persistent) {
+        List<MeldableHeap<Integer>> heaps = new ArrayList<>();
+        heaps.add(new LeftistHeap<>(null, persistent));
+        heaps.add(new SkewHeap<>(null, persistent));
+        return heaps;
+    }
+
+    private static int[] drain(IHeap<Integer> heap) {
+        int[] out = new int[heap.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = heap.extractRoot();
+        }
+        assertTrue(heap.isEmpty());
+        return out;
+    }
+
+    @Test
+    @DisplayName("Inserts, merges with same-kind and array heaps, and extracts come out sorted")
+    void testOrderAndMerge() {
+        Random rand = new Random(31);
+        for (boolean persistent : new boolean[]{false, true}) {
+            for (MeldableHeap<Integer> heap : emptyHeaps(persistent)) {
+                List<Integer> expected = new ArrayList<>();
+                for (int part = 0; part < 50; part++) {
+                    IHeap<Integer> other = part % 5 == 0 ? new MinHeap<>()
+                            : (heap instanceof LeftistHeap ? new LeftistHeap<>(null, persistent) : new SkewHeap<>(null, persistent));
+                    for (int i = 0; i < 40; i++) {
+                        int value = rand.nextInt(1000);
+                        other.insert(value);
+                        expected.add(value);
+                    }
+                    heap.merge(other);
+                    assertEquals(persistent || other instanceof MinHeap ? 40 : 0, other.size());
+                }
+                expected.sort(null);
+                assertEquals(expected.size(), heap.size());
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), drain(heap),
+                        heap.getClass().getSimpleName());
+                assertThrows(NoSuchElementException.class, heap::extractRoot);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Persistent meld and snapshots leave their sources unchanged")
+    void testPersistence() {
+        LeftistHeap<Integer> a = new LeftistHeap<>(null, true);
+        LeftistHeap<Integer> b = new LeftistHeap<>(null, true);
+        for (int i = 0; i < 100; i++) {
+            a.insert(2 * i);
+            b.insert(2 * i + 1);
+        }
+        LeftistHeap<Integer> snapshot = a.snapshot();
+        LeftistHeap<Integer> melded = a.meld(b);
+        for (int i = 0; i < 50; i++) {
+            a.extractRoot();
+        }
+
+        assertEquals(200, melded.size());
+        int[] all = drain(melded);
+        for (int i = 0; i < all.length; i++) {
+            assertEquals(i, all[i]);
+        }
+        assertEquals(100, snapshot.size());
+        assertEquals(0, snapshot.peekRoot());
+        assertEquals(100, a.peekRoot());
+        assertEquals(1, b.peekRoot());
+        assertEquals(100, b.size());
+
+        SkewHeap<Integer> skew = new SkewHeap<>(null, true);
+        skew.insert(3).insert(1).insert(2);
+        SkewHeap<Integer> skewSnapshot = skew.snapshot();
+        skew.extractRoot();
+        assertArrayEquals(new int[]{1, 2, 3}, drain(skewSnapshot));
+    }
+
+    @Test
+    @DisplayName("Unsupported operations are rejected; long skew spines are melded iteratively")
+    void testUnsupported() {
+        LeftistHeap<Integer> destructive = new LeftistHeap<>();
+        destructive.insert(1);
+        assertThrows(UnsupportedOperationException.class, () -> destructive.decreaseKey(1, 0));
+        assertThrows(UnsupportedOperationException.class, destructive::snapshot);
+        assertThrows(IllegalArgumentException.class, () -> destructive.merge(destructive));
+        assertThrows(IllegalArgumentException.class, () -> destructive.merge(new SkewHeap<Integer>().insert(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LeftistHeap<Integer>(null, true).meld(new LeftistHeap<>()));
+
+        SkewHeap<Integer> skew = new SkewHeap<>();
+        for (int i = 0; i < 100_000; i++) {
+            skew.insert(i);
+        }
+        assertArrayEquals(IntStream.range(0, 100_000).toArray(), drain(skew));
+    }
+}
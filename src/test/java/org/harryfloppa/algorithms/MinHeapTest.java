@@ -332,6 +332,203 @@ class MinHeapTest {
         assertEquals(5, small.peekMin());
     }
 
+    @Test
+    @DisplayName("addAll bulk-loads and keeps decreaseKey working")
+    void testAddAll() {
+        heap.insert(10);
+        heap.addAll(new Integer[]{5, 30, 1, 20});
+
+        assertEquals(5, heap.size());
+        heap.decreaseKey(30, 0);
+        assertEquals(0, heap.extractMin());
+        assertEquals(1, heap.extractMin());
+        assertEquals(5, heap.extractMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.addAll(new Integer[]{1, null}));
+    }
+
+    @Test
+    @DisplayName("Large addAll and merge use the parallel build")
+    void testParallelBuild() {
+        int n = Heap.PARALLEL_BUILD_THRESHOLD;
+        Integer[] first = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            first[i] = 2 * (n - i);
+        }
+        heap.addAll(first);
+
+        MinHeap<Integer> other = new MinHeap<>();
+        for (int i = 0; i < 1000; i++) {
+            other.insert(2 * i + 1);
+        }
+        heap.merge(other);
+
+        assertEquals(n + 1000, heap.size());
+        heap.decreaseKey(2 * n, -1);
+        assertEquals(-1, heap.extractMin());
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int current = heap.extractMin();
+            assertTrue(current >= previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("insertBatch into a larger heap keeps heap order and index")
+    void testInsertBatch() {
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(2 * i);
+        }
+        Integer[] batch = {99, -5, 1001, 7, -1, 3333, 1};
+        heap.insertBatch(batch, 1, 5);
+
+        assertEquals(1005, heap.size());
+        heap.decreaseKey(1001, -10);
+        assertEquals(-10, heap.extractMin());
+        assertEquals(-5, heap.extractMin());
+        assertEquals(-1, heap.extractMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.insertBatch(batch, 5, 5));
+    }
+
+    @Test
+    @DisplayName("extractBatch returns the k smallest in order and leaves a valid heap")
+    void testExtractBatch() {
+        java.util.Random rand = new java.util.Random(11);
+        java.util.PriorityQueue<Integer> reference = new java.util.PriorityQueue<>();
+        for (int round = 0; round < 200; round++) {
+            Integer[] batch = new Integer[rand.nextInt(40)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = rand.nextInt(100_000);
+                reference.add(batch[i]);
+            }
+            heap.insertBatch(batch, 0, batch.length);
+
+            int k = rand.nextInt(30);
+            Integer[] out = new Integer[k];
+            int count = heap.extractBatch(k, out);
+            assertEquals(Math.min(k, reference.size()), count);
+            for (int i = 0; i < count; i++) {
+                assertEquals(reference.poll(), out[i]);
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll(), heap.extractMin());
+        }
+        assertEquals(0, heap.extractBatch(3, new Integer[3]));
+    }
+
+    @Test
+    @DisplayName("remove takes out arbitrary elements and keeps the heap valid")
+    void testRemove() {
+        java.util.Random rand = new java.util.Random(5);
+        java.util.List<Integer> remaining = new java.util.ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            heap.insert(i);
+            remaining.add(i);
+        }
+
+        assertFalse(heap.remove(1000));
+        for (int i = 0; i < 300; i++) {
+            Integer victim = remaining.remove(rand.nextInt(remaining.size()));
+            assertTrue(heap.remove(victim));
+            assertFalse(heap.remove(victim));
+        }
+        assertEquals(200, heap.size());
+
+        java.util.Collections.sort(remaining);
+        for (Integer expected : remaining) {
+            assertEquals(expected, heap.extractMin());
+        }
+        assertThrows(IllegalArgumentException.class, () -> heap.remove(null));
+    }
+
+    @Test
+    @DisplayName("Lean heap orders like MinHeap without an index")
+    void testLeanHeap() {
+        LeanMinHeap<Integer> lean = new LeanMinHeap<>();
+        java.util.Random rand = new java.util.Random(9);
+        Integer[] batch = new Integer[300];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = rand.nextInt(1000);
+            lean.insert(rand.nextInt(1000));
+        }
+        lean.insertBatch(batch, 0, batch.length);
+        LeanMinHeap<Integer> other = new LeanMinHeap<>();
+        other.insert(-1);
+        lean.merge(other);
+
+        assertFalse(lean.isIndexed());
+        assertThrows(UnsupportedOperationException.class, () -> lean.decreaseKey(-1, -2));
+        assertThrows(UnsupportedOperationException.class, () -> lean.remove(-1));
+
+        Integer[] out = new Integer[100];
+        assertEquals(100, lean.extractBatch(100, out));
+        assertEquals(-1, out[0]);
+        int previous = out[99];
+        while (!lean.isEmpty()) {
+            int value = lean.extractMin();
+            assertTrue(value >= previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    @DisplayName("Initial capacity and growth factor are honoured and validated")
+    void testCapacityOptions() {
+        MinHeap<Integer> sized = new MinHeap<>(null, 100, 1.5);
+        assertEquals(100, sized.capacity());
+        for (int i = 0; i < 101; i++) {
+            sized.insert(i);
+        }
+        assertEquals(150, sized.capacity());
+        assertEquals(1, sized.getMetrics().resizes);
+
+        assertEquals(2, heap.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MinHeap<Integer>(null, 0, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new LeanMinHeap<Integer>(null, 10, 1.0));
+    }
+
+    @Test
+    @DisplayName("Drained heaps shrink, but not below the initial capacity")
+    void testShrinkOnDrain() {
+        for (int i = 0; i < 10_000; i++) {
+            heap.insert(i);
+        }
+        int full = heap.capacity();
+        while (heap.size() > 10) {
+            heap.extractMin();
+        }
+        assertTrue(heap.capacity() <= 64, "capacity " + heap.capacity());
+        assertTrue(full >= 10_000);
+        for (int expected = 9990; expected < 10_000; expected++) {
+            assertEquals(expected, heap.extractMin());
+        }
+        assertEquals(2, heap.capacity());
+
+        MinHeap<Integer> presized = new MinHeap<>(null, 1000, 2.0);
+        for (int i = 0; i < 1000; i++) {
+            presized.insert(i);
+        }
+        while (!presized.isEmpty()) {
+            presized.extractMin();
+        }
+        assertEquals(1000, presized.capacity());
+    }
+
+    @Test
+    @DisplayName("toString shows at most TO_STRING_LIMIT elements")
+    void testToStringLimit() {
+        heap.insert(2).insert(1);
+        assertEquals("MinHeap[1, 2]", heap.toString());
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(i + 3);
+        }
+        String text = heap.toString();
+        assertTrue(text.endsWith(", ... " + (1002 - Heap.TO_STRING_LIMIT) + " more]"), text);
+        assertTrue(text.length() < 1000);
+    }
+
     @Test
     @DisplayName("Performance: Track metrics for insert operations")
     void testInsertMetrics() {
@@ -0,0 +1,110 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinMaxHeapTest {
+
+    private MinMaxHeap<Integer> heap;
+
+    @BeforeEach
+    void setUp() {
+        heap = new MinMaxHeap<>();
+    }
+
+    @Test
+    @DisplayName("Random inserts, extractMin, extractMax and remove match a sorted reference")
+    void testAgainstReference() {
+        Random rand = new Random(23);
+        List<Integer> reference = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int op = rand.nextInt(10);
+            if (op < 5 || reference.isEmpty()) {
+                int value = rand.nextInt(1_000_000);
+                if (!reference.contains(value)) {
+                    heap.insert(value);
+                    reference.add(value);
+                }
+            } else if (op < 7) {
+                assertEquals(Collections.min(reference), heap.extractMin());
+                reference.remove(Collections.min(reference));
+            } else if (op < 9) {
+                assertEquals(Collections.max(reference), heap.extractMax());
+                reference.remove(Collections.max(reference));
+            } else {
+                Integer value = reference.remove(rand.nextInt(reference.size()));
+                assertTrue(heap.remove(value));
+            }
+            assertEquals(reference.size(), heap.size());
+            if (!reference.isEmpty()) {
+                assertEquals(Collections.min(reference), heap.peekMin());
+                assertEquals(Collections.max(reference), heap.peekMax());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("decreaseKey moves an element to its new rank; merge keeps both ends")
+    void testDecreaseKeyAndMerge() {
+        for (int i = 1; i <= 100; i++) {
+            heap.insert(i * 10);
+        }
+        heap.decreaseKey(1000, 5);
+        assertEquals(5, heap.peekMin());
+        assertEquals(990, heap.peekMax());
+        heap.decreaseKey(550, 545);
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(20, 30));
+
+        MinHeap<Integer> other = new MinHeap<>();
+        for (int i = 0; i < 50; i++) {
+            other.insert(2000 + i);
+        }
+        heap.merge(other);
+        assertEquals(150, heap.size());
+        assertEquals(2049, heap.extractMax());
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int value = heap.extractMin();
+            assertTrue(value > previous);
+            assertNotEquals(550, value);
+            previous = value;
+        }
+        assertThrows(NoSuchElementException.class, () -> heap.peekMax());
+    }
+
+    @Test
+    @DisplayName("Bounded heaps keep the k best elements and report what they evict")
+    void testBounded() {
+        MinMaxHeap<Integer> smallest = new MinMaxHeap<>(null, 10, MinMaxHeap.Eviction.LARGEST);
+        MinMaxHeap<Integer> largest = new MinMaxHeap<>(null, 10, MinMaxHeap.Eviction.SMALLEST);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(29));
+
+        int evictions = 0;
+        for (Integer value : values) {
+            if (smallest.offer(value) != null) evictions++;
+            largest.insert(value);
+        }
+        assertEquals(990, evictions);
+        assertEquals(10, smallest.size());
+        assertEquals(9, smallest.peekMax());
+        assertEquals(990, largest.peekMin());
+        assertEquals(500, smallest.offer(500));
+        assertEquals(9, smallest.offer(-1));
+        assertEquals(-1, smallest.peekMin());
+        assertThrows(IllegalArgumentException.class, () -> new MinMaxHeap<Integer>(null, 0, MinMaxHeap.Eviction.LARGEST));
+    }
+}
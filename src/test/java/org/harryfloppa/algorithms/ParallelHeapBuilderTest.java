@@ -0,0 +1,78 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelHeapBuilderTest {
+
+    private static void assertHeap(Integer[] a, int n) {
+        for (int i = 1; i < n; i++) {
+            assertTrue(a[(i - 1) / 2] <= a[i], "heap property violated at " + i);
+        }
+    }
+
+    private static Integer[] randomArray(int n, long seed) {
+        Random rand = new Random(seed);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rand.nextInt(n);
+        }
+        return a;
+    }
+
+    @Test
+    @DisplayName("Parallel heapify with small cutoff produces a valid heap")
+    void testParallelHeapify() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[]{0, 1, 2, 3, 7, 8, 100, 1023, 1024, 1025, 50_000}) {
+                Integer[] a = randomArray(n, n);
+                Integer[] expected = a.clone();
+                Arrays.sort(expected);
+
+                ParallelHeapBuilder.heapify(a, n, Comparator.naturalOrder(), pool, 4);
+
+                assertHeap(a, n);
+                Integer[] sorted = a.clone();
+                Arrays.sort(sorted);
+                assertArrayEquals(expected, sorted, "elements changed for n=" + n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential and parallel builds agree")
+    void testSequentialMatchesParallel() {
+        Integer[] sequential = randomArray(100_000, 7);
+        Integer[] parallel = sequential.clone();
+
+        long sequentialComparisons = ParallelHeapBuilder.heapify(
+                sequential, sequential.length, Comparator.naturalOrder(), null, 1);
+        long parallelComparisons = ParallelHeapBuilder.heapify(
+                parallel, parallel.length, Comparator.naturalOrder(), ForkJoinPool.commonPool(), 64);
+
+        // Same sifts on the same subtrees, only scheduled differently
+        assertArrayEquals(sequential, parallel);
+        assertEquals(sequentialComparisons, parallelComparisons);
+    }
+
+    @Test
+    @DisplayName("Heapify only touches the first n slots")
+    void testPartialArray() {
+        Integer[] a = {5, 4, 3, 2, 1, null, null};
+        ParallelHeapBuilder.heapify(a, 5, Comparator.naturalOrder());
+        assertHeap(a, 5);
+        assertNull(a[5]);
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelHeapBuilder.heapify(a, 8, Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,106 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelHeapSortTest {
+
+    private static final int[] SIZES = {0, 1, 2, 100, 20_000, 100_000, 300_001};
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Object arrays sort like Arrays.sort, including reverse order")
+    void testObjects() {
+        for (int n : SIZES) {
+            Random rand = new Random(n);
+            Integer[] a = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = rand.nextInt(n + 1);
+            }
+            Integer[] expected = a.clone();
+            Arrays.sort(expected);
+            Integer[] reversed = a.clone();
+
+            ParallelHeapSort.sort(a, Comparator.naturalOrder(), pool);
+            assertArrayEquals(expected, a, "n=" + n);
+
+            ParallelHeapSort.sort(reversed, Comparator.reverseOrder(), pool);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[n - 1 - i], reversed[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("int and long arrays sort like Arrays.sort")
+    void testPrimitives() {
+        for (int n : SIZES) {
+            Random rand = new Random(n);
+            int[] ints = rand.ints(n).toArray();
+            long[] longs = rand.longs(n).toArray();
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+
+            ParallelHeapSort.sort(ints, pool);
+            ParallelHeapSort.sort(longs, pool);
+
+            assertArrayEquals(expectedInts, ints, "n=" + n);
+            assertArrayEquals(expectedLongs, longs, "n=" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Heavy duplicates and sorted input still split correctly")
+    void testSkewedInputs() {
+        int n = 200_000;
+        int[] duplicates = new int[n];
+        for (int i = 0; i < n; i++) {
+            duplicates[i] = i % 3 == 0 ? 7 : i % 5;
+        }
+        int[] expected = duplicates.clone();
+        Arrays.sort(expected);
+        ParallelHeapSort.sort(duplicates, pool);
+        assertArrayEquals(expected, duplicates);
+
+        long[] descending = new long[n];
+        for (int i = 0; i < n; i++) {
+            descending[i] = n - i;
+        }
+        ParallelHeapSort.sort(descending, pool);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i + 1, descending[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential fallback without a pool")
+    void testSequential() {
+        int[] a = new Random(3).ints(50_000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        ParallelHeapSort.sort(a, null);
+        assertArrayEquals(expected, a);
+    }
+}
@@ -0,0 +1,94 @@
+package org.harryfloppa.algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentPriorityQueueTest {
+
+    private static List<Integer> drain(PersistentPriorityQueue<Integer> queue) {
+        List<Integer> out = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            out.add(queue.peekMin());
+            queue = queue.deleteMin();
+        }
+        return out;
+    }
+
+    private static List<Integer> drain(PriorityQueue<Integer> reference) {
+        List<Integer> out = new ArrayList<>();
+        while (!reference.isEmpty()) {
+            out.add(reference.poll());
+        }
+        return out;
+    }
+
+    @Test
+    @DisplayName("Random inserts and deleteMins match java.util.PriorityQueue")
+    void testAgainstReference() {
+        Random rand = new Random(37);
+        PersistentPriorityQueue<Integer> queue = PersistentPriorityQueue.empty();
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        for (int step = 0; step < 50_000; step++) {
+            if (reference.isEmpty() || rand.nextInt(3) > 0) {
+                int value = rand.nextInt(5000);
+                queue = queue.insert(value);
+                reference.add(value);
+            } else {
+                assertEquals(reference.poll(), queue.peekMin());
+                queue = queue.deleteMin();
+            }
+            assertEquals(reference.size(), queue.size());
+        }
+        assertEquals(drain(reference), drain(queue));
+    }
+
+    @Test
+    @DisplayName("Old versions are unaffected by later updates and melds")
+    void testVersionsAndMeld() {
+        PersistentPriorityQueue<Integer> evens = PersistentPriorityQueue.empty();
+        PersistentPriorityQueue<Integer> odds = PersistentPriorityQueue.empty();
+        for (int i = 99; i >= 0; i--) {
+            evens = evens.insert(2 * i);
+            odds = odds.insert(2 * i + 1);
+        }
+        PersistentPriorityQueue<Integer> version = evens;
+        PersistentPriorityQueue<Integer> shorter = evens.deleteMin().deleteMin().insert(-5);
+        PersistentPriorityQueue<Integer> all = evens.meld(odds);
+
+        assertEquals(-5, shorter.peekMin());
+        assertEquals(99, shorter.size());
+        assertEquals(100, version.size());
+        assertEquals(0, version.peekMin());
+
+        List<Integer> merged = drain(all);
+        assertEquals(200, merged.size());
+        for (int i = 0; i < merged.size(); i++) {
+            assertEquals(i, merged.get(i));
+        }
+        assertEquals(100, drain(version).size());
+        assertEquals(1, odds.peekMin());
+    }
+
+    @Test
+    @DisplayName("Empty queue throws and rejects null")
+    void testEmpty() {
+        PersistentPriorityQueue<Integer> empty = PersistentPriorityQueue.empty();
+        assertThrows(NoSuchElementException.class, empty::peekMin);
+        assertThrows(NoSuchElementException.class, empty::deleteMin);
+        assertThrows(IllegalArgumentException.class, () -> empty.insert(null));
+        assertSame(empty, empty.insert(1).deleteMin());
+        assertEquals("PersistentPriorityQueue[]", empty.toString());
+        assertEquals("PersistentPriorityQueue[7]", empty.insert(7).toString());
+        String three = empty.insert(7).insert(3).insert(9).toString();
+        assertTrue(three.equals("PersistentPriorityQueue[3, 7, 9]")
+                || three.equals("PersistentPriorityQueue[3, 9, 7]"), three);
+    }
+}
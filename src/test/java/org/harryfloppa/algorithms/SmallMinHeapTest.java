@@ -0,0 +1,127 @@
+package org.harryfloppa.algorithms;
+
+import org.harryfloppa.metrics.PerformanceTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmallMinHeapTest {
+
+    @Test
+    @DisplayName("Stays in the sorted buffer up to the threshold without resizes")
+    void testSmallMode() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        SmallMinHeap<Integer> heap = new SmallMinHeap<>(tracker);
+        Random rand = new Random(49);
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        for (int i = 0; i < SmallMinHeap.DEFAULT_THRESHOLD; i++) {
+            int value = rand.nextInt(100);
+            heap.insert(value);
+            reference.add(value);
+        }
+        assertFalse(heap.isPromoted());
+        assertEquals(0, tracker.resizes);
+        assertEquals(SmallMinHeap.DEFAULT_THRESHOLD, tracker.inserts);
+
+        heap.decreaseKey(reference.stream().max(Integer::compare).orElseThrow(), -5);
+        reference.remove(reference.stream().max(Integer::compare).orElseThrow());
+        reference.add(-5);
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(-5, 0));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(null));
+
+        while (!reference.isEmpty()) {
+            assertEquals(reference.poll(), heap.extractRoot());
+        }
+        assertThrows(NoSuchElementException.class, heap::extractRoot);
+        assertThrows(NoSuchElementException.class, heap::peekRoot);
+    }
+
+    @Test
+    @DisplayName("Promotes to an indexed heap past the threshold and keeps its contents")
+    void testPromotion() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        SmallMinHeap<Integer> heap = new SmallMinHeap<>(tracker, 8);
+        for (int i = 20; i > 0; i--) {
+            heap.insert(i * 10);
+            assertEquals(i <= 12, heap.isPromoted());
+        }
+        assertEquals(20, tracker.inserts);
+        assertEquals(20, heap.size());
+
+        heap.decreaseKey(200, 5);
+        assertEquals(5, heap.peekRoot());
+        assertEquals(List.of(5, 10, 20, 30), heap.streamSorted().limit(4).toList());
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int value = heap.extractRoot();
+            assertTrue(previous <= value);
+            previous = value;
+        }
+        assertTrue(heap.isPromoted());
+    }
+
+    @Test
+    @DisplayName("Merge promotes when the combined size exceeds the threshold")
+    void testMerge() {
+        SmallMinHeap<Integer> heap = new SmallMinHeap<>(null, 4);
+        heap.insert(7).insert(3);
+        MinHeap<Integer> other = new MinHeap<>();
+        other.insert(5).insert(1);
+
+        heap.merge(other);
+        assertFalse(heap.isPromoted());
+        assertEquals(List.of(1, 3, 5, 7), heap.streamSorted().toList());
+
+        heap.merge(other);
+        assertTrue(heap.isPromoted());
+        assertEquals(6, heap.size());
+        assertEquals(2, other.size());
+        assertEquals(List.of(1, 1, 3, 5, 5, 7), heap.streamSorted().toList());
+        assertThrows(IllegalArgumentException.class, () -> new SmallMinHeap<Integer>(null, 0));
+    }
+
+    @Test
+    @DisplayName("Merging two heaps above the threshold copies the other heap's elements")
+    void testMergeAboveThreshold() {
+        SmallMinHeap<Integer> heap = new SmallMinHeap<>();
+        SmallMinHeap<Integer> other = new SmallMinHeap<>();
+        for (int i = 0; i < 50; i++) {
+            heap.insert(2 * i);
+            other.insert(2 * i + 1);
+        }
+        assertTrue(heap.isPromoted());
+        assertTrue(other.isPromoted());
+
+        heap.merge(other);
+        assertEquals(100, heap.size());
+        assertEquals(50, other.size());
+
+        // From the small mode, including a merge with itself
+        SmallMinHeap<Integer> small = new SmallMinHeap<>();
+        small.insert(500).insert(-1);
+        small.merge(heap);
+        assertTrue(small.isPromoted());
+        small.merge(small);
+        assertEquals(204, small.size());
+
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            int value = heap.extractRoot();
+            assertEquals(count++, value);
+            assertTrue(previous < value);
+            previous = value;
+        }
+        assertEquals(-1, small.extractRoot());
+        assertEquals(-1, small.extractRoot());
+        assertEquals(0, small.extractRoot());
+    }
+}
@@ -0,0 +1,131 @@
+package org.harryfloppa.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineQueueTest {
+
+    @Test
+    @DisplayName("Tasks come out in deadline order, ties in submission order")
+    void testOrdering() throws InterruptedException {
+        DeadlineQueue<String> queue = new DeadlineQueue<>();
+        long now = System.nanoTime();
+        queue.offerAt("c", now - 10);
+        queue.offerAt("a", now - 30);
+        queue.offerAt("b1", now - 20);
+        queue.offerAt("b2", now - 20);
+
+        assertEquals("a", queue.take());
+        assertEquals("b1", queue.take());
+        assertEquals("b2", queue.take());
+        assertEquals("c", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("take waits for the deadline; poll with timeout gives up")
+    void testWaitsForDeadline() throws InterruptedException {
+        DeadlineQueue<String> queue = new DeadlineQueue<>();
+        // Warm up so class initialization does not eat into the deadline below
+        queue.offer("warmup");
+        assertEquals("warmup", queue.poll());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        queue.offerAt("later", deadline);
+
+        assertNull(queue.poll());
+        assertNull(queue.poll(5, TimeUnit.MILLISECONDS));
+        assertEquals("later", queue.take());
+        assertTrue(System.nanoTime() - deadline >= 0);
+    }
+
+    @Test
+    @DisplayName("An earlier deadline wakes a leader waiting on a later one")
+    void testEarlierOfferWakesLeader() throws Exception {
+        DeadlineQueue<String> queue = new DeadlineQueue<>();
+        queue.offer("late", 10, TimeUnit.SECONDS);
+
+        List<String> taken = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Thread.sleep(20);
+        queue.offer("now");
+        consumer.join(5_000);
+
+        assertFalse(consumer.isAlive());
+        assertEquals(List.of("now"), taken);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    @DisplayName("drainTo moves only due tasks")
+    void testDrainTo() {
+        DeadlineQueue<Integer> queue = new DeadlineQueue<>();
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        queue.offer(100, 1, TimeUnit.HOURS);
+
+        List<Integer> target = new ArrayList<>();
+        assertEquals(4, queue.drainTo(target, 4));
+        assertEquals(6, queue.drainTo(target));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), target);
+        assertEquals(1, queue.size());
+        assertTrue(queue.nanosUntilNext() > 0);
+    }
+
+    @Test
+    @DisplayName("Many blocked consumers each receive distinct tasks")
+    void testManyConsumers() throws Exception {
+        DeadlineQueue<Integer> queue = new DeadlineQueue<>();
+        int consumers = 64;
+        int tasks = 6_400;
+        ConcurrentLinkedQueue<Integer> received = new ConcurrentLinkedQueue<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < consumers; c++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < tasks / consumers; i++) {
+                        received.add(queue.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long now = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            // Deadlines spread over ~20 ms, offered out of order
+            queue.offerAt(i, now + TimeUnit.MICROSECONDS.toNanos((i * 7919L) % 20_000));
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+            assertFalse(thread.isAlive());
+        }
+
+        Set<Integer> unique = new HashSet<>(received);
+        assertEquals(tasks, received.size());
+        assertEquals(tasks, unique.size());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package org.harryfloppa.concurrent;
+
+import org.harryfloppa.algorithms.PersistentPriorityQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotPriorityQueueTest {
+
+    @Test
+    @DisplayName("Snapshots stay consistent while the queue changes")
+    void testSnapshot() {
+        SnapshotPriorityQueue<Integer> queue = new SnapshotPriorityQueue<>();
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        for (int i = 10; i > 0; i--) {
+            queue.add(i);
+        }
+        PersistentPriorityQueue<Integer> snapshot = queue.snapshot();
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        queue.add(0);
+
+        assertEquals(1, snapshot.peekMin());
+        assertEquals(10, snapshot.size());
+        assertEquals(0, queue.peek());
+        assertEquals(9, queue.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent writers lose no element and pollers take each exactly once")
+    void testConcurrentUpdates() throws InterruptedException {
+        SnapshotPriorityQueue<Integer> queue = new SnapshotPriorityQueue<>();
+        ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int base = t * 10_000;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    queue.add(base + i);
+                    if (i % 2 == 1) {
+                        polled.add(queue.poll());
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<Integer> all = new ArrayList<>(polled);
+        Integer next;
+        while ((next = queue.poll()) != null) {
+            all.add(next);
+        }
+        Collections.sort(all);
+        assertEquals(40_000, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(i, all.get(i));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.harryfloppa.graph;
+
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.benchmarks.HeapImplementation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphAlgorithmsTest {
+
+    private static List<QueueMode> modes(HeapImplementation implementation) {
+        return implementation.supportsDecreaseKey() ? List.of(QueueMode.values()) : List.of(QueueMode.LAZY_INSERT);
+    }
+
+    private static long[] bellmanFord(CsrGraph graph, int source) {
+        long[] distances = new long[graph.vertexCount()];
+        Arrays.fill(distances, ShortestPaths.UNREACHABLE);
+        distances[source] = 0;
+        for (boolean changed = true; changed; ) {
+            changed = false;
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                if (distances[v] == ShortestPaths.UNREACHABLE) continue;
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int u = graph.target(e);
+                    if (distances[v] + graph.weight(e) < distances[u]) {
+                        distances[u] = distances[v] + graph.weight(e);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    @Test
+    @DisplayName("Dijkstra matches Bellman-Ford with every heap and queue mode")
+    void testDijkstra() {
+        CsrGraph graph = GraphGenerator.random(300, 700, 50, 7);
+        long[] expected = bellmanFord(graph, 0);
+        for (HeapImplementation implementation : HeapImplementation.values()) {
+            for (QueueMode mode : modes(implementation)) {
+                IHeap<VertexLabel> heap = implementation.create();
+                ShortestPaths.Result result = ShortestPaths.dijkstra(graph, 0, heap, mode);
+                assertArrayEquals(expected, result.distances(), implementation + " " + mode);
+                assertTrue(heap.isEmpty());
+                assertTrue(heap.getMetrics().extractions >= result.settled());
+                if (mode == QueueMode.DECREASE_KEY) {
+                    assertEquals(0, result.staleExtractions());
+                }
+
+                // The reported path is a real path of the reported length
+                int far = 0;
+                for (int v = 0; v < expected.length; v++) {
+                    if (expected[v] != ShortestPaths.UNREACHABLE && expected[v] > expected[far]) far = v;
+                }
+                List<Integer> path = result.path(far);
+                assertEquals(0, path.get(0));
+                long length = 0;
+                for (int i = 1; i < path.size(); i++) {
+                    length += edgeWeight(graph, path.get(i - 1), path.get(i));
+                }
+                assertEquals(expected[far], length);
+            }
+        }
+    }
+
+    private static int edgeWeight(CsrGraph graph, int from, int to) {
+        int best = Integer.MAX_VALUE;
+        for (int e = graph.firstEdge(from); e < graph.endEdge(from); e++) {
+            if (graph.target(e) == to) best = Math.min(best, graph.weight(e));
+        }
+        assertNotEquals(Integer.MAX_VALUE, best, "No edge " + from + " -> " + to);
+        return best;
+    }
+
+    @Test
+    @DisplayName("A* finds the Dijkstra distance on a road-like graph and settles fewer vertices")
+    void testAStar() {
+        CsrGraph graph = GraphGenerator.roadNetwork(40, 50, 3);
+        assertTrue(graph.heuristicScale() >= 0.99);
+        int target = graph.vertexCount() - 1;
+        ShortestPaths.Result reference = ShortestPaths.dijkstra(graph, 0, HeapImplementation.MIN_HEAP.create(),
+                QueueMode.DECREASE_KEY);
+
+        for (HeapImplementation implementation : HeapImplementation.values()) {
+            for (QueueMode mode : modes(implementation)) {
+                ShortestPaths.Result result = ShortestPaths.aStar(graph, 0, target, implementation.create(), mode);
+                assertEquals(reference.distance(target), result.distance(target), implementation + " " + mode);
+                assertTrue(result.settled() < reference.settled());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Prim's forest weight matches Kruskal on a disconnected graph")
+    void testPrim() {
+        CsrGraph graph = GraphGenerator.random(400, 500, 100, 11);
+
+        // Kruskal over the stored (doubled) edges with union-find
+        int n = graph.vertexCount();
+        Integer[] edges = new Integer[graph.edgeCount()];
+        int[] sources = new int[graph.edgeCount()];
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                edges[e] = e;
+                sources[e] = v;
+            }
+        }
+        Arrays.sort(edges, (a, b) -> Integer.compare(graph.weight(a), graph.weight(b)));
+        int[] parent = new int[n];
+        for (int v = 0; v < n; v++) parent[v] = v;
+        long expectedWeight = 0;
+        int expectedEdges = 0;
+        for (int e : edges) {
+            int a = find(parent, sources[e]);
+            int b = find(parent, graph.target(e));
+            if (a != b) {
+                parent[a] = b;
+                expectedWeight += graph.weight(e);
+                expectedEdges++;
+            }
+        }
+
+        for (HeapImplementation implementation : HeapImplementation.values()) {
+            for (QueueMode mode : modes(implementation)) {
+                MinimumSpanningTree.Result result = MinimumSpanningTree.prim(graph, implementation.create(), mode);
+                assertEquals(expectedWeight, result.totalWeight(), implementation + " " + mode);
+                assertEquals(expectedEdges, result.treeEdges());
+                assertEquals(n - expectedEdges, result.components());
+            }
+        }
+    }
+
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    @Test
+    @DisplayName("Edge lists and DIMACS files load through small mapping windows")
+    void testLoader(@TempDir Path dir) throws IOException {
+        Path plain = dir.resolve("graph.txt");
+        Files.writeString(plain, "# comment\n0 1 5\n1 2 7\n\n2 0\r\n  3 1 2\n");
+        // Windows smaller than the file force lines to be re-mapped across boundaries
+        for (int window : new int[]{12, 64, EdgeListLoader.WINDOW_BYTES}) {
+            CsrGraph graph = EdgeListLoader.load(plain, false, window);
+            assertEquals(4, graph.vertexCount());
+            assertEquals(4, graph.edgeCount());
+            assertEquals(1, graph.target(graph.firstEdge(0)));
+            assertEquals(5, graph.weight(graph.firstEdge(0)));
+            assertEquals(1, graph.weight(graph.firstEdge(2)));
+            assertEquals(2, graph.weight(graph.firstEdge(3)));
+        }
+
+        Path gr = dir.resolve("graph.gr");
+        Files.writeString(gr, "c DIMACS\np sp 3 2\na 1 2 10\na 2 3 20\n");
+        Path co = dir.resolve("graph.co");
+        Files.writeString(co, "c coordinates\np aux sp co 3\nv 1 0 0\nv 2 -3 4\nv 3 -3 -1\n");
+        CsrGraph graph = EdgeListLoader.loadCoordinates(co, EdgeListLoader.load(gr, true));
+        assertEquals(3, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertEquals(5.0, graph.distance(0, 1), 1e-9);
+        assertEquals(30, ShortestPaths.aStar(graph, 0, 2, HeapImplementation.MIN_HEAP.create(),
+                QueueMode.DECREASE_KEY).distance(2));
+
+        // Vertex 4 has no arcs; only the p line knows it exists
+        Path isolated = dir.resolve("isolated.gr");
+        Files.writeString(isolated, "p sp 4 2\na 1 2 10\na 2 3 20\n");
+        Path isolatedCo = dir.resolve("isolated.co");
+        Files.writeString(isolatedCo, "v 1 0 0\nv 2 3 4\nv 3 3 0\nv 4 9 9\n");
+        graph = EdgeListLoader.loadCoordinates(isolatedCo, EdgeListLoader.load(isolated, false));
+        assertEquals(4, graph.vertexCount());
+        assertEquals(2, graph.edgeCount());
+        assertEquals(0, graph.degree(3));
+        assertEquals(5.0, graph.distance(0, 1), 1e-9);
+
+        Path broken = dir.resolve("broken.txt");
+        Files.writeString(broken, "0 1 2\nx 1 2\n");
+        assertThrows(IOException.class, () -> EdgeListLoader.load(broken, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> CsrGraph.fromEdges(2, new int[]{0}, new int[]{1}, new int[]{-1}, 1, false));
+    }
+}
@@ -0,0 +1,179 @@
+package org.harryfloppa.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncMetricsExporterTest {
+
+    private static final Path OUTPUT_DIR = Paths.get("target");
+
+    @Test
+    @DisplayName("CSV export writes header and one line per offered row")
+    void testCsvExport() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics.csv");
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.comparisons = 10;
+        tracker.swaps = 4;
+
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.CSV)) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(tracker.exportAsync(exporter, "insert", i));
+            }
+            exporter.flush();
+            assertEquals(1000, exporter.getWritten());
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1001, lines.size());
+        assertEquals(AsyncMetricsExporter.CSV_HEADER, lines.get(0));
+        assertTrue(lines.get(1).endsWith(",\"insert\",0,10,4,0,0,0.000"), lines.get(1));
+    }
+
+    @Test
+    @DisplayName("Binary export round-trips through the reader")
+    void testBinaryRoundTrip() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics.bin");
+        int rows = 20_000;
+
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.BINARY, 1 << 15)) {
+            for (int i = 0; i < rows; i++) {
+                String op = (i % 2 == 0) ? "insert" : "extractMin";
+                assertTrue(exporter.offer(op, i, i, 2L * i, 3L * i, 1, 1000L * i));
+            }
+        }
+
+        List<String> ops = new ArrayList<>();
+        AtomicLong checksum = new AtomicLong();
+        long read = AsyncMetricsExporter.readBinary(file, (ts, op, size, cmp, sw, acc, alloc, nanos) -> {
+            if (ops.size() < 2) ops.add(op);
+            assertEquals(size, cmp);
+            assertEquals(2L * size, sw);
+            assertEquals(1000L * size, nanos);
+            checksum.addAndGet(size);
+        });
+
+        assertEquals(rows, read);
+        assertEquals(List.of("insert", "extractMin"), ops);
+        assertEquals((long) rows * (rows - 1) / 2, checksum.get());
+    }
+
+    @Test
+    @DisplayName("Full buffer drops rows instead of blocking")
+    void testOverflowDrops() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics-overflow.csv");
+        int offered = 100_000;
+        int accepted = 0;
+
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.CSV, 4)) {
+            for (int i = 0; i < offered; i++) {
+                if (exporter.offer("insert", i, 0, 0, 0, 0, 0)) accepted++;
+            }
+            exporter.flush();
+            assertEquals(offered, accepted + exporter.getDropped());
+            assertEquals(accepted, exporter.getWritten());
+        }
+
+        assertEquals(accepted + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    @DisplayName("Multibyte operation names are sized in bytes, even past the I/O buffer")
+    @Timeout(60)
+    void testMultibyteOperation() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics-multibyte.csv");
+        // 1.6 MB of UTF-8 (2 MB once CSV-quoted), more than the 1 MiB I/O buffer
+        String huge = "\u20ac\"".repeat(400_000);
+
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.CSV)) {
+            assertTrue(exporter.offer("insert \u20ac", 1, 0, 0, 0, 0, 0));
+            assertTrue(exporter.offer(huge, 2, 0, 0, 0, 0, 0));
+            assertTrue(exporter.offer("extractMin", 3, 0, 0, 0, 0, 0));
+            exporter.flush();
+            assertNull(exporter.getFailure());
+            assertEquals(3, exporter.getWritten());
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(4, lines.size());
+        assertEquals(AsyncMetricsExporter.CSV_HEADER, lines.get(0));
+        assertTrue(lines.get(1).contains(",\"insert \u20ac\",1,"), lines.get(1));
+        String expected = ",\"" + huge.replace("\"", "\"\"") + "\",2,0,0,0,0,0.000";
+        assertTrue(lines.get(2).endsWith(expected));
+        assertTrue(lines.get(3).contains(",\"extractMin\",3,"), lines.get(3));
+
+        Path binary = OUTPUT_DIR.resolve("async-metrics-multibyte.bin");
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(binary, AsyncMetricsExporter.Format.BINARY)) {
+            assertTrue(exporter.offer(huge, 1, 0, 0, 0, 0, 0));
+            assertTrue(exporter.offer("insert", 2, 0, 0, 0, 0, 0));
+            exporter.flush();
+            assertNull(exporter.getFailure());
+        }
+        List<String> ops = new ArrayList<>();
+        long read = AsyncMetricsExporter.readBinary(binary, (ts, op, size, cmp, sw, acc, alloc, nanos) -> ops.add(op));
+        assertEquals(2, read);
+        assertEquals(List.of(huge, "insert"), ops);
+    }
+
+    @Test
+    @DisplayName("Corrupt dictionary lengths and operation ids fail with IOException")
+    void testCorruptBinary() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics-corrupt.bin");
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.BINARY)) {
+            assertTrue(exporter.offer("insert", 1, 0, 0, 0, 0, 0));
+        }
+        byte[] valid = Files.readAllBytes(file);
+        // Header (6), block rows and entry count (8), then the entry length and "insert"
+        int lengthOffset = 14;
+        int opOffset = lengthOffset + 4 + "insert".length();
+
+        for (int[] patch : new int[][]{{lengthOffset, -1}, {lengthOffset, Integer.MAX_VALUE}, {opOffset, 5}, {opOffset, -2}}) {
+            byte[] bytes = valid.clone();
+            ByteBuffer.wrap(bytes).putInt(patch[0], patch[1]);
+            Files.write(file, bytes);
+            assertThrows(IOException.class, () -> AsyncMetricsExporter.readBinary(file, (ts, op, size, cmp, sw, acc, alloc, nanos) -> { }));
+        }
+    }
+
+    @Test
+    @DisplayName("flush() returns while producers keep offering")
+    @Timeout(60)
+    void testFlushUnderLoad() throws Exception {
+        Path file = OUTPUT_DIR.resolve("async-metrics-busy.csv");
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        try (AsyncMetricsExporter exporter = new AsyncMetricsExporter(file, AsyncMetricsExporter.Format.CSV, 1 << 10)) {
+            Thread producer = new Thread(() -> {
+                while (running.get()) {
+                    exporter.offer("insert", 1, 0, 0, 0, 0, 0);
+                }
+            });
+            producer.start();
+            try {
+                for (int i = 0; i < 20; i++) {
+                    // The producer keeps the ring nearly full
+                    while (!exporter.offer("checkpoint", i, 0, 0, 0, 0, 0)) {
+                        Thread.onSpinWait();
+                    }
+                    exporter.flush();
+                }
+            } finally {
+                running.set(false);
+                producer.join();
+            }
+        }
+        assertEquals(20, Files.readAllLines(file).stream().filter(line -> line.contains("\"checkpoint\"")).count());
+    }
+}
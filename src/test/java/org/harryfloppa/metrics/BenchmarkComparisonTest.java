@@ -0,0 +1,94 @@
+package org.harryfloppa.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkComparisonTest {
+
+    private static final String JMH_JSON = """
+            [
+              {
+                "benchmark" : "org.harryfloppa.benchmarks.MinHeapJMHBenchmark.insert",
+                "mode" : "thrpt",
+                "params" : { "size" : "1000" },
+                "primaryMetric" : {
+                  "score" : 100.0,
+                  "scoreError" : "NaN",
+                  "scoreUnit" : "ops/us",
+                  "rawData" : [ [ 99.0, 100.0, 101.0 ], [ 100.0, 99.5, 100.5 ] ]
+                }
+              }
+            ]
+            """;
+
+    @Test
+    @DisplayName("Student t quantiles match reference tables")
+    void testStudentTQuantile() {
+        assertEquals(2.228, BenchmarkComparison.studentTQuantile(0.975, 10), 1e-3);
+        assertEquals(12.706, BenchmarkComparison.studentTQuantile(0.975, 1), 1e-2);
+        assertEquals(1.960, BenchmarkComparison.studentTQuantile(0.975, 100_000), 1e-3);
+    }
+
+    @Test
+    @DisplayName("JMH JSON raw data is loaded as samples")
+    void testReadJmhJson() {
+        BenchmarkResults results = new BenchmarkResults();
+        results.readJmhJson(JMH_JSON);
+
+        BenchmarkResults.Metric metric = results.getMetrics().iterator().next();
+        assertEquals(6, metric.getCount());
+        assertEquals(100.0, metric.getMean(), 1e-9);
+        assertTrue(metric.isHigherBetter());
+        assertTrue(metric.getKey().contains("size=1000"));
+    }
+
+    @Test
+    @DisplayName("Significant slowdown is flagged as regression")
+    void testDetectsRegression() {
+        BenchmarkResults baseline = csv("insert", 10.0, 10.2, 9.9, 10.1, 9.8);
+        BenchmarkResults candidate = csv("insert", 12.0, 12.1, 11.9, 12.2, 12.0);
+
+        BenchmarkComparison comparison = new BenchmarkComparison().compare(baseline, candidate);
+        assertTrue(comparison.hasRegressions());
+
+        BenchmarkComparison.Delta delta = comparison.getRegressions().get(0);
+        assertEquals("insert[size=100]", delta.key);
+        assertTrue(delta.lower > 0, "Interval should exclude zero");
+    }
+
+    @Test
+    @DisplayName("Noise within the confidence interval is not a regression")
+    void testNoiseIsUnchanged() {
+        BenchmarkResults baseline = csv("insert", 10.0, 12.0, 8.0, 11.0, 9.0);
+        BenchmarkResults candidate = csv("insert", 10.5, 12.5, 8.5, 11.5, 9.0);
+
+        BenchmarkComparison comparison = new BenchmarkComparison().compare(baseline, candidate);
+        assertFalse(comparison.hasRegressions());
+    }
+
+    @Test
+    @DisplayName("Throughput drop counts as regression")
+    void testThroughputRegression() {
+        BenchmarkResults baseline = new BenchmarkResults();
+        baseline.readJmhJson(JMH_JSON);
+        BenchmarkResults candidate = new BenchmarkResults();
+        candidate.readJmhJson(JMH_JSON.replace("99.", "79.").replace("100.", "80.").replace("101.", "81."));
+
+        assertTrue(new BenchmarkComparison().compare(baseline, candidate).hasRegressions());
+        assertFalse(new BenchmarkComparison().compare(candidate, baseline).hasRegressions());
+    }
+
+    private static BenchmarkResults csv(String operation, double... times) {
+        StringBuilder rows = new StringBuilder("operation,dataSize,comparisons,swaps,arrayAccesses,allocations,timeMs\n");
+        for (double time : times) {
+            rows.append('"').append(operation).append("\",100,500,200,1000,10,").append(time).append('\n');
+        }
+        BenchmarkResults results = new BenchmarkResults();
+        results.readCsv(List.of(rows.toString().split("\n")));
+        return results;
+    }
+}
@@ -0,0 +1,65 @@
+package org.harryfloppa.metrics;
+
+import org.harryfloppa.algorithms.MinHeap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapMonitorTest {
+
+    @Test
+    @DisplayName("MXBean getters reflect the heap's insert, extract and resize counts")
+    void testGetters() {
+        PerformanceTracker tracker = new PerformanceTracker();
+        MinHeap<Integer> heap = new MinHeap<>(tracker);
+        HeapMonitor monitor = new HeapMonitor("getters", heap, tracker, 10);
+
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i);
+        }
+        for (int i = 0; i < 30; i++) {
+            heap.extractMin();
+        }
+        heap.decreaseKey(99, -1);
+
+        assertEquals("getters", monitor.getName());
+        assertEquals("MinHeap", monitor.getHeapType());
+        assertEquals(70, monitor.getSize());
+        assertEquals(100, monitor.getInserts());
+        assertEquals(30, monitor.getExtractions());
+        assertEquals(1, monitor.getDecreaseKeys());
+        assertEquals(tracker.resizes, monitor.getResizes());
+        assertTrue(monitor.getResizes() >= 6);
+        assertEquals(tracker.comparisons, monitor.getComparisons());
+        assertEquals(10, monitor.getWindowSeconds());
+        // No samples taken yet
+        assertEquals(0.0, monitor.getInsertRate());
+    }
+
+    @Test
+    @DisplayName("Registered monitors are visible through the platform MBean server until closed")
+    void testRegistration() throws Exception {
+        PerformanceTracker tracker = new PerformanceTracker();
+        MinHeap<Integer> heap = new MinHeap<>(tracker);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try (HeapMonitor monitor = HeapMonitor.register("registration", heap, tracker)) {
+            heap.insert(3).insert(1).insert(2);
+            heap.extractMin();
+
+            assertTrue(server.isRegistered(monitor.getObjectName()));
+            assertEquals(3L, server.getAttribute(monitor.getObjectName(), "Inserts"));
+            assertEquals(1L, server.getAttribute(monitor.getObjectName(), "Extractions"));
+            assertEquals(2, server.getAttribute(monitor.getObjectName(), "Size"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> HeapMonitor.register("registration", heap, tracker));
+            monitor.close();
+            assertFalse(server.isRegistered(monitor.getObjectName()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new HeapMonitor("bad", heap, tracker, 0));
+    }
+}
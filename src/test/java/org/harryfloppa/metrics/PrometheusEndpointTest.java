@@ -0,0 +1,71 @@
+package org.harryfloppa.metrics;
+
+import org.harryfloppa.algorithms.MinHeap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusEndpointTest {
+
+    private static HeapMonitor monitor(String name) {
+        PerformanceTracker tracker = new PerformanceTracker();
+        MinHeap<Integer> heap = new MinHeap<>(tracker);
+        heap.insert(1).insert(2).insert(3);
+        tracker.comparisons = 42;
+        tracker.swaps = 7;
+        tracker.inserts = 1000;
+        tracker.extractions = 250;
+        tracker.resizes = 9;
+        return new HeapMonitor(name, heap, tracker, 10);
+    }
+
+    @Test
+    @DisplayName("Text output has HELP and TYPE lines and one labelled sample per monitor")
+    void testRender() {
+        String text = PrometheusEndpoint.render(List.of(monitor("queue \"a\""), monitor("b")));
+        List<String> lines = text.lines().toList();
+
+        assertTrue(lines.contains("# HELP heap_size Number of elements currently in the heap"), text);
+        assertTrue(lines.contains("# TYPE heap_size gauge"), text);
+        assertTrue(lines.contains("# TYPE heap_inserts_total counter"), text);
+        assertTrue(lines.contains("# TYPE heap_insert_rate gauge"), text);
+        assertTrue(lines.contains("heap_size{heap=\"queue \\\"a\\\"\",type=\"MinHeap\"} 3"), text);
+        assertTrue(lines.contains("heap_comparisons_total{heap=\"b\",type=\"MinHeap\"} 42"), text);
+        assertTrue(lines.contains("heap_swaps_total{heap=\"b\",type=\"MinHeap\"} 7"), text);
+        assertTrue(lines.contains("heap_inserts_total{heap=\"b\",type=\"MinHeap\"} 1000"), text);
+        assertTrue(lines.contains("heap_extractions_total{heap=\"b\",type=\"MinHeap\"} 250"), text);
+        assertTrue(lines.contains("heap_resizes_total{heap=\"b\",type=\"MinHeap\"} 9"), text);
+        assertTrue(lines.contains("heap_insert_rate{heap=\"b\",type=\"MinHeap\"} 0"), text);
+
+        // 14 families, each with HELP, TYPE and two samples
+        assertEquals(14 * 4, lines.size());
+        assertEquals(14, lines.stream().filter(line -> line.startsWith("# TYPE")).count());
+    }
+
+    @Test
+    @DisplayName("GET /metrics serves the rendered text; other methods are rejected")
+    void testHttp() throws Exception {
+        HeapMonitor monitor = monitor("http");
+        try (PrometheusEndpoint endpoint = PrometheusEndpoint.start(0).add(monitor)) {
+            URI uri = URI.create("http://127.0.0.1:" + endpoint.getAddress().getPort() + "/metrics");
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+            assertEquals(PrometheusEndpoint.render(List.of(monitor)), response.body());
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.harryfloppa.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowRateTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Rate is the counter delta over the time between oldest and newest sample")
+    void testRateOverWindow() {
+        SlidingWindowRate rate = new SlidingWindowRate(5);
+        rate.record(0, 0);
+        rate.record(SECOND, 10);
+        rate.record(2 * SECOND, 30);
+        assertEquals(15.0, rate.ratePerSecond(), 1e-9);
+        assertEquals(2.0, rate.windowSeconds(), 1e-9);
+
+        rate.record(2 * SECOND + SECOND / 2, 40);
+        assertEquals(16.0, rate.ratePerSecond(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Samples older than the window fall out of the ring buffer")
+    void testExpiry() {
+        SlidingWindowRate rate = new SlidingWindowRate(3);
+        rate.record(0, 0);
+        rate.record(SECOND, 100);
+        rate.record(2 * SECOND, 110);
+        assertEquals(55.0, rate.ratePerSecond(), 1e-9);
+
+        // The burst in the first second expires once a fourth sample arrives
+        rate.record(3 * SECOND, 120);
+        assertEquals(10.0, rate.ratePerSecond(), 1e-9);
+        assertEquals(2.0, rate.windowSeconds(), 1e-9);
+
+        rate.record(4 * SECOND, 120);
+        rate.record(5 * SECOND, 120);
+        assertEquals(0.0, rate.ratePerSecond(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Too few samples, no elapsed time and counter resets give no rate")
+    void testBoundaries() {
+        SlidingWindowRate rate = new SlidingWindowRate(2);
+        assertEquals(0.0, rate.ratePerSecond());
+        assertEquals(0.0, rate.windowSeconds());
+
+        rate.record(SECOND, 50);
+        assertEquals(0.0, rate.ratePerSecond());
+
+        // Same timestamp: no elapsed time
+        rate.record(SECOND, 60);
+        assertEquals(0.0, rate.ratePerSecond());
+
+        // Exactly full window: the oldest sample is the previous one
+        rate.record(2 * SECOND, 70);
+        assertEquals(10.0, rate.ratePerSecond(), 1e-9);
+
+        // The counter went backwards: the window restarts at this sample
+        rate.record(3 * SECOND, 5);
+        assertEquals(0.0, rate.ratePerSecond());
+        rate.record(4 * SECOND, 25);
+        assertEquals(20.0, rate.ratePerSecond(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRate(1));
+    }
+}
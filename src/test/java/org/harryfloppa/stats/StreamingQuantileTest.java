@@ -0,0 +1,87 @@
+package org.harryfloppa.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingQuantileTest {
+
+    private static double nearestRank(double[] values, int from, int to, double q) {
+        double[] window = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(window);
+        int rank = Math.max(1, (int) Math.ceil(q * window.length));
+        return window[rank - 1];
+    }
+
+    @Test
+    @DisplayName("Sliding-window quantile equals sorting the window, with duplicates")
+    void testExactWindow() {
+        Random rand = new Random(17);
+        double[] values = new double[3000];
+        for (int i = 0; i < values.length; i++) {
+            // Few distinct values, so ties are frequent
+            values[i] = rand.nextInt(50);
+        }
+
+        for (double q : new double[]{0, 0.1, 0.5, 0.9, 0.99, 1}) {
+            for (int window : new int[]{1, 2, 7, 100, 1000}) {
+                StreamingQuantile quantile = StreamingQuantile.exact(q, window);
+                assertTrue(Double.isNaN(quantile.quantile()));
+                for (int i = 0; i < values.length; i++) {
+                    quantile.add(values[i]);
+                    int from = Math.max(0, i + 1 - window);
+                    assertEquals(nearestRank(values, from, i + 1, q), quantile.quantile(),
+                            "q=" + q + " window=" + window + " i=" + i);
+                }
+                assertEquals(values.length, quantile.count());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Window memory stays bounded")
+    void testWindowBounded() {
+        SlidingWindowQuantile median = new SlidingWindowQuantile(0.5, 64);
+        for (int i = 0; i < 10_000; i++) {
+            median.add(i);
+        }
+        assertEquals(64, median.windowSize());
+        assertEquals(10_000 - 64 + 31, median.quantile());
+        assertTrue(median.getMetrics().extractions > 0);
+    }
+
+    @Test
+    @DisplayName("P² estimate is close to the true quantile")
+    void testApproximate() {
+        Random rand = new Random(23);
+        double[] values = new double[200_000];
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            StreamingQuantile estimate = StreamingQuantile.approximate(q);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rand.nextGaussian();
+                estimate.add(values[i]);
+            }
+            double exact = nearestRank(values, 0, values.length, q);
+            assertEquals(exact, estimate.quantile(), 0.05, "q=" + q);
+        }
+
+        StreamingQuantile small = StreamingQuantile.approximate(0.5);
+        small.add(3);
+        small.add(1);
+        small.add(2);
+        assertEquals(2, small.quantile());
+    }
+
+    @Test
+    @DisplayName("Invalid levels, windows and values are rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingQuantile.exact(1.5, 10));
+        assertThrows(IllegalArgumentException.class, () -> StreamingQuantile.exact(0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> StreamingQuantile.approximate(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> StreamingQuantile.median(5).add(Double.NaN));
+    }
+}
@@ -0,0 +1,64 @@
+package org.harryfloppa.workloads;
+
+import org.harryfloppa.algorithms.IHeap;
+import org.harryfloppa.algorithms.MinHeap;
+import org.harryfloppa.benchmarks.HeapImplementation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MacroWorkloadsTest {
+
+    @Test
+    @DisplayName("Every workload gives the same result with every heap and leaves it empty")
+    void testSameResultForAllHeaps() {
+        int[] scales = {200_000, 40_000, 5};
+        for (MacroWorkloads workload : MacroWorkloads.values()) {
+            MacroWorkload instance = workload.create();
+            instance.prepare(scales[workload.ordinal()], 1);
+            Long expected = null;
+            for (HeapImplementation implementation : HeapImplementation.values()) {
+                long result = instance.run(implementation);
+                if (expected == null) expected = result;
+                assertEquals(expected, result, workload + " with " + implementation);
+            }
+            assertEquals(scales[workload.ordinal()], instance.workUnits());
+        }
+    }
+
+    @Test
+    @DisplayName("Huffman block size matches a hand-computed code")
+    void testHuffmanCode() {
+        // Weights 5, 2, 1, 1: code lengths 1, 2, 3, 3 -> 5 + 4 + 3 + 3 bits
+        int[] frequencies = new int[1 << 16];
+        frequencies['a'] = 5;
+        frequencies['b'] = 2;
+        frequencies['c'] = 1;
+        frequencies['d'] = 1;
+        IHeap<HuffmanWorkload.Node> heap = new MinHeap<>();
+        assertEquals(15, HuffmanWorkload.encodedBits(heap, frequencies));
+        assertTrue(heap.isEmpty());
+        assertEquals(0, frequencies['a']);
+
+        frequencies['z'] = 7;
+        assertEquals(7, HuffmanWorkload.encodedBits(heap, frequencies));
+    }
+
+    @Test
+    @DisplayName("Puzzle solutions are optimal-length candidates no longer than the scramble")
+    void testPuzzleSearch() {
+        PuzzleSearchWorkload workload = new PuzzleSearchWorkload();
+        workload.prepare(20, 3);
+        long result = workload.run(HeapImplementation.MIN_HEAP);
+        long lengths = result >>> 32;
+        assertTrue(lengths <= 20L * PuzzleSearchWorkload.WALK_LENGTH);
+        // Every move changes the blank's square colour, so lengths keep the walk's parity
+        assertEquals(0, lengths % 2);
+        assertTrue((result & 0xFFFFFFFFL) > 0);
+
+        long board = PuzzleSearchWorkload.move(PuzzleSearchWorkload.GOAL, 15, 14);
+        assertEquals(1, PuzzleSearchWorkload.manhattan(board));
+        assertEquals(14, PuzzleSearchWorkload.blankOf(board));
+    }
+}